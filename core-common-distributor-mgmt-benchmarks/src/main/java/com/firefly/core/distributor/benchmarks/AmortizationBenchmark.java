@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.benchmarks;
+
+import com.firefly.core.distributor.core.amortization.AmortizationCalculator;
+import com.firefly.core.distributor.core.amortization.AmortizationSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures amortization of a single schedule by term length, and of a whole portfolio through the
+ * batched {@code summarize} path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AmortizationBenchmark {
+
+    private static final int PORTFOLIO_SIZE = 10_000;
+
+    @Param({"12", "60", "360"})
+    private int termMonths;
+
+    private long[] principals;
+    private long[] rates;
+    private int[] terms;
+    private long[] payments;
+    private long[] totalInterest;
+
+    @Setup
+    public void setUp() {
+        // Fixed seed so every run measures the same portfolio
+        Random random = new Random(42);
+        principals = new long[PORTFOLIO_SIZE];
+        rates = new long[PORTFOLIO_SIZE];
+        terms = new int[PORTFOLIO_SIZE];
+        for (int i = 0; i < PORTFOLIO_SIZE; i++) {
+            principals[i] = 100_000L + random.nextInt(50_000_000);
+            rates[i] = random.nextInt(150_000);
+            terms[i] = termMonths;
+        }
+        payments = new long[PORTFOLIO_SIZE];
+        totalInterest = new long[PORTFOLIO_SIZE];
+    }
+
+    @Benchmark
+    public AmortizationSchedule schedule() {
+        return AmortizationCalculator.schedule(principals[0], rates[0], termMonths);
+    }
+
+    @Benchmark
+    public void summarizePortfolio(Blackhole blackhole) {
+        AmortizationCalculator.summarize(PORTFOLIO_SIZE, principals, rates, terms, payments, totalInterest);
+        blackhole.consume(totalInterest);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a recorded baseline and fails when a benchmark regressed
+ * by more than the allowed percentage.
+ * <p>
+ * Usage: {@code BenchmarkRegressionCheck <baseline> <result> <maxRegressionPercent> [updateBaseline]}.
+ * When {@code updateBaseline} is {@code true}, the result is recorded as the new baseline instead. A
+ * missing baseline fails the check, so a checkout without one cannot pass unchecked. Benchmarks present
+ * in only one of the files are reported but do not fail the check.
+ */
+public final class BenchmarkRegressionCheck {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkRegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BenchmarkRegressionCheck <baseline> <result> <maxRegressionPercent> [updateBaseline]");
+            System.exit(2);
+        }
+
+        Path baselinePath = Path.of(args[0]);
+        Path resultPath = Path.of(args[1]);
+        double maxRegressionPercent = Double.parseDouble(args[2]);
+        boolean updateBaseline = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        if (!updateBaseline && !Files.exists(baselinePath)) {
+            System.err.println("No benchmark baseline at " + baselinePath
+                    + "; record one on the reference machine with updateBaseline=true and commit it");
+            System.exit(1);
+        }
+        if (updateBaseline) {
+            Files.createDirectories(baselinePath.toAbsolutePath().getParent());
+            Files.copy(resultPath, baselinePath, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Recorded benchmark baseline " + baselinePath);
+            return;
+        }
+
+        List<String> regressions = compare(read(baselinePath), read(resultPath), maxRegressionPercent);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressed by more than " + maxRegressionPercent + "%");
+    }
+
+    /**
+     * Compare current scores against baseline scores.
+     *
+     * @param baseline the baseline scores by benchmark key
+     * @param current the current scores by benchmark key
+     * @param maxRegressionPercent the allowed slowdown in percent
+     * @return a description of every regression beyond the allowed slowdown
+     */
+    static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double maxRegressionPercent) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.println("No baseline for " + entry.getKey());
+                continue;
+            }
+
+            double regressionPercent = entry.getValue().regressionPercentFrom(before);
+            System.out.printf("%s: %.3f -> %.3f %s (%+.1f%%)%n", entry.getKey(), before.value(),
+                    entry.getValue().value(), entry.getValue().unit(), regressionPercent);
+            if (regressionPercent > maxRegressionPercent) {
+                regressions.add(String.format("Regression in %s: %.1f%% slower than baseline (limit %.1f%%)",
+                        entry.getKey(), regressionPercent, maxRegressionPercent));
+            }
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.println("Benchmark missing from result: " + key));
+        return regressions;
+    }
+
+    /**
+     * Read a JMH JSON result file into scores keyed by benchmark name and parameters.
+     *
+     * @param path the result file
+     * @return the scores by benchmark key
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, Score> read(Path path) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode run : OBJECT_MAPPER.readTree(path.toFile())) {
+            JsonNode metric = run.get("primaryMetric");
+            Score score = new Score(metric.get("score").asDouble(), metric.get("scoreUnit").asText(),
+                    "thrpt".equals(run.get("mode").asText()));
+            scores.put(key(run), score);
+        }
+        return scores;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.get("benchmark").asText());
+        JsonNode params = run.get("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sorted.put(field.getKey(), field.getValue().asText());
+            }
+            sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        }
+        return key.toString();
+    }
+
+    /**
+     * A benchmark score.
+     *
+     * @param value the primary metric score
+     * @param unit the score unit
+     * @param higherIsBetter whether the score is a throughput rather than a time
+     */
+    record Score(double value, String unit, boolean higherIsBetter) {
+
+        double regressionPercentFrom(Score baseline) {
+            if (baseline.value() == 0) {
+                return 0;
+            }
+            double change = higherIsBetter ? baseline.value() - value : value - baseline.value();
+            return change / baseline.value() * 100;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.distributor.core.services.DistributorService;
+import com.firefly.core.distributor.core.services.DistributorTermsAndConditionsService;
+import com.firefly.core.distributor.core.services.TermsAndConditionsTemplateService;
+import com.firefly.core.distributor.core.services.impl.TermsAndConditionsGenerationServiceImpl;
+import com.firefly.core.distributor.core.templates.CompiledTemplateCache;
+import com.firefly.core.distributor.core.templates.DistributorVariablesCache;
+import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Realistic terms and conditions fixtures for the benchmark suite.
+ * <p>
+ * Templates are assembled from the clauses of a sample distributor agreement, repeated up to the
+ * requested size, with placeholders spread evenly between words. Placeholders cycle through the
+ * variables declared in the sample variable definitions, whose example values form the variable map.
+ */
+public final class TemplateFixtures {
+
+    private static final String CLAUSES_RESOURCE = "/fixtures/distributor-agreement-clauses.txt";
+    private static final String VARIABLES_RESOURCE = "/fixtures/distributor-agreement-variables.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private TemplateFixtures() {
+    }
+
+    /**
+     * Build template content of roughly {@code literalSize} characters of agreement text with
+     * {@code placeholderCount} placeholders inserted between words.
+     *
+     * @param literalSize the number of literal characters
+     * @param placeholderCount the number of placeholders to insert
+     * @return the template content
+     */
+    public static String templateContent(int literalSize, int placeholderCount) {
+        String clauses = readResource(CLAUSES_RESOURCE);
+        StringBuilder literal = new StringBuilder(literalSize);
+        while (literal.length() < literalSize) {
+            literal.append(clauses).append('\n');
+        }
+        literal.setLength(literalSize);
+
+        List<String> names = variableNames();
+        StringBuilder content = new StringBuilder(literalSize + placeholderCount * 24);
+        int position = 0;
+        for (int i = 0; i < placeholderCount; i++) {
+            int target = (int) ((long) (i + 1) * literalSize / (placeholderCount + 1));
+            int boundary = Math.max(position, target);
+            while (boundary < literalSize && literal.charAt(boundary) != ' ') {
+                boundary++;
+            }
+            content.append(literal, position, boundary)
+                    .append(" {{").append(names.get(i % names.size())).append("}}");
+            position = boundary;
+        }
+        content.append(literal, position, literalSize);
+        return content.toString();
+    }
+
+    /**
+     * Build a stored template with the sample variable definitions.
+     *
+     * @param literalSize the number of literal characters
+     * @param placeholderCount the number of placeholders to insert
+     * @return the template
+     */
+    public static TermsAndConditionsTemplateDTO template(int literalSize, int placeholderCount) {
+        return TermsAndConditionsTemplateDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Distributor Agreement")
+                .category("GENERAL")
+                .templateContent(templateContent(literalSize, placeholderCount))
+                .variables(variableDefinitions())
+                .version("1.0")
+                .isDefault(true)
+                .isActive(true)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+    }
+
+    /**
+     * Get the sample variable definitions JSON.
+     *
+     * @return the variable definitions
+     */
+    public static String variableDefinitions() {
+        return readResource(VARIABLES_RESOURCE);
+    }
+
+    /**
+     * Get the example value of every sample variable.
+     *
+     * @return a map of variable name to example value
+     */
+    public static Map<String, Object> variables() {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = readDefinitions().fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode example = field.getValue().get("example");
+            if (example.isNumber()) {
+                variables.put(field.getKey(), example.numberValue());
+            } else if (example.isBoolean()) {
+                variables.put(field.getKey(), example.booleanValue());
+            } else {
+                variables.put(field.getKey(), example.asText());
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * Build a fully populated sample distributor.
+     *
+     * @return the distributor
+     */
+    public static DistributorDTO distributor() {
+        return DistributorDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Acme Financial Distribution S.L.")
+                .displayName("Acme Finance")
+                .taxId("B12345678")
+                .supportEmail("support@acme-finance.example")
+                .addressLine("Calle Mayor 1, 3rd floor")
+                .city("Madrid")
+                .state("Comunidad de Madrid")
+                .countryId(UUID.randomUUID())
+                .postalCode("28013")
+                .websiteUrl("https://acme-finance.example")
+                .isActive(true)
+                .build();
+    }
+
+    /**
+     * Start an application context holding the generation service and its caches, wired by Spring as in
+     * the application. The services it depends on are backed by the given fixtures.
+     *
+     * @param template the template returned by the template service
+     * @param distributor the distributor returned by the distributor service
+     * @return the started context; close it when the benchmark ends
+     */
+    public static AnnotationConfigApplicationContext generationContext(TermsAndConditionsTemplateDTO template,
+                                                                       DistributorDTO distributor) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        // Resolves @Value defaults such as "10m" the way Spring Boot does
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        context.registerBean(SimpleMeterRegistry.class);
+        context.registerBean(CompiledTemplateCache.class);
+        context.registerBean(DistributorVariablesCache.class);
+        context.registerBean(TermsAndConditionsTemplateService.class, () -> fixtureService(TermsAndConditionsTemplateService.class,
+                Map.of("getTemplateById", Mono.just(template))));
+        context.registerBean(DistributorService.class, () -> fixtureService(DistributorService.class,
+                Map.of("getDistributorById", Mono.just(distributor), "getDistributorsByIds", Flux.just(distributor))));
+        context.registerBean(DistributorTermsAndConditionsService.class,
+                () -> fixtureService(DistributorTermsAndConditionsService.class, Map.of()));
+        context.registerBean(TermsAndConditionsGenerationServiceImpl.class);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * Implement a service interface with fixed results per method name; other methods are not supported.
+     */
+    private static <T> T fixtureService(Class<T> type, Map<String, Object> results) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "Fixture " + type.getSimpleName();
+                };
+            }
+            Object result = results.get(method.getName());
+            if (result == null) {
+                throw new UnsupportedOperationException(method.getName() + " is not used by the benchmarks");
+            }
+            return result;
+        }));
+    }
+
+    private static List<String> variableNames() {
+        List<String> names = new ArrayList<>();
+        readDefinitions().fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static JsonNode readDefinitions() {
+        try {
+            return OBJECT_MAPPER.readTree(variableDefinitions());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readResource(String name) {
+        try (InputStream input = TemplateFixtures.class.getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.benchmarks;
+
+import com.firefly.core.distributor.core.services.TermsAndConditionsGenerationService;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering across template sizes from 1 KB to 1 MB and placeholder counts.
+ * <p>
+ * {@code previewGeneration} renders a stored template through the compiled template cache, as
+ * generation does. {@code processTemplate} compiles ad hoc content on every call, so its measurement
+ * covers parsing as well as rendering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateRenderBenchmark {
+
+    @Param({"1024", "16384", "262144", "1048576"})
+    private int templateSize;
+
+    @Param({"8", "64", "512"})
+    private int placeholderCount;
+
+    private AnnotationConfigApplicationContext context;
+    private TermsAndConditionsGenerationService service;
+    private TermsAndConditionsTemplateDTO template;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        template = TemplateFixtures.template(templateSize, placeholderCount);
+        variables = TemplateFixtures.variables();
+        context = TemplateFixtures.generationContext(template, TemplateFixtures.distributor());
+        service = context.getBean(TermsAndConditionsGenerationService.class);
+        // Compile the template once so the cached path is measured
+        service.previewGeneration(template.getId(), variables).block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String previewGeneration() {
+        return service.previewGeneration(template.getId(), variables).block();
+    }
+
+    @Benchmark
+    public String processTemplate() {
+        return service.processTemplate(template.getTemplateContent(), variables);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.benchmarks;
+
+import com.firefly.core.distributor.core.services.TermsAndConditionsGenerationService;
+import com.firefly.core.distributor.core.templates.DistributorVariablesCache;
+import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures variable handling in the generation service: schema validation, value formatting and
+ * resolution of distributor default variables.
+ * <p>
+ * Validation and rendering use the compiled template cache and default variables the distributor
+ * snapshot cache, as generation does. Formatting is measured by rendering a template with one
+ * placeholder per value type, and extraction of the defaults by resolving them after evicting the
+ * distributor's snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateVariablesBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private TermsAndConditionsGenerationService service;
+    private DistributorVariablesCache distributorVariablesCache;
+    private TermsAndConditionsTemplateDTO template;
+    private TermsAndConditionsTemplateDTO typedValuesTemplate;
+    private Map<String, Object> variables;
+    private Map<String, Object> typedValues;
+    private DistributorDTO distributor;
+
+    @Setup
+    public void setUp() {
+        template = TemplateFixtures.template(16384, 64);
+        variables = TemplateFixtures.variables();
+        distributor = TemplateFixtures.distributor();
+        typedValuesTemplate = TermsAndConditionsTemplateDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Typed values")
+                .templateContent("{{text}} {{rate}} {{amount}} {{signedAt}} {{accepted}} {{reference}} {{missing}}")
+                .version("1.0")
+                .build();
+        typedValues = new HashMap<>();
+        typedValues.put("text", "Acme Financial Distribution S.L.");
+        typedValues.put("rate", 7.25);
+        typedValues.put("amount", new BigDecimal("150000.00"));
+        typedValues.put("signedAt", LocalDateTime.of(2026, 1, 1, 9, 30));
+        typedValues.put("accepted", Boolean.TRUE);
+        typedValues.put("reference", UUID.randomUUID());
+        typedValues.put("missing", null);
+
+        context = TemplateFixtures.generationContext(typedValuesTemplate, distributor);
+        service = context.getBean(TermsAndConditionsGenerationService.class);
+        distributorVariablesCache = context.getBean(DistributorVariablesCache.class);
+
+        // Fill the caches once so the cached paths are measured
+        service.validateVariables(template, variables).block();
+        service.previewGeneration(typedValuesTemplate.getId(), typedValues).block();
+        service.getDefaultVariablesForDistributor(distributor.getId()).block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Boolean validateVariables() {
+        return service.validateVariables(template, variables).block();
+    }
+
+    @Benchmark
+    public String formatValues() {
+        return service.previewGeneration(typedValuesTemplate.getId(), typedValues).block();
+    }
+
+    @Benchmark
+    public Map<String, Object> defaultVariables() {
+        return service.getDefaultVariablesForDistributor(distributor.getId()).block();
+    }
+
+    @Benchmark
+    public Map<String, Object> defaultVariablesAfterEviction() {
+        distributorVariablesCache.invalidate(distributor.getId());
+        return service.getDefaultVariablesForDistributor(distributor.getId()).block();
+    }
+}
\ No newline at end of file
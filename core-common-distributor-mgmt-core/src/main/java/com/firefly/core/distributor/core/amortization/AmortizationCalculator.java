@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.amortization;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-payment (annuity) amortization arithmetic on amounts in cents.
+ * <p>
+ * Balances, payments and interest are {@code long} cents and annual rates are {@code long} values in
+ * units of 1/10,000 of a percent, so computing an installment allocates nothing. Monthly interest is
+ * rounded half up to the cent and the final installment settles the remaining balance. The level payment
+ * is derived once per schedule from the annuity formula in {@link MathContext#DECIMAL128} arithmetic and
+ * rounded half even to the cent.
+ */
+public final class AmortizationCalculator {
+
+    /**
+     * Number of decimal places of a percentage carried by a scaled annual rate.
+     */
+    public static final int RATE_SCALE = 4;
+
+    /**
+     * Divisor turning {@code balance * scaledAnnualRate} into monthly interest: percent, rate scale and months.
+     */
+    private static final long MONTHLY_RATE_DIVISOR = 100L * 10_000L * 12L;
+
+    /**
+     * Divisor turning {@code amount * scaledPercentage} into the percentage of the amount.
+     */
+    private static final long PERCENT_DIVISOR = 100L * 10_000L;
+
+    /**
+     * {@link #MONTHLY_RATE_DIVISOR} as a decimal for the annuity formula.
+     */
+    private static final BigDecimal MONTHLY_RATE_DIVISOR_DECIMAL = BigDecimal.valueOf(MONTHLY_RATE_DIVISOR);
+
+    private AmortizationCalculator() {
+    }
+
+    /**
+     * Convert an amount to cents, rounding half up.
+     *
+     * @param amount the amount, or null for zero
+     * @return the amount in cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount == null ? 0L : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert an amount in cents back to a decimal amount.
+     *
+     * @param cents the amount in cents
+     * @return the amount with a scale of 2
+     */
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Convert an annual percentage rate, e.g. {@code 7.25}, to a scaled rate.
+     *
+     * @param annualPercentageRate the annual rate in percent, or null for zero
+     * @return the rate in units of 1/10,000 of a percent
+     */
+    public static long toScaledRate(BigDecimal annualPercentageRate) {
+        return annualPercentageRate == null
+                ? 0L
+                : annualPercentageRate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert a scaled rate back to a percentage without trailing zeros, e.g. {@code 7.25} or {@code 10}.
+     *
+     * @param scaledRate the rate from {@link #toScaledRate(BigDecimal)}
+     * @return the percentage
+     */
+    public static BigDecimal fromScaledRate(long scaledRate) {
+        BigDecimal rate = BigDecimal.valueOf(scaledRate, RATE_SCALE).stripTrailingZeros();
+        return rate.scale() < 0 ? rate.setScale(0) : rate;
+    }
+
+    /**
+     * Compute a percentage of an amount, rounded half up to the cent.
+     *
+     * @param cents the amount in cents
+     * @param scaledPercentage the percentage from {@link #toScaledRate(BigDecimal)}
+     * @return the percentage of the amount in cents
+     */
+    public static long percentageOfCents(long cents, long scaledPercentage) {
+        return (Math.multiplyExact(cents, scaledPercentage) + PERCENT_DIVISOR / 2) / PERCENT_DIVISOR;
+    }
+
+    /**
+     * Compute the level monthly payment that repays a principal over a term.
+     *
+     * @param principalCents the principal in cents
+     * @param scaledAnnualRate the annual rate from {@link #toScaledRate(BigDecimal)}
+     * @param termMonths the number of monthly installments
+     * @return the monthly payment in cents
+     */
+    public static long paymentCents(long principalCents, long scaledAnnualRate, int termMonths) {
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("Term must be at least one month: " + termMonths);
+        }
+        if (principalCents <= 0) {
+            return 0L;
+        }
+        BigDecimal principal = BigDecimal.valueOf(principalCents);
+        if (scaledAnnualRate == 0) {
+            return principal.divide(BigDecimal.valueOf(termMonths), 0, RoundingMode.HALF_EVEN).longValueExact();
+        }
+
+        // P * r * (1 + r)^n / ((1 + r)^n - 1)
+        BigDecimal monthlyRate = BigDecimal.valueOf(scaledAnnualRate).divide(MONTHLY_RATE_DIVISOR_DECIMAL, MathContext.DECIMAL128);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(termMonths, MathContext.DECIMAL128);
+        return principal.multiply(monthlyRate, MathContext.DECIMAL128)
+                .multiply(growth, MathContext.DECIMAL128)
+                .divide(growth.subtract(BigDecimal.ONE, MathContext.DECIMAL128), MathContext.DECIMAL128)
+                .setScale(0, RoundingMode.HALF_EVEN)
+                .longValueExact();
+    }
+
+    /**
+     * Compute the interest accrued on a balance over one month, rounded half up to the cent.
+     *
+     * @param balanceCents the outstanding balance in cents
+     * @param scaledAnnualRate the annual rate from {@link #toScaledRate(BigDecimal)}
+     * @return the interest in cents
+     */
+    public static long interestCents(long balanceCents, long scaledAnnualRate) {
+        return (Math.multiplyExact(balanceCents, scaledAnnualRate) + MONTHLY_RATE_DIVISOR / 2) / MONTHLY_RATE_DIVISOR;
+    }
+
+    /**
+     * Compute the full installment schedule of a loan.
+     *
+     * @param principalCents the principal in cents
+     * @param scaledAnnualRate the annual rate from {@link #toScaledRate(BigDecimal)}
+     * @param termMonths the number of monthly installments
+     * @return the schedule
+     */
+    public static AmortizationSchedule schedule(long principalCents, long scaledAnnualRate, int termMonths) {
+        long payment = paymentCents(principalCents, scaledAnnualRate, termMonths);
+        long[] payments = new long[termMonths];
+        long[] principals = new long[termMonths];
+        long[] interests = new long[termMonths];
+        long[] balances = new long[termMonths];
+
+        long balance = Math.max(0L, principalCents);
+        long totalInterest = 0L;
+        for (int period = 0; period < termMonths; period++) {
+            long interest = interestCents(balance, scaledAnnualRate);
+            long installment = installment(payment, balance, interest, period == termMonths - 1);
+            balance -= installment - interest;
+            totalInterest += interest;
+
+            payments[period] = installment;
+            principals[period] = installment - interest;
+            interests[period] = interest;
+            balances[period] = balance;
+        }
+        return new AmortizationSchedule(payment, totalInterest, payments, principals, interests, balances);
+    }
+
+    /**
+     * Compute the level payment and total interest of many loans at once without building their schedules.
+     * <p>
+     * Loans are laid out as parallel arrays and advanced one period at a time across the whole batch, so the
+     * inner loop runs over contiguous primitive arrays. Results match {@link #schedule(long, long, int)}.
+     *
+     * @param count the number of loans in the arrays
+     * @param principalCents the principal of each loan in cents
+     * @param scaledAnnualRates the annual rate of each loan from {@link #toScaledRate(BigDecimal)}
+     * @param termMonths the number of monthly installments of each loan
+     * @param paymentsOut receives the level monthly payment of each loan in cents
+     * @param totalInterestOut receives the total interest of each loan in cents
+     */
+    public static void summarize(int count, long[] principalCents, long[] scaledAnnualRates, int[] termMonths,
+                                 long[] paymentsOut, long[] totalInterestOut) {
+        long[] balances = new long[count];
+        int maxTerm = 0;
+        for (int i = 0; i < count; i++) {
+            paymentsOut[i] = paymentCents(principalCents[i], scaledAnnualRates[i], termMonths[i]);
+            balances[i] = Math.max(0L, principalCents[i]);
+            totalInterestOut[i] = 0L;
+            maxTerm = Math.max(maxTerm, termMonths[i]);
+        }
+
+        for (int period = 0; period < maxTerm; period++) {
+            for (int i = 0; i < count; i++) {
+                if (period < termMonths[i]) {
+                    long interest = interestCents(balances[i], scaledAnnualRates[i]);
+                    long installment = installment(paymentsOut[i], balances[i], interest, period == termMonths[i] - 1);
+                    balances[i] -= installment - interest;
+                    totalInterestOut[i] += interest;
+                }
+            }
+        }
+    }
+
+    /**
+     * The installment due for a period: the level payment, or whatever settles the balance in the
+     * final period or once the level payment would overpay.
+     */
+    private static long installment(long payment, long balance, long interest, boolean last) {
+        long due = balance + interest;
+        return last ? due : Math.min(payment, due);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.amortization;
+
+/**
+ * An installment schedule computed by {@link AmortizationCalculator}, with amounts in cents.
+ * <p>
+ * Installments are stored as parallel arrays indexed by period, starting at 0 for the first installment.
+ *
+ * @param paymentCents the level monthly payment
+ * @param totalInterestCents the interest paid over the whole term
+ * @param payments the installment paid in each period
+ * @param principals the principal repaid in each period
+ * @param interests the interest paid in each period
+ * @param balances the balance outstanding after each period
+ */
+public record AmortizationSchedule(long paymentCents, long totalInterestCents, long[] payments, long[] principals,
+                                   long[] interests, long[] balances) {
+
+    /**
+     * Get the number of installments.
+     *
+     * @return the number of installments
+     */
+    public int termMonths() {
+        return payments.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.amortization;
+
+import com.firefly.core.distributor.interfaces.dtos.AmortizationScheduleDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache of computed amortization schedules per lending contract version.
+ * <p>
+ * Entries are keyed by the contract ID together with its {@link LoanTerms}, so any change to the amounts,
+ * dates or lending configuration of a contract produces a new key and the stale schedule is simply never
+ * read again until it expires. The cache is bounded by the total number of installments it holds rather than
+ * by schedules, since a 360 month schedule is thirty times the size of a 12 month one. Hit and miss counts
+ * are published as Micrometer cache metrics.
+ */
+@Component
+public class AmortizationScheduleCache {
+
+    private final Cache<ScheduleKey, AmortizationScheduleDTO> schedules;
+
+    public AmortizationScheduleCache(
+            @Value("${distributor.amortization.schedule-cache.max-installments:500000}") long maxInstallments,
+            @Value("${distributor.amortization.schedule-cache.ttl:30m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.schedules = Caffeine.newBuilder()
+                .maximumWeight(maxInstallments)
+                .weigher(AmortizationScheduleCache::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, schedules, "amortization.schedules");
+    }
+
+    /**
+     * Get the schedule of a lending contract version, computing it on a miss.
+     *
+     * @param lendingContractId the lending contract ID
+     * @param terms the terms of the contract version
+     * @param calculator computes the schedule
+     * @return the schedule
+     */
+    public AmortizationScheduleDTO get(UUID lendingContractId, LoanTerms terms, Supplier<AmortizationScheduleDTO> calculator) {
+        return schedules.get(new ScheduleKey(lendingContractId, terms), key -> calculator.get());
+    }
+
+    /**
+     * Weigh a schedule by its number of installments, counting the summary fields as one.
+     */
+    static int weigh(ScheduleKey key, AmortizationScheduleDTO schedule) {
+        return 1 + (schedule.getInstallments() == null ? 0 : schedule.getInstallments().size());
+    }
+
+    record ScheduleKey(UUID lendingContractId, LoanTerms terms) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.amortization;
+
+import com.firefly.core.distributor.models.entities.LendingConfiguration;
+import com.firefly.core.distributor.models.entities.LendingContract;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The financial inputs of a lending contract's amortization schedule, in the units of {@link AmortizationCalculator}.
+ * <p>
+ * Two contract versions with equal terms have equal schedules, which makes the terms usable as a cache key.
+ *
+ * @param principalCents the total amount less the down payment, in cents
+ * @param scaledAnnualRate the annual interest rate of the lending configuration
+ * @param termMonths the number of monthly installments
+ * @param startDate the contract start date, from which installments fall due monthly
+ * @param processingFeeCents the processing fee of the lending configuration, in cents
+ */
+public record LoanTerms(long principalCents, long scaledAnnualRate, int termMonths, LocalDate startDate,
+                        long processingFeeCents) {
+
+    /**
+     * Derive the terms of a lending contract.
+     * <p>
+     * The term is the number of whole months between the start and end dates, falling back to the default
+     * term of the lending configuration.
+     *
+     * @param contract the lending contract
+     * @param configuration the lending configuration of the contract, or null if it has none
+     * @return the terms
+     * @throws IllegalArgumentException if the contract has no total amount or no term can be determined
+     */
+    public static LoanTerms of(LendingContract contract, LendingConfiguration configuration) {
+        if (contract.getTotalAmount() == null) {
+            throw new IllegalArgumentException("Lending contract has no total amount: " + contract.getId());
+        }
+        BigDecimal downPayment = contract.getDownPayment() != null ? contract.getDownPayment() : BigDecimal.ZERO;
+        long principalCents = AmortizationCalculator.toCents(contract.getTotalAmount().subtract(downPayment));
+
+        int termMonths = 0;
+        if (contract.getStartDate() != null && contract.getEndDate() != null) {
+            termMonths = (int) ChronoUnit.MONTHS.between(contract.getStartDate(), contract.getEndDate());
+        }
+        if (termMonths <= 0 && configuration != null && configuration.getDefaultTermMonths() != null) {
+            termMonths = configuration.getDefaultTermMonths();
+        }
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("Cannot determine the term of lending contract: " + contract.getId());
+        }
+
+        long scaledAnnualRate = 0L;
+        long processingFeeCents = 0L;
+        if (configuration != null) {
+            scaledAnnualRate = AmortizationCalculator.toScaledRate(configuration.getInterestRate());
+            processingFeeCents = AmortizationCalculator.percentageOfCents(principalCents,
+                    AmortizationCalculator.toScaledRate(configuration.getProcessingFeePercentage()));
+        }
+
+        return new LoanTerms(principalCents, scaledAnnualRate, termMonths, contract.getStartDate(), processingFeeCents);
+    }
+
+    /**
+     * Get the annual interest rate in percent.
+     *
+     * @return the annual interest rate
+     */
+    public BigDecimal annualInterestRate() {
+        return AmortizationCalculator.fromScaledRate(scaledAnnualRate);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity states observed during one audited service call.
+ * <p>
+ * Holds a snapshot of every entity loaded from, or saved to, the database while the call runs. The
+ * first load of an entity is its state before the call and its last save is its state after the call.
+ * Snapshots copy field values, so later mutations of the entity instances do not affect them.
+ * <p>
+ * A long-running call that commits in units, such as batches or rounds, {@link #drain() drains} the
+ * capture after each unit, so it only holds the states observed since the last unit committed.
+ */
+final class AuditCapture {
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(type, field -> {
+                ReflectionUtils.makeAccessible(field);
+                fields.add(field);
+            }, field -> !Modifier.isStatic(field.getModifiers()));
+            return List.copyOf(fields);
+        }
+    };
+
+    private final Map<EntityKey, Map<String, Object>> loaded = new LinkedHashMap<>();
+    private final Map<EntityKey, Map<String, Object>> saved = new LinkedHashMap<>();
+
+    /**
+     * Record an entity read from the database.
+     *
+     * @param entity the entity
+     */
+    synchronized void loaded(Object entity) {
+        Map<String, Object> snapshot = snapshot(entity);
+        EntityKey key = EntityKey.of(entity, snapshot);
+        if (key != null) {
+            loaded.putIfAbsent(key, snapshot);
+        }
+    }
+
+    /**
+     * Record an entity written to the database.
+     *
+     * @param entity the entity
+     */
+    synchronized void saved(Object entity) {
+        Map<String, Object> snapshot = snapshot(entity);
+        EntityKey key = EntityKey.of(entity, snapshot);
+        if (key != null) {
+            saved.put(key, snapshot);
+        }
+    }
+
+    /**
+     * Get the state before the call of every loaded entity.
+     *
+     * @return the snapshots keyed by entity
+     */
+    synchronized Map<EntityKey, Map<String, Object>> loaded() {
+        return new LinkedHashMap<>(loaded);
+    }
+
+    /**
+     * Get the state after the call of every saved entity.
+     *
+     * @return the snapshots keyed by entity
+     */
+    synchronized Map<EntityKey, Map<String, Object>> saved() {
+        return new LinkedHashMap<>(saved);
+    }
+
+    /**
+     * Take the states observed so far, leaving this capture empty.
+     *
+     * @return a capture holding the states observed so far
+     */
+    synchronized AuditCapture drain() {
+        AuditCapture drained = new AuditCapture();
+        drained.loaded.putAll(loaded);
+        drained.saved.putAll(saved);
+        loaded.clear();
+        saved.clear();
+        return drained;
+    }
+
+    static Map<String, Object> snapshot(Object entity) {
+        List<Field> fields = FIELDS.get(entity.getClass());
+        Map<String, Object> snapshot = new LinkedHashMap<>(fields.size() * 2);
+        for (Field field : fields) {
+            snapshot.put(field.getName(), ReflectionUtils.getField(field, entity));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Identity of an audited entity.
+     *
+     * @param type the entity class
+     * @param id the entity ID
+     */
+    record EntityKey(Class<?> type, Object id) {
+
+        static EntityKey of(Object entity, Map<String, Object> snapshot) {
+            Object id = snapshot.get("id");
+            return id != null ? new EntityKey(entity.getClass(), id) : null;
+        }
+    }
+}
\ No newline at end of file
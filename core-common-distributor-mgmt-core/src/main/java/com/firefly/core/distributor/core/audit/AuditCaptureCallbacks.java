@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.event.AfterConvertCallback;
+import org.springframework.data.r2dbc.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Entity callbacks feeding the {@link AuditCapture} of the audited service call in progress.
+ * <p>
+ * The capture travels in the Reactor context of the call, so reads and writes outside an audited call
+ * cost a single context lookup. Statements issued through the {@code DatabaseClient}, such as multi-row
+ * inserts and bulk updates, bypass the entity callbacks; their callers report the written entities with
+ * {@link #saved(Collection)} or {@link #saved(Flux)}. Calls that commit in units report each committed unit
+ * with {@link #flush()}.
+ */
+@Component
+public class AuditCaptureCallbacks implements AfterConvertCallback<Object>, AfterSaveCallback<Object> {
+
+    @Override
+    public Publisher<Object> onAfterConvert(Object entity, SqlIdentifier table) {
+        return Mono.deferContextual(context -> {
+            if (!(entity instanceof DistributorAuditLog)) {
+                context.<AuditCapture>getOrEmpty(AuditCapture.class).ifPresent(capture -> capture.loaded(entity));
+            }
+            return Mono.just(entity);
+        });
+    }
+
+    /**
+     * Report entities written without the entity callbacks to the audited call in progress.
+     *
+     * @param entities the entities as written
+     * @return a Mono completing once the entities are reported
+     */
+    public static Mono<Void> saved(Collection<?> entities) {
+        return Mono.deferContextual(context -> {
+            context.<AuditCapture>getOrEmpty(AuditCapture.class).ifPresent(capture -> entities.forEach(capture::saved));
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Report entities returned by a write that bypasses the entity callbacks to the audited call in progress.
+     *
+     * @param entities the entities as written
+     * @param <T> the entity type
+     * @return the entities
+     */
+    public static <T> Flux<T> saved(Flux<T> entities) {
+        return entities.doOnEach(signal -> {
+            if (signal.isOnNext()) {
+                signal.getContextView().<AuditCapture>getOrEmpty(AuditCapture.class)
+                        .ifPresent(capture -> capture.saved(signal.get()));
+            }
+        });
+    }
+
+    /**
+     * Record the entries of the audited call in progress for the entities captured so far, and start
+     * capturing afresh. A long-running call reports each committed unit of work, such as a batch, this way
+     * so it only holds the entities of its current unit. Inside a transaction the entries are recorded
+     * once it commits.
+     *
+     * @return a Mono completing once the entries are recorded, or registered to be recorded on commit
+     */
+    public static Mono<Void> flush() {
+        return Mono.deferContextual(context -> context.<AuditCaptureInterceptor.Flush>getOrEmpty(AuditCaptureInterceptor.Flush.class)
+                .map(AuditCaptureInterceptor.Flush::flush)
+                .orElse(Mono.empty()));
+    }
+
+    @Override
+    public Publisher<Object> onAfterSave(Object entity, OutboundRow outboundRow, SqlIdentifier table) {
+        return Mono.deferContextual(context -> {
+            if (!(entity instanceof DistributorAuditLog)) {
+                context.<AuditCapture>getOrEmpty(AuditCapture.class).ifPresent(capture -> capture.saved(entity));
+            }
+            return Mono.just(entity);
+        });
+    }
+}
\ No newline at end of file
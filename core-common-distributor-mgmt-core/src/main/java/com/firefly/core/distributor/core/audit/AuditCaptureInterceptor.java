@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.distributor.core.transactions.AfterCommit;
+import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
+import com.firefly.core.distributor.models.entities.Distributor;
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import io.r2dbc.postgresql.codec.Json;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Records an audit log entry for every entity created, updated or deleted by an audited service call.
+ * <p>
+ * The call runs with an {@link AuditCapture} in its Reactor context, filled by {@link AuditCaptureCallbacks}
+ * as entities are loaded and saved, so no extra queries are issued. When the call succeeds, which for a
+ * {@code Flux} means when it completes, or when it reports a committed unit of work through
+ * {@link AuditCaptureCallbacks#flush()}:
+ * <ul>
+ *   <li>a saved entity that was not loaded first is recorded as {@code CREATED};</li>
+ *   <li>a saved entity that was loaded first is recorded as {@code UPDATED}, with the fields that changed,
+ *       unless nothing changed;</li>
+ *   <li>in a {@code delete} call, a loaded entity whose ID is a call argument and that was not saved is
+ *       recorded as {@code TERMINATED}.</li>
+ * </ul>
+ * Entries are handed to the {@link AuditLogWriter} once the surrounding transaction commits, so a rolled back
+ * change records nothing and the call only waits for them to be queued. With the {@code FAIL} overflow policy
+ * they are handed over inside the transaction instead, so an entry the writer rejects rolls the change back.
+ * Entities that belong to no distributor are not recorded.
+ */
+public class AuditCaptureInterceptor implements MethodInterceptor {
+
+    static final int MAX_VALUE_LENGTH = 256;
+
+    private static final Set<String> IGNORED_FIELDS = Set.of("createdAt", "updatedAt", "createdBy", "updatedBy");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ObjectProvider<AuditLogWriter> auditLogWriter;
+
+    public AuditCaptureInterceptor(ObjectProvider<AuditLogWriter> auditLogWriter) {
+        this.auditLogWriter = auditLogWriter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        String operation = invocation.getMethod().getName();
+        List<Object> arguments = Arrays.asList(invocation.getArguments());
+        if (result instanceof Mono<?>) {
+            Mono<Object> call = (Mono<Object>) result;
+            return Mono.defer(() -> {
+                AuditCapture capture = new AuditCapture();
+                return call
+                        .flatMap(value -> record(capture.drain(), operation, arguments).thenReturn(value))
+                        .switchIfEmpty(Mono.defer(() -> record(capture.drain(), operation, arguments).then(Mono.empty())))
+                        .contextWrite(context(capture, operation, arguments));
+            });
+        }
+        if (result instanceof Flux<?>) {
+            // The rest of the entries are recorded once the stream completes, so a failed or cancelled stream
+            // records only the units it flushed
+            Flux<Object> call = (Flux<Object>) result;
+            return Flux.defer(() -> {
+                AuditCapture capture = new AuditCapture();
+                return call
+                        .concatWith(Mono.defer(() -> record(capture.drain(), operation, arguments)))
+                        .contextWrite(context(capture, operation, arguments));
+            });
+        }
+        return result;
+    }
+
+    private Context context(AuditCapture capture, String operation, List<Object> arguments) {
+        Flush flush = () -> Mono.defer(() -> record(capture.drain(), operation, arguments));
+        return Context.of(AuditCapture.class, capture, Flush.class, flush);
+    }
+
+    private Mono<Void> record(AuditCapture capture, String operation, List<Object> arguments) {
+        List<DistributorAuditLog> auditLogs = auditLogs(capture, operation, arguments);
+        if (auditLogs.isEmpty()) {
+            return Mono.empty();
+        }
+        AuditLogWriter writer = auditLogWriter.getObject();
+        Mono<Void> write = Flux.fromIterable(auditLogs)
+                .concatMap(writer::write)
+                .then();
+        return writer.getOverflowPolicy() == AuditLogWriter.OverflowPolicy.FAIL
+                ? write
+                : AfterCommit.defer(() -> write);
+    }
+
+    /**
+     * Records the entries of the states captured so far by the audited call in progress.
+     */
+    @FunctionalInterface
+    interface Flush {
+
+        Mono<Void> flush();
+    }
+
+    static List<DistributorAuditLog> auditLogs(AuditCapture capture, String operation, List<Object> arguments) {
+        Map<AuditCapture.EntityKey, Map<String, Object>> before = capture.loaded();
+        Map<AuditCapture.EntityKey, Map<String, Object>> after = capture.saved();
+        LocalDateTime now = LocalDateTime.now();
+        List<DistributorAuditLog> auditLogs = new ArrayList<>();
+
+        after.forEach((key, state) -> {
+            Map<String, Object> previous = before.get(key);
+            if (previous == null) {
+                addAuditLog(auditLogs, DistributorActionEnum.CREATED, key, state, state.get("createdBy"),
+                        metadata(operation, null), now);
+                return;
+            }
+            Map<String, Map<String, String>> changes = changes(previous, state);
+            if (!changes.isEmpty()) {
+                addAuditLog(auditLogs, DistributorActionEnum.UPDATED, key, state, state.get("updatedBy"),
+                        metadata(operation, changes), now);
+            }
+        });
+
+        if (operation.startsWith("delete")) {
+            before.forEach((key, state) -> {
+                if (!after.containsKey(key) && arguments.contains(key.id())) {
+                    addAuditLog(auditLogs, DistributorActionEnum.TERMINATED, key, state, null,
+                            metadata(operation, null), now);
+                }
+            });
+        }
+        return auditLogs;
+    }
+
+    static Map<String, Map<String, String>> changes(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Map<String, String>> changes = new LinkedHashMap<>();
+        after.forEach((field, value) -> {
+            Object previous = before.get(field);
+            if (IGNORED_FIELDS.contains(field) || sameValue(previous, value)) {
+                return;
+            }
+            Map<String, String> change = new LinkedHashMap<>();
+            change.put("old", abbreviate(previous));
+            change.put("new", abbreviate(value));
+            changes.put(field, change);
+        });
+        return changes;
+    }
+
+    private static void addAuditLog(List<DistributorAuditLog> auditLogs, DistributorActionEnum action,
+                                    AuditCapture.EntityKey key, Map<String, Object> state, Object userId,
+                                    String metadata, LocalDateTime timestamp) {
+        UUID distributorId = key.type() == Distributor.class
+                ? (UUID) key.id()
+                : state.get("distributorId") instanceof UUID id ? id : null;
+        if (distributorId == null) {
+            return;
+        }
+        auditLogs.add(DistributorAuditLog.builder()
+                .id(UUID.randomUUID())
+                .distributorId(distributorId)
+                .action(action)
+                .entity(key.type().getSimpleName())
+                .entityId(key.id().toString())
+                .auditMetadata(Json.of(metadata))
+                .userId(userId instanceof UUID user ? user : null)
+                .auditTimestamp(timestamp)
+                .build());
+    }
+
+    private static String metadata(String operation, Map<String, Map<String, String>> changes) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("operation", operation);
+        if (changes != null) {
+            metadata.put("changes", changes);
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize audit metadata", e);
+        }
+    }
+
+    private static boolean sameValue(Object before, Object after) {
+        if (before instanceof BigDecimal left && after instanceof BigDecimal right) {
+            return left.compareTo(right) == 0;
+        }
+        return Objects.equals(before, after);
+    }
+
+    private static String abbreviate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.reactivestreams.Publisher;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Applies the {@link AuditCaptureInterceptor} to the reactive mutating methods of the service implementations:
+ * those named after a create, update, delete, approval, activation, default, signature, generation, renewal
+ * or ingestion verb and returning a {@code Mono} or {@code Flux}.
+ * <p>
+ * Services that already have a transactional proxy get the interceptor added to that proxy, so it runs inside
+ * the transaction and can defer its entries until the commit, or, with the {@code FAIL} overflow policy, hand
+ * them over before the commit so an entry the writer rejects rolls the change back.
+ */
+@Component
+public class AuditCapturePostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String AUDITED_PACKAGE = "com.firefly.core.distributor.core.services.impl";
+
+    private static final List<String> AUDITED_PREFIXES = List.of("create", "update", "delete", "approve", "activate",
+            "deactivate", "set", "remove", "sign", "generate", "bulkGenerate", "autoRenew", "renew", "ingest");
+
+    public AuditCapturePostProcessor(ObjectProvider<AuditLogWriter> auditLogWriter) {
+        setProxyTargetClass(true);
+        this.advisor = new DefaultPointcutAdvisor(new AuditedMethodPointcut(), new AuditCaptureInterceptor(auditLogWriter));
+    }
+
+    static final class AuditedMethodPointcut extends StaticMethodMatcherPointcut {
+
+        AuditedMethodPointcut() {
+            setClassFilter(type -> AUDITED_PACKAGE.equals(type.getPackageName()));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Publisher.class.isAssignableFrom(method.getReturnType())
+                    && AUDITED_PREFIXES.stream().anyMatch(method.getName()::startsWith);
+        }
+    }
+}
\ No newline at end of file
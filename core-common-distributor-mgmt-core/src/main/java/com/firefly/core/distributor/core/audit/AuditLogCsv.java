@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
+
+/**
+ * CSV (RFC 4180) rendering of audit log entries, one line per entry.
+ * <p>
+ * Fields starting with a character a spreadsheet would read as a formula are prefixed with {@code '} and
+ * quoted, so exported metadata cannot run as a formula when the file is opened.
+ */
+public final class AuditLogCsv {
+
+    /**
+     * The header line, terminated by CRLF.
+     */
+    public static final String HEADER =
+            "id,distributorId,action,entity,entityId,auditMetadata,ipAddress,userId,auditTimestamp\r\n";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private AuditLogCsv() {
+    }
+
+    /**
+     * Render an audit log entry as a CSV line, terminated by CRLF.
+     *
+     * @param auditLog the audit log entry
+     * @return the CSV line
+     */
+    public static String row(DistributorAuditLogDTO auditLog) {
+        StringBuilder line = new StringBuilder(256);
+        appendField(line, auditLog.getId()).append(',');
+        appendField(line, auditLog.getDistributorId()).append(',');
+        appendField(line, auditLog.getAction()).append(',');
+        appendField(line, auditLog.getEntity()).append(',');
+        appendField(line, auditLog.getEntityId()).append(',');
+        appendField(line, auditLog.getAuditMetadata()).append(',');
+        appendField(line, auditLog.getIpAddress()).append(',');
+        appendField(line, auditLog.getUserId()).append(',');
+        appendField(line, auditLog.getAuditTimestamp());
+        return line.append("\r\n").toString();
+    }
+
+    private static StringBuilder appendField(StringBuilder line, Object value) {
+        if (value == null) {
+            return line;
+        }
+        String text = value.toString();
+        boolean quoted = !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+        if (quoted) {
+            text = "'" + text;
+        }
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quoted) {
+            return line.append(text);
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+}
\ No newline at end of file
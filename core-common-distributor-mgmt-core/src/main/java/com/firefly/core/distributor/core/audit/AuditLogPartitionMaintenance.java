@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.models.repositories.DistributorAuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Scheduled maintenance of the monthly audit log partitions.
+ * <p>
+ * Each run creates the partitions of the coming {@code months-ahead} months, refreshes the daily rollups
+ * of the last {@code rollup-lookback-days} days and drops the partitions older than
+ * {@code retention-months} whole months, keeping their rollups. A retention of zero keeps every partition.
+ * Partition counts are published as {@code distributor.audit.partitions.created} and
+ * {@code distributor.audit.partitions.dropped}.
+ */
+@Component
+public class AuditLogPartitionMaintenance {
+
+    private final DistributorAuditLogRepository repository;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int rollupLookbackDays;
+    private final Clock clock;
+
+    private final Counter createdPartitions;
+    private final Counter droppedPartitions;
+
+    @Autowired
+    public AuditLogPartitionMaintenance(
+            DistributorAuditLogRepository repository,
+            @Value("${distributor.audit.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${distributor.audit.partitions.retention-months:24}") int retentionMonths,
+            @Value("${distributor.audit.partitions.rollup-lookback-days:2}") int rollupLookbackDays,
+            MeterRegistry meterRegistry) {
+        this(repository, monthsAhead, retentionMonths, rollupLookbackDays, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    AuditLogPartitionMaintenance(DistributorAuditLogRepository repository, int monthsAhead, int retentionMonths,
+                                 int rollupLookbackDays, MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.rollupLookbackDays = rollupLookbackDays;
+        this.clock = clock;
+        this.createdPartitions = meterRegistry.counter("distributor.audit.partitions.created");
+        this.droppedPartitions = meterRegistry.counter("distributor.audit.partitions.dropped");
+    }
+
+    @Scheduled(cron = "${distributor.audit.partitions.cron:0 30 1 * * *}")
+    public Mono<Void> scheduledMaintenance() {
+        return maintain();
+    }
+
+    /**
+     * Run the partition and rollup maintenance for the current day.
+     *
+     * @return a Mono completing when the maintenance is done
+     */
+    public Mono<Void> maintain() {
+        return Mono.defer(() -> {
+            LocalDate today = LocalDate.now(clock);
+            Mono<Integer> dropped = retentionMonths > 0
+                    ? repository.dropPartitionsBefore(today.withDayOfMonth(1).minusMonths(retentionMonths))
+                    : Mono.just(0);
+            return repository.createPartitions(today, today.plusMonths(monthsAhead))
+                    .doOnNext(createdPartitions::increment)
+                    .then(repository.refreshDailyRollups(today.minusDays(rollupLookbackDays), today.plusDays(1)))
+                    .then(dropped)
+                    .doOnNext(droppedPartitions::increment)
+                    .then();
+        });
+    }
+}
\ No newline at end of file
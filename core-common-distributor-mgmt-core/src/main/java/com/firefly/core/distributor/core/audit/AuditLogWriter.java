@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import com.firefly.core.distributor.models.repositories.DistributorAuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.R2dbcTransientException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous, batched writer of audit log rows.
+ * <p>
+ * Rows are buffered in memory, outside the caller's transaction, and written with multi-row inserts
+ * once {@code batch-size} rows are pending or {@code flush-interval} has elapsed. At most
+ * {@code buffer-size} rows are pending; beyond that the overflow policy applies. Transient failures are
+ * retried; a batch that still fails after retries is counted and discarded so the pipeline keeps running.
+ * A batch rejected for any other reason, such as one row violating a constraint, is split in halves until
+ * only the rows failing on their own are discarded.
+ * <p>
+ * The writer stops after the web server has finished its graceful shutdown, flushing every pending row
+ * before the connection pool closes. Rows written after that are inserted directly.
+ * <p>
+ * Published metrics: {@code distributor.audit.writer.queue.depth} (pending rows),
+ * {@code distributor.audit.writer.flush} (flush latency) and {@code distributor.audit.writer.rows}
+ * tagged by outcome.
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    /**
+     * What to do with a row written while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Insert the row directly in the caller's reactive chain, slowing callers down to the database.
+         */
+        CALLER_RUNS,
+        /**
+         * Discard the row.
+         */
+        DROP,
+        /**
+         * Fail the write with an {@link IllegalStateException}.
+         */
+        FAIL
+    }
+
+    /**
+     * Stops after the web server graceful shutdown, which runs at {@code DEFAULT_PHASE - 2048}.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final int FLUSH_RETRIES = 3;
+
+    private final DistributorAuditLogRepository repository;
+    private final int bufferSize;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Sinks.Many<DistributorAuditLog> buffer = Sinks.many().unicast().onBackpressureBuffer();
+    private final Sinks.Empty<Void> drained = Sinks.empty();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean running;
+
+    private final Timer flushTimer;
+    private final Counter writtenRows;
+    private final Counter directRows;
+    private final Counter droppedRows;
+    private final Counter failedRows;
+
+    public AuditLogWriter(
+            DistributorAuditLogRepository repository,
+            @Value("${distributor.audit.writer.buffer-size:10000}") int bufferSize,
+            @Value("${distributor.audit.writer.batch-size:500}") int batchSize,
+            @Value("${distributor.audit.writer.flush-interval:1s}") Duration flushInterval,
+            @Value("${distributor.audit.writer.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.bufferSize = bufferSize;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("distributor.audit.writer.queue.depth", pending, AtomicInteger::get)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("distributor.audit.writer.flush").register(meterRegistry);
+        this.writtenRows = rowCounter(meterRegistry, "batched");
+        this.directRows = rowCounter(meterRegistry, "direct");
+        this.droppedRows = rowCounter(meterRegistry, "dropped");
+        this.failedRows = rowCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * Queue an audit log row for writing.
+     *
+     * @param auditLog the row to write, carrying its ID
+     * @return a Mono completing once the row is queued, or written when it cannot be queued
+     */
+    public Mono<Void> write(DistributorAuditLog auditLog) {
+        return Mono.defer(() -> {
+            if (pending.incrementAndGet() > bufferSize) {
+                pending.decrementAndGet();
+                return overflow(auditLog);
+            }
+            if (!emit(auditLog)) {
+                // Stopped: nothing will flush the buffer any more
+                pending.decrementAndGet();
+                return writeDirectly(auditLog);
+            }
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Get the policy applied to rows written while the buffer is full.
+     *
+     * @return the overflow policy
+     */
+    OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public void start() {
+        buffer.asFlux()
+                .bufferTimeout(batchSize, flushInterval, true)
+                .concatMap(this::flush)
+                .doFinally(signal -> drained.tryEmitEmpty())
+                .subscribe();
+        running = true;
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        running = false;
+        complete();
+        drained.asMono().doFinally(signal -> callback.run()).subscribe();
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> {
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * The buffer sink rejects concurrent signals, so emissions are serialized on the writer.
+     * Each holds the lock only for the hand-off to the buffer.
+     */
+    private synchronized boolean emit(DistributorAuditLog auditLog) {
+        return buffer.tryEmitNext(auditLog).isSuccess();
+    }
+
+    private synchronized void complete() {
+        buffer.tryEmitComplete();
+    }
+
+    private Mono<Void> overflow(DistributorAuditLog auditLog) {
+        return switch (overflowPolicy) {
+            case DROP -> {
+                droppedRows.increment();
+                yield Mono.empty();
+            }
+            case FAIL -> Mono.error(new IllegalStateException("Audit log buffer is full"));
+            case CALLER_RUNS -> writeDirectly(auditLog);
+        };
+    }
+
+    private Mono<Void> writeDirectly(DistributorAuditLog auditLog) {
+        return repository.insertAll(List.of(auditLog))
+                .doOnSuccess(inserted -> directRows.increment())
+                .then();
+    }
+
+    private Mono<Void> flush(List<DistributorAuditLog> batch) {
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start();
+                    return insert(batch)
+                            .doOnSuccess(inserted -> sample.stop(flushTimer));
+                })
+                .doFinally(signal -> pending.addAndGet(-batch.size()));
+    }
+
+    private Mono<Void> insert(List<DistributorAuditLog> batch) {
+        return Mono.defer(() -> repository.insertAll(batch))
+                .retryWhen(Retry.backoff(FLUSH_RETRIES, Duration.ofMillis(100)).filter(AuditLogWriter::isTransient))
+                .doOnSuccess(inserted -> writtenRows.increment(batch.size()))
+                .then()
+                .onErrorResume(e -> {
+                    if (batch.size() == 1 || isTransient(e) || Exceptions.isRetryExhausted(e)) {
+                        failedRows.increment(batch.size());
+                        return Mono.empty();
+                    }
+                    int half = batch.size() / 2;
+                    return insert(batch.subList(0, half))
+                            .then(insert(batch.subList(half, batch.size())));
+                });
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof R2dbcTransientException;
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("distributor.audit.writer.rows")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.content;
+
+import com.firefly.core.distributor.models.entities.TermsContentBlob;
+import com.firefly.core.distributor.models.repositories.TermsContentBlobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed store for rendered terms and conditions documents.
+ * <p>
+ * Documents are keyed by the SHA-256 of their UTF-8 content, so identical bodies generated for different
+ * distributors are stored once. Bodies above the compression threshold are gzip-compressed. Resolved
+ * bodies are kept in a cache bounded by their total size, since many rows share the same few documents
+ * and a single document can be arbitrarily large.
+ */
+@Component
+public class TermsContentStore {
+
+    static final String COMPRESSION_NONE = "NONE";
+    static final String COMPRESSION_GZIP = "GZIP";
+
+    private final TermsContentBlobRepository repository;
+    private final int compressionThreshold;
+    private final Cache<String, String> cache;
+
+    public TermsContentStore(
+            TermsContentBlobRepository repository,
+            @Value("${distributor.terms-and-conditions.content-store.compression-threshold:1024}") int compressionThreshold,
+            @Value("${distributor.terms-and-conditions.content-store.cache.max-weight:64MB}") DataSize cacheMaxWeight) {
+        this.repository = repository;
+        this.compressionThreshold = compressionThreshold;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxWeight.toBytes())
+                .weigher(TermsContentStore::weigh)
+                .build();
+    }
+
+    /**
+     * Weigh a cached document by its UTF-16 size, an upper bound of the heap its characters use.
+     */
+    static int weigh(String contentHash, String content) {
+        return (int) Math.min(Integer.MAX_VALUE, 2L * content.length());
+    }
+
+    /**
+     * Compute the content address of a document.
+     *
+     * @param content the document content
+     * @return the hex-encoded SHA-256 of the UTF-8 content
+     */
+    public String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Store a document unless an identical one is already stored.
+     *
+     * @param content the document content
+     * @return a Mono emitting the content hash
+     */
+    public Mono<String> store(String content) {
+        TermsContentBlob blob = toBlob(content);
+        return repository.insertAllIfAbsent(List.of(blob))
+                .doOnSuccess(inserted -> cache.put(blob.getContentHash(), content))
+                .thenReturn(blob.getContentHash());
+    }
+
+    /**
+     * Store a batch of documents with a single multi-row insert, skipping identical and already stored bodies.
+     *
+     * @param contents the document contents
+     * @return a Mono emitting the content hash of each distinct document, keyed by content
+     */
+    public Mono<Map<String, String>> storeAll(Collection<String> contents) {
+        Map<String, String> hashes = new LinkedHashMap<>();
+        List<TermsContentBlob> blobs = new ArrayList<>();
+        for (String content : contents) {
+            if (!hashes.containsKey(content)) {
+                TermsContentBlob blob = toBlob(content);
+                hashes.put(content, blob.getContentHash());
+                blobs.add(blob);
+            }
+        }
+        return repository.insertAllIfAbsent(blobs)
+                .doOnSuccess(inserted -> hashes.forEach((content, hash) -> cache.put(hash, content)))
+                .thenReturn(hashes);
+    }
+
+    /**
+     * Resolve a document by its content hash.
+     *
+     * @param contentHash the content hash
+     * @return a Mono emitting the document content, or empty if no such document is stored
+     */
+    public Mono<String> resolve(String contentHash) {
+        String cached = cache.getIfPresent(contentHash);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return repository.findById(contentHash)
+                .map(this::decode)
+                .doOnNext(content -> cache.put(contentHash, content));
+    }
+
+    /**
+     * Resolve several documents with at most one query.
+     *
+     * @param contentHashes the content hashes
+     * @return a Mono emitting the document contents that are stored, keyed by content hash
+     */
+    public Mono<Map<String, String>> resolveAll(Collection<String> contentHashes) {
+        Map<String, String> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String contentHash : contentHashes) {
+            String cached = cache.getIfPresent(contentHash);
+            if (cached != null) {
+                resolved.put(contentHash, cached);
+            } else {
+                missing.add(contentHash);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return Mono.just(resolved);
+        }
+        return repository.findAllById(missing)
+                .doOnNext(blob -> {
+                    String content = decode(blob);
+                    cache.put(blob.getContentHash(), content);
+                    resolved.put(blob.getContentHash(), content);
+                })
+                .then(Mono.fromSupplier(() -> resolved));
+    }
+
+    private TermsContentBlob toBlob(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        boolean compress = bytes.length >= compressionThreshold;
+        return TermsContentBlob.builder()
+                .contentHash(hash(bytes))
+                .compression(compress ? COMPRESSION_GZIP : COMPRESSION_NONE)
+                .content(compress ? gzip(bytes) : bytes)
+                .contentSize(bytes.length)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String decode(TermsContentBlob blob) {
+        byte[] bytes = COMPRESSION_GZIP.equals(blob.getCompression()) ? gunzip(blob.getContent()) : blob.getContent();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
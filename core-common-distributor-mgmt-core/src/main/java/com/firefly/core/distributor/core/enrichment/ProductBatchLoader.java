@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.enrichment;
+
+import com.firefly.core.distributor.core.services.ProductService;
+import com.firefly.core.distributor.interfaces.dtos.ProductDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Enriches rows with their products using one {@code WHERE id IN (...)} query per batch of rows,
+ * instead of one product lookup per row.
+ * <p>
+ * Products loaded for earlier batches are shared with later batches of the same stream, so each product
+ * is fetched at most once per call. Rows whose product does not exist are emitted unchanged rather than
+ * failing the stream.
+ */
+@Component
+public class ProductBatchLoader {
+
+    private final ProductService productService;
+    private final int batchSize;
+
+    public ProductBatchLoader(
+            ProductService productService,
+            @Value("${distributor.enrichment.batch-size:1000}") int batchSize) {
+        this.productService = productService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Enrich a stream of rows with their products, preserving order.
+     *
+     * @param rows the rows to enrich
+     * @param productId reads the product ID of a row, which may be null
+     * @param enricher applies a product to its row
+     * @param <T> the row type
+     * @return a Flux emitting the enriched rows
+     */
+    public <T> Flux<T> enrich(Flux<T> rows, Function<T, UUID> productId, BiConsumer<T, ProductDTO> enricher) {
+        return Flux.defer(() -> {
+            // Batches are processed one at a time, so the per-call state needs no synchronization
+            Map<UUID, ProductDTO> loaded = new HashMap<>();
+            Set<UUID> missing = new HashSet<>();
+
+            return rows.buffer(batchSize)
+                    .concatMap(batch -> load(batch, productId, loaded, missing)
+                            .thenMany(Flux.fromIterable(batch))
+                            .map(row -> {
+                                UUID id = productId.apply(row);
+                                ProductDTO product = id != null ? loaded.get(id) : null;
+                                if (product != null) {
+                                    enricher.accept(row, product);
+                                }
+                                return row;
+                            }));
+        });
+    }
+
+    /**
+     * Enrich a list of rows in place.
+     *
+     * @param rows the rows to enrich
+     * @param productId reads the product ID of a row, which may be null
+     * @param enricher applies a product to its row
+     * @param <T> the row type
+     * @return a Mono completing when every row is enriched
+     */
+    public <T> Mono<Void> enrichAll(List<T> rows, Function<T, UUID> productId, BiConsumer<T, ProductDTO> enricher) {
+        return enrich(Flux.fromIterable(rows), productId, enricher).then();
+    }
+
+    private <T> Mono<Void> load(List<T> batch, Function<T, UUID> productId, Map<UUID, ProductDTO> loaded, Set<UUID> missing) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (T row : batch) {
+            UUID id = productId.apply(row);
+            if (id != null && !loaded.containsKey(id) && !missing.contains(id)) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return productService.getProductsByIds(ids)
+                .filter(product -> Objects.nonNull(product.getId()))
+                .doOnNext(product -> loaded.put(product.getId(), product))
+                .then(Mono.fromRunnable(() -> ids.stream()
+                        .filter(id -> !loaded.containsKey(id))
+                        .forEach(missing::add)));
+    }
+}
\ No newline at end of file
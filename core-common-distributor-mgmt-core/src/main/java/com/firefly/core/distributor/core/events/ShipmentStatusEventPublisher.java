@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.events;
+
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusEventDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-process multicast of shipment status transitions to streaming subscribers.
+ * <p>
+ * Publishing never blocks on subscribers: each subscriber has its own bounded buffer and loses its oldest
+ * pending events when it falls behind. Events are only delivered to subscribers of this node.
+ */
+@Component
+public class ShipmentStatusEventPublisher {
+
+    private final Sinks.Many<ShipmentStatusEventDTO> sink = Sinks.many().multicast().directBestEffort();
+    private final int subscriberBufferSize;
+
+    public ShipmentStatusEventPublisher(
+            @Value("${distributor.shipments.status-events.subscriber-buffer-size:1024}") int subscriberBufferSize) {
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+    /**
+     * Publish a status transition to the current subscribers.
+     * <p>
+     * Publishers are serialized by a monitor held only for the non-blocking emission, rather than by spinning
+     * on the calling event loop thread until a concurrent emission finishes. An event published while there
+     * are no subscribers is discarded.
+     *
+     * @param event the status transition
+     */
+    public synchronized void publish(ShipmentStatusEventDTO event) {
+        sink.tryEmitNext(event);
+    }
+
+    /**
+     * Subscribe to the status transitions published from now on.
+     *
+     * @return a Flux of status transitions
+     */
+    public Flux<ShipmentStatusEventDTO> events() {
+        return sink.asFlux()
+                .onBackpressureBuffer(subscriberBufferSize, BufferOverflowStrategy.DROP_OLDEST);
+    }
+}
\ No newline at end of file
@@ -19,6 +19,7 @@ package com.firefly.core.distributor.core.mappers;
 
 import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
 import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import io.r2dbc.postgresql.codec.Json;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -43,4 +44,24 @@ public interface DistributorAuditLogMapper {
      * @return the corresponding DistributorAuditLog entity
      */
     DistributorAuditLog toEntity(DistributorAuditLogDTO dto);
+
+    /**
+     * Converts stored JSONB metadata to its JSON text.
+     *
+     * @param json the stored metadata
+     * @return the JSON text
+     */
+    default String toJsonText(Json json) {
+        return json != null ? json.asString() : null;
+    }
+
+    /**
+     * Converts JSON text to metadata stored as JSONB.
+     *
+     * @param text the JSON text
+     * @return the metadata to store
+     */
+    default Json toJson(String text) {
+        return text != null ? Json.of(text) : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.pagination;
+
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Assembles keyset pages from seek queries ordered newest first by a timestamp and the row ID.
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * A seek query returning the rows after a position, newest first.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    public interface SeekQuery<T> {
+
+        /**
+         * Find the rows after the given position.
+         *
+         * @param afterTimestamp the timestamp of the last row of the previous page, or null for the first page
+         * @param afterId the ID of the last row of the previous page, or null for the first page
+         * @param limit the maximum number of rows to return
+         * @return a Flux emitting the rows
+         */
+        Flux<T> find(LocalDateTime afterTimestamp, UUID afterId, int limit);
+    }
+
+    /**
+     * Fetch the page after a cursor.
+     * <p>
+     * One row more than the page size is queried to tell whether another page follows; the cursor of the
+     * last row of the page is returned only if it does. The page size is clamped to between 1 and
+     * {@code maxPageSize}.
+     *
+     * @param cursor the cursor returned with the previous page, or null or blank for the first page
+     * @param size the requested page size
+     * @param maxPageSize the largest page size served
+     * @param query the seek query
+     * @param timestamp reads the ordering timestamp of a row
+     * @param id reads the ID of a row
+     * @param <T> the row type
+     * @return a Mono emitting the page, or an {@link IllegalArgumentException} if the cursor is malformed
+     */
+    public static <T> Mono<KeysetPageDTO<T>> fetchPage(String cursor, int size, int maxPageSize, SeekQuery<T> query,
+                                                       Function<T, LocalDateTime> timestamp, Function<T, UUID> id) {
+        return Mono.defer(() -> {
+            KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+            int limit = Math.max(1, Math.min(size, maxPageSize));
+
+            return query.find(after != null ? after.timestamp() : null, after != null ? after.id() : null, limit + 1)
+                    .collectList()
+                    .map(rows -> {
+                        boolean hasNext = rows.size() > limit;
+                        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+                        T last = content.isEmpty() ? null : content.get(content.size() - 1);
+                        return KeysetPageDTO.<T>builder()
+                                .content(content)
+                                .hasNext(hasNext)
+                                .nextCursor(hasNext ? new KeysetCursor(timestamp.apply(last), id.apply(last)).encode() : null)
+                                .build();
+                    });
+        });
+    }
+}
\ No newline at end of file
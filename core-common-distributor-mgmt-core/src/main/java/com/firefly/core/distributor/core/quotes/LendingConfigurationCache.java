@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.quotes;
+
+import com.firefly.core.distributor.models.entities.LendingConfiguration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the active lending configurations of each product.
+ * <p>
+ * Entries are evicted when a configuration of the product is created, updated or deleted, and expire after
+ * a bounded TTL, which also bounds staleness for changes made on other nodes. Loads that started before an
+ * invalidation are not stored. Hit and miss counts are published as Micrometer cache metrics.
+ */
+@Component
+public class LendingConfigurationCache {
+
+    private final Cache<UUID, List<LendingConfiguration>> activeByProduct;
+    private final AtomicLong generation = new AtomicLong();
+
+    public LendingConfigurationCache(
+            @Value("${distributor.lending-configurations.cache.max-size:10000}") long maxSize,
+            @Value("${distributor.lending-configurations.cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.activeByProduct = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, activeByProduct, "lending-configurations.active-by-product");
+    }
+
+    /**
+     * Get the active lending configurations of a product, loading them on a miss.
+     *
+     * @param productId the product ID
+     * @param loader loads the configurations from the database
+     * @return a Flux emitting the active configurations of the product
+     */
+    public Flux<LendingConfiguration> getActiveByProduct(UUID productId, Supplier<Flux<LendingConfiguration>> loader) {
+        return Mono.defer(() -> {
+            List<LendingConfiguration> cached = activeByProduct.getIfPresent(productId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long loadGeneration = generation.get();
+            return loader.get()
+                    .collectList()
+                    .map(List::copyOf)
+                    .doOnNext(configurations -> {
+                        if (generation.get() == loadGeneration) {
+                            activeByProduct.put(productId, configurations);
+                        }
+                    });
+        }).flatMapMany(Flux::fromIterable);
+    }
+
+    /**
+     * Evict the configurations of a product.
+     *
+     * @param productId the product ID
+     */
+    public void invalidate(UUID productId) {
+        generation.incrementAndGet();
+        if (productId != null) {
+            activeByProduct.invalidate(productId);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.interfaces.dtos.AmortizationScheduleDTO;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationSummaryDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service for computing the amortization schedules of lending contracts.
+ */
+public interface AmortizationService {
+
+    /**
+     * Get the amortization schedule of a lending contract.
+     *
+     * @param lendingContractId the lending contract ID
+     * @return a Mono of the schedule, or empty if the contract does not exist
+     */
+    Mono<AmortizationScheduleDTO> getAmortizationSchedule(UUID lendingContractId);
+
+    /**
+     * Get the schedule totals of every lending contract of a distributor.
+     * Contracts whose schedule cannot be determined, e.g. without a total amount or term, are skipped.
+     *
+     * @param distributorId the distributor ID
+     * @return a Flux of schedule totals
+     */
+    Flux<AmortizationSummaryDTO> getAmortizationSummariesByDistributorId(UUID distributorId);
+}
\ No newline at end of file
@@ -20,6 +20,9 @@ package com.firefly.core.distributor.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
+import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogSearchDTO;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -37,6 +40,7 @@ public interface DistributorAuditLogService {
     
     /**
      * Creates a new distributor audit log based on the provided information.
+     * The entry is queued and written asynchronously in batches, so it may not be readable immediately.
      *
      * @param distributorAuditLogDTO the DTO object containing details of the distributor audit log to be created
      * @return a Mono that emits the created DistributorAuditLogDTO object
@@ -68,4 +72,35 @@ public interface DistributorAuditLogService {
      *         or an empty Mono if the distributor audit log does not exist
      */
     Mono<DistributorAuditLogDTO> getDistributorAuditLogById(UUID distributorAuditLogId);
+
+    /**
+     * Get a page of the audit logs of a distributor matching the search criteria, newest first, using keyset pagination.
+     *
+     * @param distributorId the unique identifier of the distributor
+     * @param search the search criteria
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of audit logs in the page
+     * @return a Mono of the page of audit logs
+     */
+    Mono<KeysetPageDTO<DistributorAuditLogDTO>> getDistributorAuditLogsPage(UUID distributorId, DistributorAuditLogSearchDTO search,
+                                                                           String cursor, int size);
+
+    /**
+     * Validate audit log search criteria before a response is committed, checking the metadata JSON and
+     * jsonpath expression.
+     *
+     * @param search the search criteria
+     * @return a Mono completing when the criteria are valid, or failing with an IllegalArgumentException otherwise
+     */
+    Mono<Void> validateDistributorAuditLogSearch(DistributorAuditLogSearchDTO search);
+
+    /**
+     * Stream every audit log of a distributor matching the search criteria, newest first.
+     * Rows are read in keyset batches, the next one only once the subscriber has consumed the previous one.
+     *
+     * @param distributorId the unique identifier of the distributor
+     * @param search the search criteria
+     * @return a Flux of the matching audit logs
+     */
+    Flux<DistributorAuditLogDTO> exportDistributorAuditLogs(UUID distributorId, DistributorAuditLogSearchDTO search);
 }
\ No newline at end of file
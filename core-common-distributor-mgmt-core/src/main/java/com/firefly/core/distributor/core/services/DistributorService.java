@@ -20,7 +20,9 @@ package com.firefly.core.distributor.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -68,4 +70,12 @@ public interface DistributorService {
      *         or an empty Mono if the distributor does not exist
      */
     Mono<DistributorDTO> getDistributorById(UUID distributorId);
+
+    /**
+     * Retrieves the distributors with the given identifiers in a single query.
+     *
+     * @param distributorIds the unique identifiers of the distributors to retrieve
+     * @return a Flux emitting the distributors that exist; missing identifiers are skipped
+     */
+    Flux<DistributorDTO> getDistributorsByIds(Collection<UUID> distributorIds);
 }
\ No newline at end of file
@@ -24,6 +24,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -47,6 +49,14 @@ public interface DistributorTermsAndConditionsService {
      */
     Mono<DistributorTermsAndConditionsDTO> createDistributorTermsAndConditions(DistributorTermsAndConditionsDTO distributorTermsAndConditionsDTO);
 
+    /**
+     * Creates a batch of distributor terms and conditions using multi-row inserts.
+     *
+     * @param distributorTermsAndConditionsDTOs the terms and conditions to create
+     * @return a reactive {@code Flux} emitting the created terms and conditions, in input order
+     */
+    Flux<DistributorTermsAndConditionsDTO> createDistributorTermsAndConditionsBatch(List<DistributorTermsAndConditionsDTO> distributorTermsAndConditionsDTOs);
+
     /**
      * Updates existing distributor terms and conditions.
      *
@@ -140,6 +150,21 @@ public interface DistributorTermsAndConditionsService {
      */
     Flux<DistributorTermsAndConditionsDTO> getExpiringTermsAndConditions(LocalDateTime expirationDate);
 
+    /**
+     * Gets one page of active terms and conditions expiring before a specific date, using keyset pagination
+     * over (expiration date, ID). Pass a null cursor to get the first page. Content held in the content store
+     * is not resolved; callers that need it can use the returned content hash.
+     *
+     * @param expirationDate the expiration date threshold
+     * @param afterExpirationDate the expiration date of the last row of the previous page, or null
+     * @param afterId the ID of the last row of the previous page, or null
+     * @param limit the maximum number of rows to return
+     * @return a reactive {@code Flux} emitting the page, ordered by expiration date and ID
+     */
+    Flux<DistributorTermsAndConditionsDTO> getExpiringTermsAndConditionsPage(LocalDateTime expirationDate,
+                                                                             LocalDateTime afterExpirationDate,
+                                                                             UUID afterId, int limit);
+
     /**
      * Checks if a distributor has active signed terms and conditions.
      *
@@ -173,4 +198,12 @@ public interface DistributorTermsAndConditionsService {
      * @return a reactive {@code Mono} emitting the updated terms and conditions
      */
     Mono<DistributorTermsAndConditionsDTO> deactivateTermsAndConditions(UUID id, UUID updatedBy);
+
+    /**
+     * Deactivates a batch of terms and conditions in a single statement.
+     *
+     * @param ids the IDs of the terms and conditions to deactivate
+     * @return a reactive {@code Mono} emitting the number of deactivated terms and conditions
+     */
+    Mono<Integer> deactivateTermsAndConditionsBatch(Collection<UUID> ids);
 }
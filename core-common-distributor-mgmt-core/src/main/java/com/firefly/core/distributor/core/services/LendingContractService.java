@@ -19,9 +19,13 @@ package com.firefly.core.distributor.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractApprovalResultDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractSearchDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -111,6 +115,16 @@ public interface LendingContractService {
      */
     Mono<LendingContractDTO> approveLendingContract(UUID id, UUID approvedBy);
 
+    /**
+     * Approve a set of lending contracts and create their shipments in a single transaction.
+     * Only DRAFT and PENDING contracts are approved; the others are reported as skipped.
+     *
+     * @param ids the IDs of the lending contracts to approve
+     * @param approvedBy the ID of the user approving the contracts
+     * @return a Flux of one outcome per distinct ID, in request order, emitted once the transaction commits
+     */
+    Flux<LendingContractApprovalResultDTO> approveLendingContracts(List<UUID> ids, UUID approvedBy);
+
     /**
      * Filter lending contracts based on criteria.
      *
@@ -118,4 +132,16 @@ public interface LendingContractService {
      * @return a PaginationResponse with the filtered lending contracts
      */
     Mono<PaginationResponse<LendingContractDTO>> filterLendingContracts(FilterRequest<LendingContractDTO> filterRequest);
+
+    /**
+     * Get a page of lending contracts matching the search criteria, newest first, using keyset pagination.
+     *
+     * @param search the search criteria
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of lending contracts in the page
+     * @param skipCount whether to skip counting the matching lending contracts
+     * @return a Mono of the page of lending contracts
+     */
+    Mono<KeysetPageDTO<LendingContractDTO>> getLendingContractsPage(LendingContractSearchDTO search, String cursor,
+                                                                     int size, boolean skipCount);
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.interfaces.dtos.LendingPortfolioSummaryDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Service for the lending portfolio aggregates of distributors.
+ */
+public interface LendingPortfolioService {
+
+    /**
+     * Get the lending portfolio aggregates of a distributor: contract counts and amounts by status,
+     * outstanding balance and approvals per period.
+     *
+     * @param distributorId the distributor ID
+     * @param period the approval period: MONTH, QUARTER or YEAR
+     * @param from the first day of the approval range, or null for no lower bound
+     * @param to the last day of the approval range, or null for no upper bound
+     * @return a Mono of the aggregates, or an IllegalArgumentException if the period or range is invalid
+     */
+    Mono<LendingPortfolioSummaryDTO> getPortfolioSummary(UUID distributorId, String period, LocalDate from, LocalDate to);
+}
\ No newline at end of file
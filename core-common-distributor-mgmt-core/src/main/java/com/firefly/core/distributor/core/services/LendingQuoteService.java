@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.interfaces.dtos.LendingQuoteGridDTO;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for quoting the financing options of a product.
+ */
+public interface LendingQuoteService {
+
+    /**
+     * Quote every active lending configuration of a product for each term and down payment combination.
+     * <p>
+     * Terms and down payment percentages outside the limits of a configuration are not quoted for it.
+     * When no terms are given, each configuration is quoted for its minimum, default and maximum term and
+     * every whole year in between. When no down payment percentages are given, each configuration is quoted
+     * for its minimum and default down payment and every 10% up to 50%.
+     *
+     * @param productId the product ID
+     * @param price the price of the product
+     * @param termMonths the terms to quote, or null or empty for the configuration defaults
+     * @param downPaymentPercentages the down payment percentages to quote, or null or empty for the configuration defaults
+     * @return a Mono of the quote grid
+     */
+    Mono<LendingQuoteGridDTO> getLendingQuotes(UUID productId, BigDecimal price, List<Integer> termMonths,
+                                               List<BigDecimal> downPaymentPercentages);
+}
\ No newline at end of file
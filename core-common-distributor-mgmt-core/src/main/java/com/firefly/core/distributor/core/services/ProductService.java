@@ -23,6 +23,7 @@ import com.firefly.core.distributor.interfaces.dtos.ProductCategoryDTO;
 import com.firefly.core.distributor.interfaces.dtos.ProductDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -71,6 +72,14 @@ public interface ProductService {
      */
     Mono<ProductDTO> getProductById(UUID productId);
 
+    /**
+     * Get the products with the given IDs in a single query.
+     *
+     * @param productIds the IDs of the products to retrieve
+     * @return a flux of the products that exist; missing IDs are skipped
+     */
+    Flux<ProductDTO> getProductsByIds(Collection<UUID> productIds);
+
     /**
      * Get all products for a distributor.
      *
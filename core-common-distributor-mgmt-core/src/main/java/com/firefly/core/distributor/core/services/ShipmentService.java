@@ -19,10 +19,16 @@ package com.firefly.core.distributor.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
 import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusEventDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateResultDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -32,9 +38,10 @@ public interface ShipmentService {
 
     /**
      * Create a new shipment.
+     * A tracking number is generated when none is provided; a provided tracking number must not be in use.
      *
      * @param shipmentDTO the shipment to create
-     * @return the created shipment
+     * @return the created shipment, or an IllegalArgumentException if the tracking number is in use
      */
     Mono<ShipmentDTO> createShipment(ShipmentDTO shipmentDTO);
 
@@ -46,6 +53,14 @@ public interface ShipmentService {
      */
     Mono<ShipmentDTO> createShipmentForApprovedContract(LendingContractDTO lendingContractDTO);
 
+    /**
+     * Create one shipment per approved lending contract using multi-row insert statements.
+     *
+     * @param lendingContractDTOs the approved lending contracts
+     * @return a Flux of the created shipments, in lending contract order
+     */
+    Flux<ShipmentDTO> createShipmentsForApprovedContracts(List<LendingContractDTO> lendingContractDTOs);
+
     /**
      * Update an existing shipment.
      *
@@ -113,6 +128,31 @@ public interface ShipmentService {
      */
     Mono<ShipmentDTO> updateShipmentStatus(UUID id, String status, UUID updatedBy);
 
+    /**
+     * Stream shipment status transitions as they happen.
+     * <p>
+     * With {@code since}, the stream first replays the current status of every shipment updated at or after
+     * that time, then continues with live transitions; a transition made during the replay may be delivered twice.
+     *
+     * @param since the time to catch up from, or null for live transitions only
+     * @return a Flux of status transitions that never completes on its own
+     */
+    Flux<ShipmentStatusEventDTO> streamStatusEvents(LocalDateTime since);
+
+    /**
+     * Apply a stream of carrier status updates.
+     * <p>
+     * Updates are resolved by tracking number and applied in batches with multi-row update statements,
+     * following the same shipping and delivery date rules as {@link #updateShipmentStatus}, with the
+     * update timestamp as the date. Updates of the same shipment are applied in stream order. Results
+     * are not enriched with product details.
+     *
+     * @param updates the carrier status updates
+     * @param updatedBy the ID of the user ingesting the updates
+     * @return a Flux emitting one result per update, in stream order
+     */
+    Flux<ShipmentStatusUpdateResultDTO> ingestStatusUpdates(Flux<ShipmentStatusUpdateDTO> updates, UUID updatedBy);
+
     /**
      * Filter shipments based on criteria.
      *
@@ -120,4 +160,18 @@ public interface ShipmentService {
      * @return a PaginationResponse with the filtered shipments
      */
     Mono<PaginationResponse<ShipmentDTO>> filterShipments(FilterRequest<ShipmentDTO> filterRequest);
+
+    /**
+     * Get a page of shipments using keyset (seek) pagination, newest first.
+     * Unlike offset pagination, the cost of a page does not grow with its depth.
+     *
+     * @param status the status to filter by, or null for any
+     * @param productId the product ID to filter by, or null for any
+     * @param lendingContractId the lending contract ID to filter by, or null for any
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of shipments in the page
+     * @return the page of shipments
+     */
+    Mono<KeysetPageDTO<ShipmentDTO>> getShipmentsPage(String status, UUID productId, UUID lendingContractId,
+                                                      String cursor, int size);
 }
\ No newline at end of file
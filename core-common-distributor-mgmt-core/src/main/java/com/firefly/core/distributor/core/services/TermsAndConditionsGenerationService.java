@@ -18,9 +18,15 @@
 package com.firefly.core.distributor.core.services;
 
 import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationRequestDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationResultDTO;
 import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -49,6 +55,18 @@ public interface TermsAndConditionsGenerationService {
      */
     Mono<DistributorTermsAndConditionsDTO> generateFromTemplate(TermsAndConditionsTemplateDTO template, UUID distributorId, Map<String, Object> variables);
 
+    /**
+     * Generate terms and conditions from one template for many distributors.
+     * <p>
+     * The template is loaded and compiled once; requests are rendered in parallel and persisted
+     * in batches. A failure for one distributor is reported in its result and does not stop the stream.
+     *
+     * @param templateId the template ID to use
+     * @param requests the distributors and variables to generate for
+     * @return a reactive {@code Flux} emitting one result per request, in request order
+     */
+    Flux<TermsAndConditionsGenerationResultDTO> bulkGenerateFromTemplate(UUID templateId, Flux<TermsAndConditionsGenerationRequestDTO> requests);
+
     /**
      * Validate template variables against the template's variable definitions.
      *
@@ -84,6 +102,16 @@ public interface TermsAndConditionsGenerationService {
      */
     Mono<String> previewGeneration(UUID templateId, Map<String, Object> variables);
 
+    /**
+     * Preview generated content as a stream of UTF-8 encoded chunks, without building the whole document in memory.
+     *
+     * @param template the template to render
+     * @param variables the variables to substitute
+     * @param bufferFactory the factory used to allocate the response buffers
+     * @return a reactive {@code Flux} emitting the rendered content chunk by chunk
+     */
+    Flux<DataBuffer> streamPreviewGeneration(TermsAndConditionsTemplateDTO template, Map<String, Object> variables, DataBufferFactory bufferFactory);
+
     /**
      * Auto-renew terms and conditions based on template settings.
      *
@@ -92,6 +120,19 @@ public interface TermsAndConditionsGenerationService {
      */
     Mono<DistributorTermsAndConditionsDTO> autoRenewTermsAndConditions(UUID termsAndConditionsId);
 
+    /**
+     * Auto-renew a batch of terms and conditions.
+     * <p>
+     * Rows whose template is missing or does not support auto-renewal are skipped. Renewals are inserted
+     * with a single multi-row insert and the renewed originals are deactivated, so a row is renewed only once.
+     *
+     * @param expiring the terms and conditions to renew
+     * @param templates the templates referenced by the batch, keyed by template ID
+     * @return a reactive {@code Flux} emitting the renewed terms and conditions
+     */
+    Flux<DistributorTermsAndConditionsDTO> autoRenewTermsAndConditionsBatch(List<DistributorTermsAndConditionsDTO> expiring,
+                                                                           Map<UUID, TermsAndConditionsTemplateDTO> templates);
+
     /**
      * Check if terms and conditions need renewal.
      *
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for the batch auto-renewal of expiring terms and conditions.
+ */
+public interface TermsAndConditionsRenewalService {
+
+    /**
+     * Renew every active terms and conditions expiring within the renewal lead time.
+     * <p>
+     * Rows are scanned in keyset-paginated chunks and each chunk is committed together with the
+     * job checkpoint, so an interrupted run resumes after the last committed chunk.
+     *
+     * @return a reactive {@code Mono} emitting the number of terms and conditions renewed by the run
+     */
+    Mono<Long> renewExpiringTermsAndConditions();
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -70,6 +71,14 @@ public interface TermsAndConditionsTemplateService {
      */
     Mono<TermsAndConditionsTemplateDTO> getTemplateById(UUID id);
 
+    /**
+     * Get the templates with the given IDs in a single query.
+     *
+     * @param ids the template IDs
+     * @return a reactive {@code Flux} emitting the templates that exist
+     */
+    Flux<TermsAndConditionsTemplateDTO> getTemplatesByIds(Collection<UUID> ids);
+
     /**
      * Retrieves all active templates.
      *
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services.impl;
+
+import com.firefly.core.distributor.core.amortization.AmortizationCalculator;
+import com.firefly.core.distributor.core.amortization.AmortizationSchedule;
+import com.firefly.core.distributor.core.amortization.AmortizationScheduleCache;
+import com.firefly.core.distributor.core.amortization.LoanTerms;
+import com.firefly.core.distributor.core.services.AmortizationService;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationInstallmentDTO;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationScheduleDTO;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationSummaryDTO;
+import com.firefly.core.distributor.models.entities.LendingConfiguration;
+import com.firefly.core.distributor.models.entities.LendingContract;
+import com.firefly.core.distributor.models.repositories.LendingConfigurationRepository;
+import com.firefly.core.distributor.models.repositories.LendingContractRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the AmortizationService interface.
+ */
+@Service
+public class AmortizationServiceImpl implements AmortizationService {
+
+    @Autowired
+    private LendingContractRepository lendingContractRepository;
+
+    @Autowired
+    private LendingConfigurationRepository lendingConfigurationRepository;
+
+    @Autowired
+    private AmortizationScheduleCache scheduleCache;
+
+    @Value("${distributor.amortization.portfolio-batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Override
+    public Mono<AmortizationScheduleDTO> getAmortizationSchedule(UUID lendingContractId) {
+        return lendingContractRepository.findById(lendingContractId)
+                .flatMap(contract -> findConfiguration(contract.getLendingConfigurationId())
+                        .map(configuration -> schedule(contract, configuration.orElse(null))));
+    }
+
+    @Override
+    public Flux<AmortizationSummaryDTO> getAmortizationSummariesByDistributorId(UUID distributorId) {
+        return Flux.defer(() -> {
+            // Configurations are shared by many contracts, so each is loaded once per call
+            Map<UUID, LendingConfiguration> configurations = new HashMap<>();
+
+            return lendingContractRepository.findByDistributorId(distributorId)
+                    .buffer(batchSize)
+                    .concatMap(batch -> loadConfigurations(batch, configurations)
+                            .thenMany(Flux.defer(() -> Flux.fromIterable(summarize(batch, configurations)))));
+        });
+    }
+
+    private Mono<Optional<LendingConfiguration>> findConfiguration(UUID lendingConfigurationId) {
+        if (lendingConfigurationId == null) {
+            return Mono.just(Optional.empty());
+        }
+        return lendingConfigurationRepository.findById(lendingConfigurationId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private Mono<Void> loadConfigurations(List<LendingContract> batch, Map<UUID, LendingConfiguration> configurations) {
+        Set<UUID> missing = batch.stream()
+                .map(LendingContract::getLendingConfigurationId)
+                .filter(id -> id != null && !configurations.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missing.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return lendingConfigurationRepository.findAllById(missing)
+                .doOnNext(configuration -> configurations.put(configuration.getId(), configuration))
+                .then();
+    }
+
+    /**
+     * Compute the schedule of a contract, reusing the cached schedule of an unchanged contract version.
+     */
+    private AmortizationScheduleDTO schedule(LendingContract contract, LendingConfiguration configuration) {
+        LoanTerms terms = LoanTerms.of(contract, configuration);
+        return scheduleCache.get(contract.getId(), terms, () -> {
+            AmortizationSchedule schedule = AmortizationCalculator.schedule(
+                    terms.principalCents(), terms.scaledAnnualRate(), terms.termMonths());
+
+            List<AmortizationInstallmentDTO> installments = new ArrayList<>(schedule.termMonths());
+            for (int period = 0; period < schedule.termMonths(); period++) {
+                installments.add(AmortizationInstallmentDTO.builder()
+                        .number(period + 1)
+                        .dueDate(terms.startDate() != null ? terms.startDate().plusMonths(period + 1L) : null)
+                        .payment(AmortizationCalculator.fromCents(schedule.payments()[period]))
+                        .principal(AmortizationCalculator.fromCents(schedule.principals()[period]))
+                        .interest(AmortizationCalculator.fromCents(schedule.interests()[period]))
+                        .remainingBalance(AmortizationCalculator.fromCents(schedule.balances()[period]))
+                        .build());
+            }
+
+            return AmortizationScheduleDTO.builder()
+                    .lendingContractId(contract.getId())
+                    .lendingConfigurationId(contract.getLendingConfigurationId())
+                    .principal(AmortizationCalculator.fromCents(terms.principalCents()))
+                    .annualInterestRate(terms.annualInterestRate())
+                    .termMonths(terms.termMonths())
+                    .monthlyPayment(AmortizationCalculator.fromCents(schedule.paymentCents()))
+                    .totalInterest(AmortizationCalculator.fromCents(schedule.totalInterestCents()))
+                    .processingFee(AmortizationCalculator.fromCents(terms.processingFeeCents()))
+                    .totalPayable(AmortizationCalculator.fromCents(
+                            terms.principalCents() + schedule.totalInterestCents() + terms.processingFeeCents()))
+                    .installments(List.copyOf(installments))
+                    .build();
+        });
+    }
+
+    /**
+     * Compute the schedule totals of a batch of contracts in one pass over parallel arrays.
+     */
+    private List<AmortizationSummaryDTO> summarize(List<LendingContract> batch, Map<UUID, LendingConfiguration> configurations) {
+        List<UUID> contractIds = new ArrayList<>(batch.size());
+        List<LoanTerms> terms = new ArrayList<>(batch.size());
+        for (LendingContract contract : batch) {
+            LendingConfiguration configuration = contract.getLendingConfigurationId() != null
+                    ? configurations.get(contract.getLendingConfigurationId())
+                    : null;
+            try {
+                terms.add(LoanTerms.of(contract, configuration));
+                contractIds.add(contract.getId());
+            } catch (IllegalArgumentException e) {
+                // Contracts without an amount or term have no schedule
+            }
+        }
+
+        int count = terms.size();
+        long[] principals = new long[count];
+        long[] rates = new long[count];
+        int[] termMonths = new int[count];
+        for (int i = 0; i < count; i++) {
+            principals[i] = terms.get(i).principalCents();
+            rates[i] = terms.get(i).scaledAnnualRate();
+            termMonths[i] = terms.get(i).termMonths();
+        }
+        long[] payments = new long[count];
+        long[] totalInterest = new long[count];
+        AmortizationCalculator.summarize(count, principals, rates, termMonths, payments, totalInterest);
+
+        List<AmortizationSummaryDTO> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LoanTerms loanTerms = terms.get(i);
+            summaries.add(AmortizationSummaryDTO.builder()
+                    .lendingContractId(contractIds.get(i))
+                    .principal(AmortizationCalculator.fromCents(principals[i]))
+                    .annualInterestRate(loanTerms.annualInterestRate())
+                    .termMonths(termMonths[i])
+                    .monthlyPayment(AmortizationCalculator.fromCents(payments[i]))
+                    .totalInterest(AmortizationCalculator.fromCents(totalInterest[i]))
+                    .processingFee(AmortizationCalculator.fromCents(loanTerms.processingFeeCents()))
+                    .totalPayable(AmortizationCalculator.fromCents(
+                            principals[i] + totalInterest[i] + loanTerms.processingFeeCents()))
+                    .build());
+        }
+        return summaries;
+    }
+}
\ No newline at end of file
@@ -17,18 +17,33 @@
 
 package com.firefly.core.distributor.core.services.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.core.audit.AuditLogWriter;
 import com.firefly.core.distributor.core.mappers.DistributorAuditLogMapper;
+import com.firefly.core.distributor.core.pagination.KeysetPagination;
 import com.firefly.core.distributor.core.services.DistributorAuditLogService;
 import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
+import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogSearchDTO;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.distributor.models.entities.DistributorAuditLog;
 import com.firefly.core.distributor.models.repositories.DistributorAuditLogRepository;
+import com.firefly.core.distributor.models.repositories.DistributorAuditLogSearchCriteria;
+import io.r2dbc.spi.R2dbcException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.BadSqlGrammarException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -41,6 +56,17 @@ public class DistributorAuditLogServiceImpl implements DistributorAuditLogServic
     @Autowired
     private DistributorAuditLogMapper mapper;
 
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Value("${distributor.pagination.max-page-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${distributor.audit.export.batch-size:1000}")
+    private int exportBatchSize = 1000;
+
     @Override
     public Mono<PaginationResponse<DistributorAuditLogDTO>> filterDistributorAuditLogs(FilterRequest<DistributorAuditLogDTO> filterRequest) {
         return FilterUtils
@@ -54,8 +80,17 @@ public class DistributorAuditLogServiceImpl implements DistributorAuditLogServic
     @Override
     public Mono<DistributorAuditLogDTO> createDistributorAuditLog(DistributorAuditLogDTO distributorAuditLogDTO) {
         return Mono.just(distributorAuditLogDTO)
+                // Rejected here so that one malformed entry cannot fail a whole batch of the writer
+                .doOnNext(dto -> validateMetadata(dto.getAuditMetadata()))
                 .map(mapper::toEntity)
-                .flatMap(repository::save)
+                .flatMap(distributorAuditLog -> {
+                    // Assigned here because the row is inserted later, by the writer
+                    distributorAuditLog.setId(UUID.randomUUID());
+                    if (distributorAuditLog.getAuditTimestamp() == null) {
+                        distributorAuditLog.setAuditTimestamp(LocalDateTime.now());
+                    }
+                    return auditLogWriter.write(distributorAuditLog).thenReturn(distributorAuditLog);
+                })
                 .map(mapper::toDTO);
     }
 
@@ -64,6 +99,7 @@ public class DistributorAuditLogServiceImpl implements DistributorAuditLogServic
         return repository.findById(distributorAuditLogId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Distributor audit log not found with ID: " + distributorAuditLogId)))
                 .flatMap(existingDistributorAuditLog -> {
+                    validateMetadata(distributorAuditLogDTO.getAuditMetadata());
                     DistributorAuditLog updatedDistributorAuditLog = mapper.toEntity(distributorAuditLogDTO);
                     updatedDistributorAuditLog.setId(distributorAuditLogId);
                     return repository.save(updatedDistributorAuditLog);
@@ -84,4 +120,103 @@ public class DistributorAuditLogServiceImpl implements DistributorAuditLogServic
                 .switchIfEmpty(Mono.error(new RuntimeException("Distributor audit log not found with ID: " + distributorAuditLogId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    public Mono<KeysetPageDTO<DistributorAuditLogDTO>> getDistributorAuditLogsPage(UUID distributorId, DistributorAuditLogSearchDTO search,
+                                                                                  String cursor, int size) {
+        return Mono.defer(() -> {
+            DistributorAuditLogSearchCriteria criteria = toCriteria(distributorId, search);
+            return KeysetPagination.fetchPage(cursor, size, maxPageSize,
+                            (afterTimestamp, afterId, limit) -> repository.findKeysetPage(criteria, afterTimestamp, afterId, limit)
+                                    .map(mapper::toDTO),
+                            DistributorAuditLogDTO::getAuditTimestamp, DistributorAuditLogDTO::getId)
+                    .onErrorMap(e -> invalidMetadataPath(search, e));
+        });
+    }
+
+    @Override
+    public Mono<Void> validateDistributorAuditLogSearch(DistributorAuditLogSearchDTO search) {
+        return Mono.defer(() -> {
+            toCriteria(null, search);
+            return search != null && search.getMetadataPath() != null
+                    ? repository.validateMetadataPath(search.getMetadataPath())
+                    : Mono.<Void>empty();
+        }).onErrorMap(e -> invalidMetadataPath(search, e));
+    }
+
+    @Override
+    public Flux<DistributorAuditLogDTO> exportDistributorAuditLogs(UUID distributorId, DistributorAuditLogSearchDTO search) {
+        return Flux.defer(() -> {
+            DistributorAuditLogSearchCriteria criteria = toCriteria(distributorId, search);
+            // Each batch is a bounded seek query, so no cursor or transaction stays open for the whole export.
+            // The next batch is only queried once the client has consumed the previous one, so at most one
+            // batch is held per export
+            return exportBatch(criteria, null)
+                    .expand(batch -> batch.size() < exportBatchSize
+                            ? Mono.empty()
+                            : Flux.just(batch.get(batch.size() - 1)).concatMap(last -> exportBatch(criteria, last), 0))
+                    .concatMapIterable(batch -> batch, 1)
+                    .map(mapper::toDTO)
+                    .onErrorMap(e -> invalidMetadataPath(search, e));
+        });
+    }
+
+    private Mono<List<DistributorAuditLog>> exportBatch(DistributorAuditLogSearchCriteria criteria, DistributorAuditLog after) {
+        return repository.findKeysetPage(criteria,
+                        after != null ? after.getAuditTimestamp() : null, after != null ? after.getId() : null, exportBatchSize)
+                .collectList()
+                .filter(batch -> !batch.isEmpty());
+    }
+
+    private DistributorAuditLogSearchCriteria toCriteria(UUID distributorId, DistributorAuditLogSearchDTO search) {
+        DistributorAuditLogSearchCriteria criteria = DistributorAuditLogSearchCriteria.builder()
+                .distributorId(distributorId)
+                .build();
+        if (search != null) {
+            criteria.setAction(search.getAction());
+            criteria.setEntity(search.getEntity());
+            criteria.setEntityId(search.getEntityId());
+            criteria.setFrom(search.getFrom());
+            criteria.setTo(search.getTo());
+            criteria.setMetadataPath(search.getMetadataPath());
+
+            List<String> metadataContains = new ArrayList<>();
+            if (search.getMetadataContains() != null) {
+                validateMetadata(search.getMetadataContains());
+                metadataContains.add(search.getMetadataContains());
+            }
+            if (search.getChangedField() != null) {
+                ObjectNode changed = OBJECT_MAPPER.createObjectNode();
+                changed.putObject("changes").putObject(search.getChangedField());
+                metadataContains.add(changed.toString());
+            }
+            criteria.setMetadataContains(metadataContains.isEmpty() ? null : metadataContains);
+        }
+        return criteria;
+    }
+
+    private static void validateMetadata(String metadata) {
+        if (metadata == null) {
+            return;
+        }
+        try {
+            OBJECT_MAPPER.readTree(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Audit metadata is not valid JSON", e);
+        }
+    }
+
+    // A malformed jsonpath is only detected by the database: as a syntax error when it is parsed, or as an
+    // SQL/JSON data error (SQLState 2203x) when it is evaluated
+    private static Throwable invalidMetadataPath(DistributorAuditLogSearchDTO search, Throwable e) {
+        if (search == null || search.getMetadataPath() == null) {
+            return e;
+        }
+        boolean invalid = e instanceof BadSqlGrammarException;
+        for (Throwable cause = e; cause != null && !invalid; cause = cause.getCause()) {
+            invalid = cause instanceof R2dbcException r2dbcException
+                    && r2dbcException.getSqlState() != null && r2dbcException.getSqlState().startsWith("2203");
+        }
+        return invalid ? new IllegalArgumentException("Invalid metadata path: " + search.getMetadataPath(), e) : e;
+    }
 }
\ No newline at end of file
@@ -22,13 +22,17 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.core.mappers.DistributorMapper;
 import com.firefly.core.distributor.core.services.DistributorService;
+import com.firefly.core.distributor.core.templates.DistributorVariablesCache;
+import com.firefly.core.distributor.core.transactions.AfterCommit;
 import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
 import com.firefly.core.distributor.models.entities.Distributor;
 import com.firefly.core.distributor.models.repositories.DistributorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 @Service
@@ -41,6 +45,9 @@ public class DistributorServiceImpl implements DistributorService {
     @Autowired
     private DistributorMapper mapper;
 
+    @Autowired
+    private DistributorVariablesCache distributorVariablesCache;
+
     @Override
     public Mono<PaginationResponse<DistributorDTO>> filterDistributors(FilterRequest<DistributorDTO> filterRequest) {
         return FilterUtils
@@ -68,6 +75,8 @@ public class DistributorServiceImpl implements DistributorService {
                     updatedDistributor.setId(distributorId);
                     return repository.save(updatedDistributor);
                 })
+                // After commit, so a concurrent load cannot re-cache the variables being replaced
+                .flatMap(saved -> AfterCommit.run(() -> distributorVariablesCache.invalidate(distributorId)).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -75,7 +84,8 @@ public class DistributorServiceImpl implements DistributorService {
     public Mono<Void> deleteDistributor(UUID distributorId) {
         return repository.findById(distributorId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Distributor not found with ID: " + distributorId)))
-                .flatMap(distributor -> repository.deleteById(distributorId));
+                .flatMap(distributor -> repository.deleteById(distributorId))
+                .then(AfterCommit.run(() -> distributorVariablesCache.invalidate(distributorId)));
     }
 
     @Override
@@ -84,4 +94,10 @@ public class DistributorServiceImpl implements DistributorService {
                 .switchIfEmpty(Mono.error(new RuntimeException("Distributor not found with ID: " + distributorId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    public Flux<DistributorDTO> getDistributorsByIds(Collection<UUID> distributorIds) {
+        return repository.findAllById(distributorIds)
+                .map(mapper::toDTO);
+    }
 }
\ No newline at end of file
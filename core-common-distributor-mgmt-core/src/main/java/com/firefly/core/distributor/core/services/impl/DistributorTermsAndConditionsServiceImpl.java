@@ -20,6 +20,8 @@ package com.firefly.core.distributor.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.core.audit.AuditCaptureCallbacks;
+import com.firefly.core.distributor.core.content.TermsContentStore;
 import com.firefly.core.distributor.core.mappers.DistributorTermsAndConditionsMapper;
 import com.firefly.core.distributor.core.services.DistributorTermsAndConditionsService;
 import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
@@ -32,6 +34,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -41,12 +47,20 @@ import java.util.UUID;
 @Transactional
 public class DistributorTermsAndConditionsServiceImpl implements DistributorTermsAndConditionsService {
 
+    /**
+     * Number of rows whose stored content is resolved with a single query on list reads.
+     */
+    private static final int CONTENT_RESOLVE_BATCH_SIZE = 256;
+
     @Autowired
     private DistributorTermsAndConditionsRepository repository;
 
     @Autowired
     private DistributorTermsAndConditionsMapper mapper;
 
+    @Autowired
+    private TermsContentStore contentStore;
+
     @Override
     public Mono<PaginationResponse<DistributorTermsAndConditionsDTO>> filterDistributorTermsAndConditions(FilterRequest<DistributorTermsAndConditionsDTO> filterRequest) {
         return FilterUtils
@@ -54,7 +68,8 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                         DistributorTermsAndConditions.class,
                         mapper::toDTO
                 )
-                .filter(filterRequest);
+                .filter(filterRequest)
+                .flatMap(page -> resolveContents(page.getContent()).thenReturn(page));
     }
 
     @Override
@@ -70,8 +85,46 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                         termsAndConditions.setStatus("DRAFT");
                     }
                 })
-                .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .flatMap(termsAndConditions -> {
+                    String content = termsAndConditions.getContent();
+                    return storeContent(termsAndConditions)
+                            .flatMap(repository::save)
+                            .map(saved -> withContent(mapper.toDTO(saved), content));
+                });
+    }
+
+    @Override
+    public Flux<DistributorTermsAndConditionsDTO> createDistributorTermsAndConditionsBatch(List<DistributorTermsAndConditionsDTO> distributorTermsAndConditionsDTOs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DistributorTermsAndConditions> entities = new ArrayList<>(distributorTermsAndConditionsDTOs.size());
+        for (DistributorTermsAndConditionsDTO dto : distributorTermsAndConditionsDTOs) {
+            DistributorTermsAndConditions termsAndConditions = mapper.toEntity(dto);
+            // IDs are assigned up front so the rows need no RETURNING round trip
+            termsAndConditions.setId(UUID.randomUUID());
+            termsAndConditions.setCreatedAt(now);
+            if (termsAndConditions.getIsActive() == null) {
+                termsAndConditions.setIsActive(true);
+            }
+            if (termsAndConditions.getStatus() == null) {
+                termsAndConditions.setStatus("DRAFT");
+            }
+            entities.add(termsAndConditions);
+        }
+
+        List<String> contents = entities.stream().map(DistributorTermsAndConditions::getContent).toList();
+        return contentStore.storeAll(contents.stream().filter(Objects::nonNull).toList())
+                .flatMap(hashes -> {
+                    for (DistributorTermsAndConditions termsAndConditions : entities) {
+                        if (termsAndConditions.getContent() != null) {
+                            termsAndConditions.setContentHash(hashes.get(termsAndConditions.getContent()));
+                            termsAndConditions.setContent(null);
+                        }
+                    }
+                    return repository.insertAll(entities);
+                })
+                .then(AuditCaptureCallbacks.saved(entities))
+                .thenMany(Flux.range(0, entities.size()))
+                .map(index -> withContent(mapper.toDTO(entities.get(index)), contents.get(index)));
     }
 
     @Override
@@ -83,9 +136,11 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                     updatedTermsAndConditions.setCreatedAt(existingTermsAndConditions.getCreatedAt());
                     updatedTermsAndConditions.setCreatedBy(existingTermsAndConditions.getCreatedBy());
                     updatedTermsAndConditions.setUpdatedAt(LocalDateTime.now());
-                    return repository.save(updatedTermsAndConditions);
-                })
-                .map(mapper::toDTO);
+                    String content = updatedTermsAndConditions.getContent();
+                    return storeContent(updatedTermsAndConditions)
+                            .flatMap(repository::save)
+                            .map(saved -> withContent(mapper.toDTO(saved), content));
+                });
     }
 
     @Override
@@ -96,37 +151,32 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
     @Override
     public Mono<DistributorTermsAndConditionsDTO> getDistributorTermsAndConditionsById(UUID id) {
         return repository.findById(id)
-                .map(mapper::toDTO);
+                .flatMap(this::toResolvedDTO);
     }
 
     @Override
     public Flux<DistributorTermsAndConditionsDTO> getTermsAndConditionsByDistributorId(UUID distributorId) {
-        return repository.findByDistributorId(distributorId)
-                .map(mapper::toDTO);
+        return toResolvedDTOs(repository.findByDistributorId(distributorId));
     }
 
     @Override
     public Flux<DistributorTermsAndConditionsDTO> getActiveTermsAndConditionsByDistributorId(UUID distributorId) {
-        return repository.findByDistributorIdAndIsActiveTrue(distributorId)
-                .map(mapper::toDTO);
+        return toResolvedDTOs(repository.findByDistributorIdAndIsActiveTrue(distributorId));
     }
 
     @Override
     public Flux<DistributorTermsAndConditionsDTO> getTermsAndConditionsByStatus(String status) {
-        return repository.findByStatus(status)
-                .map(mapper::toDTO);
+        return toResolvedDTOs(repository.findByStatus(status));
     }
 
     @Override
     public Flux<DistributorTermsAndConditionsDTO> getTermsAndConditionsByDistributorIdAndStatus(UUID distributorId, String status) {
-        return repository.findByDistributorIdAndStatus(distributorId, status)
-                .map(mapper::toDTO);
+        return toResolvedDTOs(repository.findByDistributorIdAndStatus(distributorId, status));
     }
 
     @Override
     public Flux<DistributorTermsAndConditionsDTO> getTermsAndConditionsByTemplateId(UUID templateId) {
-        return repository.findByTemplateId(templateId)
-                .map(mapper::toDTO);
+        return toResolvedDTOs(repository.findByTemplateId(templateId));
     }
 
     @Override
@@ -138,7 +188,7 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                     termsAndConditions.setUpdatedBy(updatedBy);
                     return repository.save(termsAndConditions);
                 })
-                .map(mapper::toDTO);
+                .flatMap(this::toResolvedDTO);
     }
 
     @Override
@@ -152,13 +202,22 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                     termsAndConditions.setUpdatedBy(signedBy);
                     return repository.save(termsAndConditions);
                 })
-                .map(mapper::toDTO);
+                .flatMap(this::toResolvedDTO);
     }
 
     @Override
     public Flux<DistributorTermsAndConditionsDTO> getExpiringTermsAndConditions(LocalDateTime expirationDate) {
-        return repository.findByExpirationDateBeforeAndIsActiveTrue(expirationDate)
-                .map(mapper::toDTO);
+        return toResolvedDTOs(repository.findByExpirationDateBeforeAndIsActiveTrue(expirationDate));
+    }
+
+    @Override
+    public Flux<DistributorTermsAndConditionsDTO> getExpiringTermsAndConditionsPage(LocalDateTime expirationDate,
+                                                                                    LocalDateTime afterExpirationDate,
+                                                                                    UUID afterId, int limit) {
+        Flux<DistributorTermsAndConditions> page = afterExpirationDate == null || afterId == null
+                ? repository.findExpiringFirstPage(expirationDate, limit)
+                : repository.findExpiringAfter(expirationDate, afterExpirationDate, afterId, limit);
+        return page.map(mapper::toDTO);
     }
 
     @Override
@@ -169,7 +228,7 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
     @Override
     public Mono<DistributorTermsAndConditionsDTO> getLatestTermsAndConditions(UUID distributorId) {
         return repository.findTopByDistributorIdAndIsActiveTrueOrderByCreatedAtDesc(distributorId)
-                .map(mapper::toDTO);
+                .flatMap(this::toResolvedDTO);
     }
 
     @Override
@@ -181,7 +240,7 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                     termsAndConditions.setUpdatedBy(updatedBy);
                     return repository.save(termsAndConditions);
                 })
-                .map(mapper::toDTO);
+                .flatMap(this::toResolvedDTO);
     }
 
     @Override
@@ -193,6 +252,68 @@ public class DistributorTermsAndConditionsServiceImpl implements DistributorTerm
                     termsAndConditions.setUpdatedBy(updatedBy);
                     return repository.save(termsAndConditions);
                 })
-                .map(mapper::toDTO);
+                .flatMap(this::toResolvedDTO);
+    }
+
+    @Override
+    public Mono<Integer> deactivateTermsAndConditionsBatch(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0);
+        }
+        return repository.deactivateAllByIds(ids, LocalDateTime.now());
+    }
+
+    /**
+     * Move the entity's content into the content store, leaving only its hash on the row.
+     */
+    private Mono<DistributorTermsAndConditions> storeContent(DistributorTermsAndConditions termsAndConditions) {
+        if (termsAndConditions.getContent() == null) {
+            return Mono.just(termsAndConditions);
+        }
+        return contentStore.store(termsAndConditions.getContent())
+                .map(contentHash -> {
+                    termsAndConditions.setContentHash(contentHash);
+                    termsAndConditions.setContent(null);
+                    return termsAndConditions;
+                });
+    }
+
+    private DistributorTermsAndConditionsDTO withContent(DistributorTermsAndConditionsDTO dto, String content) {
+        dto.setContent(content);
+        return dto;
+    }
+
+    private Mono<DistributorTermsAndConditionsDTO> toResolvedDTO(DistributorTermsAndConditions termsAndConditions) {
+        DistributorTermsAndConditionsDTO dto = mapper.toDTO(termsAndConditions);
+        return resolveContents(List.of(dto)).thenReturn(dto);
+    }
+
+    private Flux<DistributorTermsAndConditionsDTO> toResolvedDTOs(Flux<DistributorTermsAndConditions> termsAndConditions) {
+        return termsAndConditions
+                .map(mapper::toDTO)
+                .buffer(CONTENT_RESOLVE_BATCH_SIZE)
+                .concatMap(batch -> resolveContents(batch).thenMany(Flux.fromIterable(batch)));
+    }
+
+    /**
+     * Fill in the content of rows that reference the content store, with one lookup for the whole list.
+     */
+    private Mono<Void> resolveContents(List<DistributorTermsAndConditionsDTO> dtos) {
+        List<String> contentHashes = dtos.stream()
+                .filter(dto -> dto.getContent() == null && dto.getContentHash() != null)
+                .map(DistributorTermsAndConditionsDTO::getContentHash)
+                .distinct()
+                .toList();
+
+        if (contentHashes.isEmpty()) {
+            return Mono.empty();
+        }
+        return contentStore.resolveAll(contentHashes)
+                .doOnNext(contents -> dtos.forEach(dto -> {
+                    if (dto.getContent() == null && dto.getContentHash() != null) {
+                        dto.setContent(contents.get(dto.getContentHash()));
+                    }
+                }))
+                .then();
     }
-}
+}
\ No newline at end of file
@@ -21,7 +21,9 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.core.mappers.LendingConfigurationMapper;
+import com.firefly.core.distributor.core.quotes.LendingConfigurationCache;
 import com.firefly.core.distributor.core.services.LendingConfigurationService;
+import com.firefly.core.distributor.core.transactions.AfterCommit;
 import com.firefly.core.distributor.interfaces.dtos.LendingConfigurationDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingTypeDTO;
 import com.firefly.core.distributor.models.entities.LendingConfiguration;
@@ -35,6 +37,9 @@ import java.util.UUID;
 
 /**
  * Implementation of the LendingConfigurationService interface.
+ * <p>
+ * Writes evict the product's cached active configurations only after their transaction commits, so a
+ * concurrent read cannot re-cache the configurations being replaced.
  */
 @Service
 @Transactional
@@ -46,6 +51,9 @@ public class LendingConfigurationServiceImpl implements LendingConfigurationServ
     @Autowired
     private LendingConfigurationMapper mapper;
 
+    @Autowired
+    private LendingConfigurationCache lendingConfigurationCache;
+
     @Override
     public Mono<PaginationResponse<LendingConfigurationDTO>> filterLendingConfigurations(FilterRequest<LendingConfigurationDTO> filterRequest) {
         return FilterUtils
@@ -61,6 +69,8 @@ public class LendingConfigurationServiceImpl implements LendingConfigurationServ
         return Mono.just(lendingConfigurationDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> AfterCommit.run(() -> lendingConfigurationCache.invalidate(saved.getProductId()))
+                        .thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -69,8 +79,13 @@ public class LendingConfigurationServiceImpl implements LendingConfigurationServ
         return repository.findById(lendingConfigurationId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Lending configuration not found with ID: " + lendingConfigurationId)))
                 .flatMap(existingConfig -> {
+                    UUID previousProductId = existingConfig.getProductId();
                     mapper.updateEntityFromDto(lendingConfigurationDTO, existingConfig);
-                    return repository.save(existingConfig);
+                    return repository.save(existingConfig)
+                            .flatMap(saved -> AfterCommit.run(() -> {
+                                lendingConfigurationCache.invalidate(previousProductId);
+                                lendingConfigurationCache.invalidate(saved.getProductId());
+                            }).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -79,7 +94,8 @@ public class LendingConfigurationServiceImpl implements LendingConfigurationServ
     public Mono<Void> deleteLendingConfiguration(UUID lendingConfigurationId) {
         return repository.findById(lendingConfigurationId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Lending configuration not found with ID: " + lendingConfigurationId)))
-                .flatMap(config -> repository.deleteById(lendingConfigurationId));
+                .flatMap(config -> repository.deleteById(lendingConfigurationId)
+                        .then(AfterCommit.run(() -> lendingConfigurationCache.invalidate(config.getProductId()))));
     }
 
     @Override
@@ -97,7 +113,8 @@ public class LendingConfigurationServiceImpl implements LendingConfigurationServ
 
     @Override
     public Flux<LendingConfigurationDTO> getActiveLendingConfigurationsByProductId(UUID productId) {
-        return repository.findByProductIdAndIsActive(productId, true)
+        return lendingConfigurationCache.getActiveByProduct(productId,
+                        () -> repository.findByProductIdAndIsActive(productId, true))
                 .map(mapper::toDTO);
     }
 
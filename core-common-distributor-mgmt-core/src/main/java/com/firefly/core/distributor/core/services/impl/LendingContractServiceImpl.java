@@ -18,21 +18,35 @@
 package com.firefly.core.distributor.core.services.impl;
 
 import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.core.enrichment.ProductBatchLoader;
 import com.firefly.core.distributor.core.mappers.LendingContractMapper;
+import com.firefly.core.distributor.core.pagination.KeysetPagination;
 import com.firefly.core.distributor.core.services.LendingContractService;
-import com.firefly.core.distributor.core.services.ProductService;
 import com.firefly.core.distributor.core.services.ShipmentService;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractApprovalResultDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractSearchDTO;
+import com.firefly.core.distributor.interfaces.dtos.ProductDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
 import com.firefly.core.distributor.models.entities.LendingContract;
 import com.firefly.core.distributor.models.repositories.LendingContractRepository;
+import com.firefly.core.distributor.models.repositories.LendingContractSearchCriteria;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -51,7 +65,13 @@ public class LendingContractServiceImpl implements LendingContractService {
     private ShipmentService shipmentService;
 
     @Autowired
-    private ProductService productService;
+    private ProductBatchLoader productBatchLoader;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Value("${distributor.pagination.max-page-size:500}")
+    private int maxPageSize = 500;
 
     @Override
     @Transactional
@@ -99,30 +119,26 @@ public class LendingContractServiceImpl implements LendingContractService {
 
     @Override
     public Flux<LendingContractDTO> getLendingContractsByDistributorId(UUID distributorId) {
-        return lendingContractRepository.findByDistributorId(distributorId)
-                .map(lendingContractMapper::toDto)
-                .flatMap(this::enrichLendingContractDTO);
+        return enrichLendingContracts(lendingContractRepository.findByDistributorId(distributorId)
+                .map(lendingContractMapper::toDto));
     }
 
     @Override
     public Flux<LendingContractDTO> getLendingContractsByProductId(UUID productId) {
-        return lendingContractRepository.findByProductId(productId)
-                .map(lendingContractMapper::toDto)
-                .flatMap(this::enrichLendingContractDTO);
+        return enrichLendingContracts(lendingContractRepository.findByProductId(productId)
+                .map(lendingContractMapper::toDto));
     }
 
     @Override
     public Flux<LendingContractDTO> getLendingContractsByPartyId(UUID partyId) {
-        return lendingContractRepository.findByPartyId(partyId)
-                .map(lendingContractMapper::toDto)
-                .flatMap(this::enrichLendingContractDTO);
+        return enrichLendingContracts(lendingContractRepository.findByPartyId(partyId)
+                .map(lendingContractMapper::toDto));
     }
 
     @Override
     public Flux<LendingContractDTO> getLendingContractsByStatus(String status) {
-        return lendingContractRepository.findByStatus(status)
-                .map(lendingContractMapper::toDto)
-                .flatMap(this::enrichLendingContractDTO);
+        return enrichLendingContracts(lendingContractRepository.findByStatus(status)
+                .map(lendingContractMapper::toDto));
     }
 
     @Override
@@ -148,21 +164,128 @@ public class LendingContractServiceImpl implements LendingContractService {
     }
 
     @Override
-    public Mono<PaginationResponse<LendingContractDTO>> filterLendingContracts(FilterRequest<LendingContractDTO> filterRequest) {
-        // Simplified implementation - just return all contracts with basic pagination
-        // In a real implementation, this would use proper filtering utilities
+    public Flux<LendingContractApprovalResultDTO> approveLendingContracts(List<UUID> ids, UUID approvedBy) {
+        List<UUID> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Flux.empty();
+        }
 
-        return lendingContractRepository.findAll()
+        // One UPDATE approves every eligible contract and one multi-row INSERT creates their shipments;
+        // outcomes are streamed only after both have committed
+        return lendingContractRepository.approveAll(distinctIds, approvedBy, LocalDateTime.now())
                 .map(lendingContractMapper::toDto)
-                .flatMap(this::enrichLendingContractDTO)
                 .collectList()
-                .map(list -> {
-                    // Create a simple pagination response with all items
-                    // In a real implementation, proper pagination would be applied
-                    return new PaginationResponse<>(list, list.size(), 0, list.size());
+                .flatMap(approved -> shipmentService.createShipmentsForApprovedContracts(approved)
+                        .collectMap(ShipmentDTO::getLendingContractId, ShipmentDTO::getId)
+                        .flatMap(shipmentIds -> describeUnapproved(distinctIds, shipmentIds.keySet())
+                                .map(unapproved -> {
+                                    Map<UUID, LendingContractApprovalResultDTO> results = new HashMap<>(unapproved);
+                                    shipmentIds.forEach((id, shipmentId) -> results.put(id, LendingContractApprovalResultDTO.builder()
+                                            .lendingContractId(id)
+                                            .shipmentId(shipmentId)
+                                            .status("APPROVED")
+                                            .build()));
+                                    return results;
+                                })))
+                .as(transactionalOperator::transactional)
+                .flatMapMany(results -> Flux.fromIterable(distinctIds).map(results::get));
+    }
+
+    /**
+     * Describe why the contracts that were not approved were left unchanged.
+     */
+    private Mono<Map<UUID, LendingContractApprovalResultDTO>> describeUnapproved(List<UUID> ids, Set<UUID> approvedIds) {
+        List<UUID> unapprovedIds = ids.stream()
+                .filter(id -> !approvedIds.contains(id))
+                .toList();
+        if (unapprovedIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return lendingContractRepository.findAllById(unapprovedIds)
+                .collectMap(LendingContract::getId, LendingContract::getStatus)
+                .map(statuses -> {
+                    Map<UUID, LendingContractApprovalResultDTO> results = new HashMap<>();
+                    for (UUID id : unapprovedIds) {
+                        results.put(id, statuses.containsKey(id)
+                                ? LendingContractApprovalResultDTO.builder()
+                                        .lendingContractId(id)
+                                        .status("SKIPPED")
+                                        .error("Lending contract is " + statuses.get(id) + ", only DRAFT or PENDING contracts can be approved")
+                                        .build()
+                                : LendingContractApprovalResultDTO.builder()
+                                        .lendingContractId(id)
+                                        .status("NOT_FOUND")
+                                        .error("Lending contract not found with ID: " + id)
+                                        .build());
+                    }
+                    return results;
                 });
     }
 
+    @Override
+    public Mono<PaginationResponse<LendingContractDTO>> filterLendingContracts(FilterRequest<LendingContractDTO> filterRequest) {
+        // Filtering, sorting and pagination run in SQL; only the returned page is enriched
+        return FilterUtils
+                .createFilter(
+                        LendingContract.class,
+                        lendingContractMapper::toDto
+                )
+                .filter(filterRequest)
+                .flatMap(page -> productBatchLoader.enrichAll(page.getContent(), LendingContractDTO::getProductId,
+                                this::applyProduct)
+                        .thenReturn(page));
+    }
+
+    @Override
+    public Mono<KeysetPageDTO<LendingContractDTO>> getLendingContractsPage(LendingContractSearchDTO search, String cursor,
+                                                                            int size, boolean skipCount) {
+        return Mono.defer(() -> {
+            LendingContractSearchCriteria criteria = toCriteria(search);
+            Mono<KeysetPageDTO<LendingContractDTO>> page = KeysetPagination.fetchPage(cursor, size, maxPageSize,
+                            (afterCreatedAt, afterId, limit) -> lendingContractRepository.findKeysetPage(criteria, afterCreatedAt, afterId, limit)
+                                    .map(lendingContractMapper::toDto),
+                            LendingContractDTO::getCreatedAt, LendingContractDTO::getId)
+                    .flatMap(result -> productBatchLoader.enrichAll(result.getContent(), LendingContractDTO::getProductId, this::applyProduct)
+                            .thenReturn(result));
+
+            if (skipCount) {
+                return page;
+            }
+            return Mono.zip(page, lendingContractRepository.countMatching(criteria))
+                    .map(tuple -> {
+                        tuple.getT1().setTotalElements(tuple.getT2());
+                        return tuple.getT1();
+                    });
+        });
+    }
+
+    private LendingContractSearchCriteria toCriteria(LendingContractSearchDTO search) {
+        if (search == null) {
+            return new LendingContractSearchCriteria();
+        }
+        return LendingContractSearchCriteria.builder()
+                .status(search.getStatus())
+                .distributorId(search.getDistributorId())
+                .partyId(search.getPartyId())
+                .productId(search.getProductId())
+                .startDateFrom(search.getStartDateFrom())
+                .startDateTo(search.getStartDateTo())
+                .createdFrom(search.getCreatedFrom())
+                .createdTo(search.getCreatedTo())
+                .build();
+    }
+
+    /**
+     * Enrich a stream of LendingContractDTOs, loading their products in batches rather than one per row.
+     *
+     * @param lendingContracts the LendingContractDTOs to enrich
+     * @return a Flux emitting the enriched LendingContractDTOs
+     */
+    private Flux<LendingContractDTO> enrichLendingContracts(Flux<LendingContractDTO> lendingContracts) {
+        return productBatchLoader.enrich(lendingContracts, LendingContractDTO::getProductId, this::applyProduct);
+    }
+
     /**
      * Enrich a LendingContractDTO with related data.
      *
@@ -170,16 +293,10 @@ public class LendingContractServiceImpl implements LendingContractService {
      * @return the enriched LendingContractDTO
      */
     private Mono<LendingContractDTO> enrichLendingContractDTO(LendingContractDTO lendingContractDTO) {
-        // Enrich with product data if productId is available
-        if (lendingContractDTO.getProductId() != null) {
-            return productService.getProductById(lendingContractDTO.getProductId())
-                    .map(productDTO -> {
-                        lendingContractDTO.setProductId(productDTO.getId());
-                        return lendingContractDTO;
-                    })
-                    .defaultIfEmpty(lendingContractDTO);
-        }
+        return enrichLendingContracts(Flux.just(lendingContractDTO)).next();
+    }
 
-        return Mono.just(lendingContractDTO);
+    private void applyProduct(LendingContractDTO lendingContractDTO, ProductDTO productDTO) {
+        lendingContractDTO.setProductId(productDTO.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services.impl;
+
+import com.firefly.core.distributor.core.services.LendingPortfolioService;
+import com.firefly.core.distributor.interfaces.dtos.LendingPortfolioApprovalPeriodDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingPortfolioStatusDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingPortfolioSummaryDTO;
+import com.firefly.core.distributor.models.repositories.LendingContractRepository;
+import com.firefly.core.distributor.models.repositories.LendingPortfolioStatusTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of the LendingPortfolioService interface.
+ */
+@Service
+public class LendingPortfolioServiceImpl implements LendingPortfolioService {
+
+    private static final Set<String> PERIODS = Set.of("MONTH", "QUARTER", "YEAR");
+    private static final Set<String> OUTSTANDING_STATUSES = Set.of("APPROVED", "ACTIVE");
+
+    @Autowired
+    private LendingContractRepository lendingContractRepository;
+
+    @Override
+    public Mono<LendingPortfolioSummaryDTO> getPortfolioSummary(UUID distributorId, String period, LocalDate from, LocalDate to) {
+        String approvalPeriod = period != null ? period.toUpperCase(Locale.ROOT) : "MONTH";
+        if (!PERIODS.contains(approvalPeriod)) {
+            return Mono.error(new IllegalArgumentException("Period must be one of: MONTH, QUARTER, YEAR"));
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return Mono.error(new IllegalArgumentException("Approval range start must not be after its end"));
+        }
+
+        Mono<List<LendingPortfolioStatusTotals>> statuses = lendingContractRepository.findStatusTotals(distributorId)
+                .collectList();
+        Mono<List<LendingPortfolioApprovalPeriodDTO>> approvals = lendingContractRepository
+                .findApprovalTotals(distributorId, approvalPeriod.toLowerCase(Locale.ROOT), from, to)
+                .map(totals -> LendingPortfolioApprovalPeriodDTO.builder()
+                        .periodStart(totals.getPeriodStart())
+                        .approvalCount(totals.getApprovalCount())
+                        .approvedAmount(totals.getTotalAmount())
+                        .build())
+                .collectList();
+
+        return Mono.zip(statuses, approvals)
+                .map(tuple -> summarize(distributorId, tuple.getT1(), approvalPeriod, tuple.getT2()));
+    }
+
+    private LendingPortfolioSummaryDTO summarize(UUID distributorId, List<LendingPortfolioStatusTotals> statuses,
+                                                 String period, List<LendingPortfolioApprovalPeriodDTO> approvals) {
+        long contractCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal monthlyPayment = BigDecimal.ZERO;
+        BigDecimal outstandingBalance = BigDecimal.ZERO;
+        for (LendingPortfolioStatusTotals totals : statuses) {
+            contractCount += totals.getContractCount();
+            totalAmount = totalAmount.add(totals.getTotalAmount());
+            monthlyPayment = monthlyPayment.add(totals.getMonthlyPayment());
+            if (OUTSTANDING_STATUSES.contains(totals.getStatus())) {
+                outstandingBalance = outstandingBalance.add(financedAmount(totals));
+            }
+        }
+
+        return LendingPortfolioSummaryDTO.builder()
+                .distributorId(distributorId)
+                .contractCount(contractCount)
+                .totalAmount(totalAmount)
+                .outstandingBalance(outstandingBalance)
+                .averageMonthlyPayment(average(monthlyPayment, contractCount))
+                .statuses(statuses.stream()
+                        .map(totals -> LendingPortfolioStatusDTO.builder()
+                                .status(totals.getStatus())
+                                .contractCount(totals.getContractCount())
+                                .totalAmount(totals.getTotalAmount())
+                                .financedAmount(financedAmount(totals))
+                                .averageMonthlyPayment(average(totals.getMonthlyPayment(), totals.getContractCount()))
+                                .build())
+                        .toList())
+                .period(period)
+                .approvals(approvals)
+                .build();
+    }
+
+    private static BigDecimal financedAmount(LendingPortfolioStatusTotals totals) {
+        return totals.getTotalAmount().subtract(totals.getDownPayment());
+    }
+
+    private static BigDecimal average(BigDecimal sum, long count) {
+        return count == 0 ? null : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services.impl;
+
+import com.firefly.core.distributor.core.amortization.AmortizationCalculator;
+import com.firefly.core.distributor.core.quotes.LendingConfigurationCache;
+import com.firefly.core.distributor.core.services.LendingQuoteService;
+import com.firefly.core.distributor.interfaces.dtos.LendingQuoteDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingQuoteGridDTO;
+import com.firefly.core.distributor.models.entities.LendingConfiguration;
+import com.firefly.core.distributor.models.repositories.LendingConfigurationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Implementation of the LendingQuoteService interface.
+ */
+@Service
+public class LendingQuoteServiceImpl implements LendingQuoteService {
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MAX_TERM_MONTHS = 600;
+    private static final int MAX_QUOTES_PER_CONFIGURATION = 1000;
+    private static final long DOWN_PAYMENT_STEP = AmortizationCalculator.toScaledRate(BigDecimal.TEN);
+    private static final long MAX_DEFAULT_DOWN_PAYMENT = AmortizationCalculator.toScaledRate(BigDecimal.valueOf(50));
+    private static final long FULL_PRICE = AmortizationCalculator.toScaledRate(BigDecimal.valueOf(100));
+
+    @Autowired
+    private LendingConfigurationRepository lendingConfigurationRepository;
+
+    @Autowired
+    private LendingConfigurationCache lendingConfigurationCache;
+
+    @Override
+    public Mono<LendingQuoteGridDTO> getLendingQuotes(UUID productId, BigDecimal price, List<Integer> termMonths,
+                                                      List<BigDecimal> downPaymentPercentages) {
+        if (price == null || price.signum() <= 0) {
+            return Mono.error(new IllegalArgumentException("Price must be positive: " + price));
+        }
+        if (termMonths != null && termMonths.stream().anyMatch(term -> term != null && (term < 1 || term > MAX_TERM_MONTHS))) {
+            return Mono.error(new IllegalArgumentException("Terms must be between 1 and " + MAX_TERM_MONTHS + " months: " + termMonths));
+        }
+        if (termMonths != null && downPaymentPercentages != null
+                && (long) termMonths.size() * downPaymentPercentages.size() > MAX_QUOTES_PER_CONFIGURATION) {
+            return Mono.error(new IllegalArgumentException("At most " + MAX_QUOTES_PER_CONFIGURATION
+                    + " term and down payment combinations can be quoted"));
+        }
+        long priceCents = AmortizationCalculator.toCents(price);
+
+        // Configurations are independent, so their grids are computed in parallel and reassembled in order
+        return lendingConfigurationCache.getActiveByProduct(productId,
+                        () -> lendingConfigurationRepository.findByProductIdAndIsActive(productId, true))
+                .flatMapSequential(configuration -> Mono.fromCallable(
+                                () -> quote(configuration, priceCents, termMonths, downPaymentPercentages))
+                        .subscribeOn(Schedulers.parallel()))
+                .flatMapIterable(quotes -> quotes)
+                .collectList()
+                .map(quotes -> LendingQuoteGridDTO.builder()
+                        .productId(productId)
+                        .price(AmortizationCalculator.fromCents(priceCents))
+                        .quotes(quotes)
+                        .build());
+    }
+
+    /**
+     * Quote one configuration for every allowed term and down payment, summarizing the whole grid in one pass.
+     */
+    private List<LendingQuoteDTO> quote(LendingConfiguration configuration, long priceCents, List<Integer> termMonths,
+                                        List<BigDecimal> downPaymentPercentages) {
+        int[] terms = terms(configuration, termMonths);
+        long[] downPayments = downPaymentPercentages(configuration, downPaymentPercentages);
+        long scaledRate = AmortizationCalculator.toScaledRate(configuration.getInterestRate());
+        long scaledFee = AmortizationCalculator.toScaledRate(configuration.getProcessingFeePercentage());
+
+        int count = terms.length * downPayments.length;
+        if (count > MAX_QUOTES_PER_CONFIGURATION) {
+            throw new IllegalArgumentException("At most " + MAX_QUOTES_PER_CONFIGURATION
+                    + " term and down payment combinations can be quoted per lending configuration");
+        }
+        long[] principals = new long[count];
+        long[] rates = new long[count];
+        int[] gridTerms = new int[count];
+        int cell = 0;
+        for (int term : terms) {
+            for (long downPayment : downPayments) {
+                principals[cell] = priceCents - AmortizationCalculator.percentageOfCents(priceCents, downPayment);
+                rates[cell] = scaledRate;
+                gridTerms[cell] = term;
+                cell++;
+            }
+        }
+        long[] payments = new long[count];
+        long[] totalInterest = new long[count];
+        AmortizationCalculator.summarize(count, principals, rates, gridTerms, payments, totalInterest);
+
+        BigDecimal annualInterestRate = AmortizationCalculator.fromScaledRate(scaledRate);
+        List<LendingQuoteDTO> quotes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long processingFee = AmortizationCalculator.percentageOfCents(principals[i], scaledFee);
+            quotes.add(LendingQuoteDTO.builder()
+                    .lendingConfigurationId(configuration.getId())
+                    .lendingConfigurationName(configuration.getName())
+                    .termMonths(gridTerms[i])
+                    .downPaymentPercentage(AmortizationCalculator.fromScaledRate(downPayments[i % downPayments.length]))
+                    .downPayment(AmortizationCalculator.fromCents(priceCents - principals[i]))
+                    .financedAmount(AmortizationCalculator.fromCents(principals[i]))
+                    .annualInterestRate(annualInterestRate)
+                    .monthlyPayment(AmortizationCalculator.fromCents(payments[i]))
+                    .totalInterest(AmortizationCalculator.fromCents(totalInterest[i]))
+                    .processingFee(AmortizationCalculator.fromCents(processingFee))
+                    .totalPayable(AmortizationCalculator.fromCents(priceCents + totalInterest[i] + processingFee))
+                    .build());
+        }
+        return quotes;
+    }
+
+    private int[] terms(LendingConfiguration configuration, List<Integer> requested) {
+        if (configuration.getMaxTermMonths() == null) {
+            throw new IllegalArgumentException("Lending configuration has no maximum term: " + configuration.getId());
+        }
+        int min = configuration.getMinTermMonths() != null ? configuration.getMinTermMonths() : 1;
+        int max = Math.min(configuration.getMaxTermMonths(), MAX_TERM_MONTHS);
+        TreeSet<Integer> terms = new TreeSet<>();
+        if (requested != null && !requested.isEmpty()) {
+            requested.stream().filter(Objects::nonNull).forEach(terms::add);
+        } else {
+            if (configuration.getMinTermMonths() != null) {
+                terms.add(configuration.getMinTermMonths());
+            }
+            if (configuration.getDefaultTermMonths() != null) {
+                terms.add(configuration.getDefaultTermMonths());
+            }
+            terms.add(max);
+            for (int term = MONTHS_PER_YEAR; term < max; term += MONTHS_PER_YEAR) {
+                terms.add(term);
+            }
+        }
+        return terms.stream()
+                .filter(term -> term >= Math.max(1, min) && term <= max)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private long[] downPaymentPercentages(LendingConfiguration configuration, List<BigDecimal> requested) {
+        long min = AmortizationCalculator.toScaledRate(configuration.getMinDownPaymentPercentage());
+        TreeSet<Long> percentages = new TreeSet<>();
+        if (requested != null && !requested.isEmpty()) {
+            requested.forEach(percentage -> percentages.add(AmortizationCalculator.toScaledRate(percentage)));
+        } else {
+            percentages.add(min);
+            if (configuration.getDefaultDownPaymentPercentage() != null) {
+                percentages.add(AmortizationCalculator.toScaledRate(configuration.getDefaultDownPaymentPercentage()));
+            }
+            for (long percentage = DOWN_PAYMENT_STEP; percentage <= MAX_DEFAULT_DOWN_PAYMENT; percentage += DOWN_PAYMENT_STEP) {
+                percentages.add(percentage);
+            }
+        }
+        return percentages.stream()
+                .filter(percentage -> percentage >= min && percentage < FULL_PRICE)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
\ No newline at end of file
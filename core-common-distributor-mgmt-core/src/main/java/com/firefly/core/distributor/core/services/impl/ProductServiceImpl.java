@@ -31,6 +31,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -89,6 +90,15 @@ public class ProductServiceImpl implements ProductService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Flux<ProductDTO> getProductsByIds(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return repository.findAllById(productIds)
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Flux<ProductDTO> getProductsByDistributorId(UUID distributorId) {
         return repository.findByDistributorId(distributorId)
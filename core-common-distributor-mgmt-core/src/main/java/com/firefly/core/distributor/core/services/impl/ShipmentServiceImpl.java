@@ -18,22 +18,47 @@
 package com.firefly.core.distributor.core.services.impl;
 
 import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.core.audit.AuditCaptureCallbacks;
+import com.firefly.core.distributor.core.enrichment.ProductBatchLoader;
+import com.firefly.core.distributor.core.events.ShipmentStatusEventPublisher;
 import com.firefly.core.distributor.core.mappers.ShipmentMapper;
-import com.firefly.core.distributor.core.services.ProductService;
+import com.firefly.core.distributor.core.pagination.KeysetPagination;
 import com.firefly.core.distributor.core.services.ShipmentService;
+import com.firefly.core.distributor.core.tracking.TrackingNumberGenerator;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
+import com.firefly.core.distributor.interfaces.dtos.ProductDTO;
 import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusEventDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateResultDTO;
 import com.firefly.core.distributor.models.entities.Shipment;
 import com.firefly.core.distributor.models.repositories.ShipmentRepository;
+import com.firefly.core.distributor.models.repositories.ShipmentStatusChange;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the ShipmentService interface.
@@ -41,6 +66,8 @@ import java.util.UUID;
 @Service
 public class ShipmentServiceImpl implements ShipmentService {
 
+    private static final int MAX_TRACKING_NUMBER_ATTEMPTS = 5;
+
     @Autowired
     private ShipmentRepository shipmentRepository;
 
@@ -48,21 +75,49 @@ public class ShipmentServiceImpl implements ShipmentService {
     private ShipmentMapper shipmentMapper;
 
     @Autowired
-    private ProductService productService;
+    private ProductBatchLoader productBatchLoader;
+
+    @Autowired
+    private ShipmentStatusEventPublisher statusEventPublisher;
+
+    @Autowired
+    private TrackingNumberGenerator trackingNumberGenerator;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Value("${distributor.shipments.status-events.subscriber-buffer-size:1024}")
+    private int statusEventBufferSize = 1024;
+
+    @Value("${distributor.pagination.max-page-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${distributor.shipments.status-ingestion.batch-size:1000}")
+    private int statusIngestionBatchSize = 1000;
 
     @Override
     @Transactional
     public Mono<ShipmentDTO> createShipment(ShipmentDTO shipmentDTO) {
         Shipment shipment = shipmentMapper.toEntity(shipmentDTO);
+        if (shipment.getId() == null) {
+            shipment.setId(UUID.randomUUID());
+        }
         shipment.setCreatedAt(LocalDateTime.now());
         
         // Generate tracking number if not provided
         if (shipment.getTrackingNumber() == null || shipment.getTrackingNumber().isEmpty()) {
-            shipment.setTrackingNumber(generateTrackingNumber());
+            shipment.setTrackingNumber(trackingNumberGenerator.next());
+            return insertWithGeneratedTrackingNumbers(List.of(shipment), 1)
+                    .then(AuditCaptureCallbacks.saved(List.of(shipment)))
+                    .thenReturn(shipment)
+                    .map(shipmentMapper::toDto);
         }
         
-        return shipmentRepository.save(shipment)
-                .map(shipmentMapper::toDto);
+        return shipmentRepository.insertAll(List.of(shipment))
+                .flatMap(inserted -> inserted == 0
+                        ? Mono.<ShipmentDTO>error(new IllegalArgumentException(
+                                "Shipment already exists with tracking number: " + shipment.getTrackingNumber()))
+                        : AuditCaptureCallbacks.saved(List.of(shipment)).thenReturn(shipmentMapper.toDto(shipment)));
     }
 
     @Override
@@ -81,6 +136,29 @@ public class ShipmentServiceImpl implements ShipmentService {
 
     @Override
     @Transactional
+    public Flux<ShipmentDTO> createShipmentsForApprovedContracts(List<LendingContractDTO> lendingContractDTOs) {
+        return Flux.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Shipment> shipments = lendingContractDTOs.stream()
+                    .map(lendingContractDTO -> Shipment.builder()
+                            .id(UUID.randomUUID())
+                            .lendingContractId(lendingContractDTO.getId())
+                            .productId(lendingContractDTO.getProductId())
+                            .trackingNumber(trackingNumberGenerator.next())
+                            .status("PENDING")
+                            .createdAt(now)
+                            .createdBy(lendingContractDTO.getApprovedBy())
+                            .build())
+                    .toList();
+
+            return insertWithGeneratedTrackingNumbers(shipments, 1)
+                    .then(AuditCaptureCallbacks.saved(shipments))
+                    .thenMany(Flux.fromIterable(shipments))
+                    .map(shipmentMapper::toDto);
+        });
+    }
+
+    @Override
     public Mono<ShipmentDTO> updateShipment(UUID id, ShipmentDTO shipmentDTO) {
         return shipmentRepository.findById(id)
                 .flatMap(existingShipment -> {
@@ -90,9 +168,14 @@ public class ShipmentServiceImpl implements ShipmentService {
                     updatedShipment.setCreatedBy(existingShipment.getCreatedBy());
                     updatedShipment.setUpdatedAt(LocalDateTime.now());
                     
-                    return shipmentRepository.save(updatedShipment);
+                    String previousStatus = existingShipment.getStatus();
+                    return shipmentRepository.save(updatedShipment)
+                            .map(saved -> new StatusTransition(previousStatus, saved));
                 })
-                .map(shipmentMapper::toDto);
+                .as(transactionalOperator::transactional)
+                // Subscribers only see transitions that have committed
+                .doOnNext(transition -> publishStatusChange(transition.previousStatus(), transition.shipment()))
+                .map(transition -> shipmentMapper.toDto(transition.shipment()));
     }
 
     @Override
@@ -117,30 +200,27 @@ public class ShipmentServiceImpl implements ShipmentService {
 
     @Override
     public Flux<ShipmentDTO> getShipmentsByLendingContractId(UUID lendingContractId) {
-        return shipmentRepository.findByLendingContractId(lendingContractId)
-                .map(shipmentMapper::toDto)
-                .flatMap(this::enrichShipmentDTO);
+        return enrichShipments(shipmentRepository.findByLendingContractId(lendingContractId)
+                .map(shipmentMapper::toDto));
     }
 
     @Override
     public Flux<ShipmentDTO> getShipmentsByProductId(UUID productId) {
-        return shipmentRepository.findByProductId(productId)
-                .map(shipmentMapper::toDto)
-                .flatMap(this::enrichShipmentDTO);
+        return enrichShipments(shipmentRepository.findByProductId(productId)
+                .map(shipmentMapper::toDto));
     }
 
     @Override
     public Flux<ShipmentDTO> getShipmentsByStatus(String status) {
-        return shipmentRepository.findByStatus(status)
-                .map(shipmentMapper::toDto)
-                .flatMap(this::enrichShipmentDTO);
+        return enrichShipments(shipmentRepository.findByStatus(status)
+                .map(shipmentMapper::toDto));
     }
 
     @Override
-    @Transactional
     public Mono<ShipmentDTO> updateShipmentStatus(UUID id, String status, UUID updatedBy) {
         return shipmentRepository.findById(id)
                 .flatMap(shipment -> {
+                    String previousStatus = shipment.getStatus();
                     shipment.setStatus(status);
                     shipment.setUpdatedAt(LocalDateTime.now());
                     shipment.setUpdatedBy(updatedBy);
@@ -155,28 +235,212 @@ public class ShipmentServiceImpl implements ShipmentService {
                         shipment.setActualDeliveryDate(LocalDateTime.now());
                     }
                     
-                    return shipmentRepository.save(shipment);
+                    return shipmentRepository.save(shipment)
+                            .map(saved -> new StatusTransition(previousStatus, saved));
                 })
-                .map(shipmentMapper::toDto)
+                .as(transactionalOperator::transactional)
+                // Subscribers only see transitions that have committed
+                .doOnNext(transition -> publishStatusChange(transition.previousStatus(), transition.shipment()))
+                .map(transition -> shipmentMapper.toDto(transition.shipment()))
                 .flatMap(this::enrichShipmentDTO);
     }
 
     @Override
-    public Mono<PaginationResponse<ShipmentDTO>> filterShipments(FilterRequest<ShipmentDTO> filterRequest) {
-        // Simplified implementation - just return all shipments with basic pagination
-        // In a real implementation, this would use proper filtering utilities
-        
-        return shipmentRepository.findAll()
-                .map(shipmentMapper::toDto)
-                .flatMap(this::enrichShipmentDTO)
-                .collectList()
-                .map(list -> {
-                    // Create a simple pagination response with all items
-                    // In a real implementation, proper pagination would be applied
-                    return new PaginationResponse<>(list, list.size(), 0, list.size());
+    public Flux<ShipmentStatusEventDTO> streamStatusEvents(LocalDateTime since) {
+        if (since == null) {
+            return statusEventPublisher.events();
+        }
+
+        return Flux.defer(() -> {
+            // Subscribe to live events before querying so transitions made during the catch-up are not missed;
+            // like the publisher's per-subscriber buffer, events beyond the buffer size are dropped
+            Sinks.Many<ShipmentStatusEventDTO> pending = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<ShipmentStatusEventDTO>get(statusEventBufferSize).get());
+            Disposable live = statusEventPublisher.events().subscribe(pending::tryEmitNext);
+
+            Flux<ShipmentStatusEventDTO> catchUp = shipmentRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(since)
+                    .map(shipment -> toStatusEvent(null, shipment));
+            return Flux.concat(catchUp, pending.asFlux())
+                    .doFinally(signal -> live.dispose());
+        });
+    }
+
+    @Override
+    public Flux<ShipmentStatusUpdateResultDTO> ingestStatusUpdates(Flux<ShipmentStatusUpdateDTO> updates, UUID updatedBy) {
+        return updates
+                .buffer(statusIngestionBatchSize)
+                .concatMap(batch -> ingestStatusBatch(batch, updatedBy));
+    }
+
+    private Flux<ShipmentStatusUpdateResultDTO> ingestStatusBatch(List<ShipmentStatusUpdateDTO> batch, UUID updatedBy) {
+        Set<String> trackingNumbers = batch.stream()
+                .filter(ShipmentServiceImpl::isValidStatusUpdate)
+                .map(ShipmentStatusUpdateDTO::getTrackingNumber)
+                .collect(Collectors.toSet());
+
+        Flux<Shipment> resolved = trackingNumbers.isEmpty()
+                ? Flux.empty()
+                : shipmentRepository.findByTrackingNumberIn(trackingNumbers);
+        return resolved
+                .collectMultimap(Shipment::getTrackingNumber)
+                .flatMapMany(shipmentsByTrackingNumber -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    ShipmentStatusUpdateResultDTO[] results = new ShipmentStatusUpdateResultDTO[batch.size()];
+                    Map<UUID, String> currentStatuses = new HashMap<>();
+
+                    // A single update statement can change each shipment once, so repeated updates of a
+                    // shipment go to later rounds, which keeps them in stream order
+                    List<List<Integer>> rounds = new ArrayList<>();
+                    Map<UUID, Integer> updatesPerShipment = new HashMap<>();
+                    List<UUID> shipmentIds = new ArrayList<>(Collections.nCopies(batch.size(), null));
+                    for (int i = 0; i < batch.size(); i++) {
+                        ShipmentStatusUpdateDTO update = batch.get(i);
+                        if (!isValidStatusUpdate(update)) {
+                            results[i] = statusUpdateResult(update, null, "FAILED", "Tracking number and status are required");
+                            continue;
+                        }
+                        Collection<Shipment> shipments = shipmentsByTrackingNumber.get(update.getTrackingNumber());
+                        if (shipments == null) {
+                            results[i] = statusUpdateResult(update, null, "NOT_FOUND", null);
+                            continue;
+                        }
+                        if (shipments.size() > 1) {
+                            results[i] = statusUpdateResult(update, null, "FAILED", "Tracking number matches multiple shipments");
+                            continue;
+                        }
+                        Shipment shipment = shipments.iterator().next();
+                        currentStatuses.putIfAbsent(shipment.getId(), shipment.getStatus());
+                        shipmentIds.set(i, shipment.getId());
+                        int round = updatesPerShipment.merge(shipment.getId(), 1, Integer::sum) - 1;
+                        if (round == rounds.size()) {
+                            rounds.add(new ArrayList<>());
+                        }
+                        rounds.get(round).add(i);
+                    }
+
+                    // Each round commits on its own, so the batch's audit entries are flushed even when a later
+                    // round fails; flushing per batch keeps the rounds' before states for repeated updates
+                    return Flux.fromIterable(rounds)
+                            .concatMap(round -> applyStatusRound(batch, round, shipmentIds, currentStatuses, results, now, updatedBy))
+                            .then(AuditCaptureCallbacks.flush())
+                            .onErrorResume(e -> AuditCaptureCallbacks.flush().then(Mono.error(e)))
+                            .thenMany(Flux.defer(() -> Flux.fromArray(results)));
                 });
     }
-    
+
+    private Mono<Void> applyStatusRound(List<ShipmentStatusUpdateDTO> batch, List<Integer> round, List<UUID> shipmentIds,
+                                        Map<UUID, String> currentStatuses, ShipmentStatusUpdateResultDTO[] results,
+                                        LocalDateTime now, UUID updatedBy) {
+        List<ShipmentStatusChange> changes = round.stream()
+                .map(i -> ShipmentStatusChange.builder()
+                        .shipmentId(shipmentIds.get(i))
+                        .status(batch.get(i).getStatus())
+                        .changedAt(batch.get(i).getTimestamp() != null ? batch.get(i).getTimestamp() : now)
+                        .build())
+                .toList();
+
+        return AuditCaptureCallbacks.saved(shipmentRepository.updateStatuses(changes, now, updatedBy))
+                .collectMap(Shipment::getId)
+                .doOnNext(updated -> {
+                    for (int i : round) {
+                        Shipment shipment = updated.get(shipmentIds.get(i));
+                        if (shipment == null) {
+                            // Deleted after it was resolved
+                            results[i] = statusUpdateResult(batch.get(i), null, "NOT_FOUND", null);
+                            continue;
+                        }
+                        results[i] = statusUpdateResult(batch.get(i), shipment.getId(), "UPDATED", null);
+                        publishStatusChange(currentStatuses.put(shipment.getId(), shipment.getStatus()), shipment);
+                    }
+                })
+                .then();
+    }
+
+    private static boolean isValidStatusUpdate(ShipmentStatusUpdateDTO update) {
+        return update.getTrackingNumber() != null && !update.getTrackingNumber().isBlank()
+                && update.getStatus() != null && !update.getStatus().isBlank();
+    }
+
+    private static ShipmentStatusUpdateResultDTO statusUpdateResult(ShipmentStatusUpdateDTO update, UUID shipmentId,
+                                                                   String status, String error) {
+        return ShipmentStatusUpdateResultDTO.builder()
+                .trackingNumber(update.getTrackingNumber())
+                .shipmentId(shipmentId)
+                .status(status)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Publish a status transition to streaming subscribers if the status changed.
+     */
+    private void publishStatusChange(String previousStatus, Shipment shipment) {
+        if (shipment != null && !Objects.equals(previousStatus, shipment.getStatus())) {
+            statusEventPublisher.publish(toStatusEvent(previousStatus, shipment));
+        }
+    }
+
+    /**
+     * A saved shipment together with its status before the change.
+     */
+    private record StatusTransition(String previousStatus, Shipment shipment) {
+    }
+
+    private ShipmentStatusEventDTO toStatusEvent(String previousStatus, Shipment shipment) {
+        return ShipmentStatusEventDTO.builder()
+                .shipmentId(shipment.getId())
+                .lendingContractId(shipment.getLendingContractId())
+                .trackingNumber(shipment.getTrackingNumber())
+                .previousStatus(previousStatus)
+                .status(shipment.getStatus())
+                .changedAt(shipment.getUpdatedAt())
+                .changedBy(shipment.getUpdatedBy())
+                .build();
+    }
+
+    @Override
+    public Mono<PaginationResponse<ShipmentDTO>> filterShipments(FilterRequest<ShipmentDTO> filterRequest) {
+        // Filtering, sorting and pagination run in SQL; only the returned page is enriched
+        return FilterUtils
+                .createFilter(
+                        Shipment.class,
+                        shipmentMapper::toDto
+                )
+                .filter(filterRequest)
+                .flatMap(page -> enrichShipments(page.getContent()).thenReturn(page));
+    }
+
+    @Override
+    public Mono<KeysetPageDTO<ShipmentDTO>> getShipmentsPage(String status, UUID productId, UUID lendingContractId,
+                                                             String cursor, int size) {
+        return KeysetPagination.fetchPage(cursor, size, maxPageSize,
+                        (afterCreatedAt, afterId, limit) -> shipmentRepository.findKeysetPage(status, productId, lendingContractId,
+                                        afterCreatedAt, afterId, limit)
+                                .map(shipmentMapper::toDto),
+                        ShipmentDTO::getCreatedAt, ShipmentDTO::getId)
+                .flatMap(page -> enrichShipments(page.getContent()).thenReturn(page));
+    }
+
+    /**
+     * Enrich a page of ShipmentDTOs in place.
+     *
+     * @param shipments the ShipmentDTOs to enrich
+     * @return a Mono completing when every ShipmentDTO is enriched
+     */
+    private Mono<Void> enrichShipments(List<ShipmentDTO> shipments) {
+        return productBatchLoader.enrichAll(shipments, ShipmentDTO::getProductId, this::applyProduct);
+    }
+
+    /**
+     * Enrich a stream of ShipmentDTOs, loading their products in batches rather than one per row.
+     *
+     * @param shipments the ShipmentDTOs to enrich
+     * @return a Flux emitting the enriched ShipmentDTOs
+     */
+    private Flux<ShipmentDTO> enrichShipments(Flux<ShipmentDTO> shipments) {
+        return productBatchLoader.enrich(shipments, ShipmentDTO::getProductId, this::applyProduct);
+    }
+
     /**
      * Enrich a ShipmentDTO with related data.
      *
@@ -184,25 +448,38 @@ public class ShipmentServiceImpl implements ShipmentService {
      * @return the enriched ShipmentDTO
      */
     private Mono<ShipmentDTO> enrichShipmentDTO(ShipmentDTO shipmentDTO) {
-        // Enrich with product data if productId is available
-        if (shipmentDTO.getProductId() != null) {
-            return productService.getProductById(shipmentDTO.getProductId())
-                    .map(productDTO -> {
-                        shipmentDTO.setProductId(productDTO.getId());
-                        return shipmentDTO;
-                    })
-                    .defaultIfEmpty(shipmentDTO);
-        }
-        
-        return Mono.just(shipmentDTO);
+        return enrichShipments(Flux.just(shipmentDTO)).next();
+    }
+
+    private void applyProduct(ShipmentDTO shipmentDTO, ProductDTO productDTO) {
+        shipmentDTO.setProductId(productDTO.getId());
     }
-    
+
     /**
-     * Generate a unique tracking number.
-     *
-     * @return a unique tracking number
+     * Insert shipments with generated tracking numbers, giving the rows skipped because their tracking
+     * number already exists a new one until every row is inserted.
      */
-    private String generateTrackingNumber() {
-        return "SHIP-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private Mono<Void> insertWithGeneratedTrackingNumbers(List<Shipment> shipments, int attempt) {
+        return shipmentRepository.insertAll(shipments)
+                .flatMap(inserted -> {
+                    if (inserted == shipments.size()) {
+                        return Mono.empty();
+                    }
+                    if (attempt >= MAX_TRACKING_NUMBER_ATTEMPTS) {
+                        return Mono.error(new IllegalStateException(
+                                "Unable to generate unique tracking numbers after " + attempt + " attempts"));
+                    }
+                    List<UUID> ids = shipments.stream().map(Shipment::getId).toList();
+                    return shipmentRepository.findAllById(ids)
+                            .map(Shipment::getId)
+                            .collect(Collectors.toSet())
+                            .flatMap(insertedIds -> {
+                                List<Shipment> skipped = shipments.stream()
+                                        .filter(shipment -> !insertedIds.contains(shipment.getId()))
+                                        .toList();
+                                skipped.forEach(shipment -> shipment.setTrackingNumber(trackingNumberGenerator.next()));
+                                return insertWithGeneratedTrackingNumbers(skipped, attempt + 1);
+                            });
+                });
     }
 }
\ No newline at end of file
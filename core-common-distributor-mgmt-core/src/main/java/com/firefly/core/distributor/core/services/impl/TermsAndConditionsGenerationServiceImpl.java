@@ -17,25 +17,39 @@
 
 package com.firefly.core.distributor.core.services.impl;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firefly.core.distributor.core.services.DistributorService;
 import com.firefly.core.distributor.core.services.DistributorTermsAndConditionsService;
 import com.firefly.core.distributor.core.services.TermsAndConditionsGenerationService;
 import com.firefly.core.distributor.core.services.TermsAndConditionsTemplateService;
+import com.firefly.core.distributor.core.templates.CompiledTemplate;
+import com.firefly.core.distributor.core.templates.CompiledTemplateCache;
+import com.firefly.core.distributor.core.templates.DistributorVariablesCache;
+import com.firefly.core.distributor.core.templates.VariableSchema;
 import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
 import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationRequestDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationResultDTO;
 import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -53,10 +67,24 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
     @Autowired
     private DistributorService distributorService;
 
-    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{([^}]+)\\}\\}");
+    @Autowired
+    private CompiledTemplateCache templateCache;
+
+    @Autowired
+    private DistributorVariablesCache distributorVariablesCache;
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    @Value("${distributor.terms-and-conditions.bulk-generation.batch-size:500}")
+    private int bulkBatchSize = 500;
+
+    @Value("${distributor.terms-and-conditions.bulk-generation.render-concurrency:4}")
+    private int bulkRenderConcurrency = 4;
+
+    @Value("${distributor.terms-and-conditions.preview.chunk-size:8192}")
+    private int previewChunkSize = 8192;
+
     @Override
     public Mono<DistributorTermsAndConditionsDTO> generateFromTemplate(UUID templateId, UUID distributorId, Map<String, Object> variables) {
         return templateService.getTemplateById(templateId)
@@ -73,66 +101,32 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
                     
                     return getDefaultVariablesForDistributor(distributorId)
                             .map(defaultVars -> {
-                                Map<String, Object> allVariables = new HashMap<>(defaultVars);
+                                Map<String, Object> allVariables = new HashMap<>(templateCache.get(template).getVariableSchema().getDefaults());
+                                allVariables.putAll(defaultVars);
                                 allVariables.putAll(variables);
                                 return allVariables;
                             })
-                            .map(allVars -> {
-                                String processedContent = processTemplate(template.getTemplateContent(), allVars);
-                                
-                                return DistributorTermsAndConditionsDTO.builder()
-                                        .distributorId(distributorId)
-                                        .templateId(template.getId())
-                                        .title(template.getName())
-                                        .content(processedContent)
-                                        .version(template.getVersion())
-                                        .effectiveDate(LocalDateTime.now())
-                                        .status("DRAFT")
-                                        .isActive(true)
-                                        .build();
-                            })
+                            .map(allVars -> buildTermsAndConditions(template, distributorId, renderTemplate(template, allVars)))
                             .flatMap(distributorTermsAndConditionsService::createDistributorTermsAndConditions);
                 });
     }
 
     @Override
-    public Mono<Boolean> validateVariables(TermsAndConditionsTemplateDTO template, Map<String, Object> variables) {
-        return Mono.fromCallable(() -> {
-            String variablesJson = template.getVariables();
-            if (variablesJson == null || variablesJson.trim().isEmpty()) {
-                return true; // No validation needed if no variables defined
-            }
-            
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode variableDefinitions = objectMapper.readTree(variablesJson);
-            if (variableDefinitions == null || variableDefinitions.isEmpty()) {
-                return true; // No validation needed if no variables defined
-            }
+    public Flux<TermsAndConditionsGenerationResultDTO> bulkGenerateFromTemplate(UUID templateId, Flux<TermsAndConditionsGenerationRequestDTO> requests) {
+        return templateService.getTemplateById(templateId)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Template not found with ID: " + templateId)))
+                .flatMapMany(template -> {
+                    CompiledTemplate compiled = templateCache.get(template);
+                    return requests
+                            .buffer(bulkBatchSize)
+                            .concatMap(batch -> generateBatch(template, compiled, batch));
+                });
+    }
 
-            // Check required variables
-            variableDefinitions.fields().forEachRemaining(entry -> {
-                String varName = entry.getKey();
-                JsonNode varDef = entry.getValue();
-                
-                if (varDef.has("required") && varDef.get("required").asBoolean()) {
-                    if (!variables.containsKey(varName) || variables.get(varName) == null) {
-                        throw new IllegalArgumentException("Required variable '" + varName + "' is missing");
-                    }
-                }
-                
-                // Type validation could be added here
-                if (variables.containsKey(varName)) {
-                    Object value = variables.get(varName);
-                    String expectedType = varDef.has("type") ? varDef.get("type").asText() : "string";
-                    
-                    if (!isValidType(value, expectedType)) {
-                        throw new IllegalArgumentException("Variable '" + varName + "' has invalid type. Expected: " + expectedType);
-                    }
-                }
-            });
-            
-            return true;
-        }).onErrorReturn(false);
+    @Override
+    public Mono<Boolean> validateVariables(TermsAndConditionsTemplateDTO template, Map<String, Object> variables) {
+        return Mono.fromCallable(() -> templateCache.get(template).getVariableSchema().isSatisfiedBy(variables))
+                .onErrorReturn(false);
     }
 
     @Override
@@ -141,33 +135,30 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
             return templateContent;
         }
 
-        String result = templateContent;
-        Matcher matcher = VARIABLE_PATTERN.matcher(templateContent);
-        
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            Object value = variables.get(variableName);
-            
-            if (value != null) {
-                String replacement = formatValue(value);
-                result = result.replace("{{" + variableName + "}}", replacement);
-            }
-        }
-        
-        return result;
+        return CompiledTemplate.compile(templateContent).render(variables, this::formatValue);
     }
 
     @Override
     public Mono<Map<String, Object>> getDefaultVariablesForDistributor(UUID distributorId) {
-        return distributorService.getDistributorById(distributorId)
-                .map(this::extractDefaultVariables)
+        return distributorVariablesCache.get(distributorId,
+                        () -> distributorService.getDistributorById(distributorId).map(this::extractDefaultVariables))
+                .map(snapshot -> withTimeVariables(snapshot, timeVariables(LocalDateTime.now())))
                 .defaultIfEmpty(new HashMap<>());
     }
 
     @Override
     public Mono<String> previewGeneration(UUID templateId, Map<String, Object> variables) {
         return templateService.getTemplateById(templateId)
-                .map(template -> processTemplate(template.getTemplateContent(), variables));
+                .map(template -> renderTemplate(template, variables));
+    }
+
+    @Override
+    public Flux<DataBuffer> streamPreviewGeneration(TermsAndConditionsTemplateDTO template, Map<String, Object> variables, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            // Unresolved placeholders are emitted unchanged, so missing variables render the raw content
+            Map<String, Object> values = variables != null ? variables : Map.of();
+            return Flux.fromIterable(templateCache.get(template).renderChunks(values, this::formatValue, previewChunkSize));
+        }).map(chunk -> bufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
     }
 
     @Override
@@ -175,28 +166,59 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
         return distributorTermsAndConditionsService.getDistributorTermsAndConditionsById(termsAndConditionsId)
                 .flatMap(existingTerms -> {
                     if (existingTerms.getTemplateId() == null) {
-                        return Mono.error(new IllegalStateException("Cannot auto-renew terms without template"));
+                        return Mono.error(new IllegalStateException(renewalIneligibility(existingTerms, null, null)));
                     }
                     
                     return templateService.getTemplateById(existingTerms.getTemplateId())
+                            .switchIfEmpty(Mono.error(new IllegalStateException("Template not found with ID: " + existingTerms.getTemplateId())))
                             .flatMap(template -> {
-                                if (!Boolean.TRUE.equals(template.getAutoRenewal())) {
-                                    return Mono.error(new IllegalStateException("Template does not support auto-renewal"));
+                                LocalDateTime now = LocalDateTime.now();
+                                String ineligibility = renewalIneligibility(existingTerms, template, now);
+                                if (ineligibility != null) {
+                                    return Mono.error(new IllegalStateException(ineligibility));
                                 }
                                 
-                                Map<String, Object> variables = new HashMap<>();
-                                variables.put("effectiveDate", LocalDateTime.now().format(DATE_FORMATTER));
-                                
-                                if (template.getRenewalPeriodMonths() != null) {
-                                    LocalDateTime expirationDate = LocalDateTime.now().plusMonths(template.getRenewalPeriodMonths());
-                                    variables.put("expirationDate", expirationDate.format(DATE_FORMATTER));
-                                }
-                                
-                                return generateFromTemplate(template, existingTerms.getDistributorId(), variables);
+                                return generateFromTemplate(template, existingTerms.getDistributorId(), renewalVariables(template, now))
+                                        .flatMap(created -> deactivateRenewed(List.of(existingTerms.getId())).thenReturn(created));
                             });
                 });
     }
 
+    @Override
+    public Flux<DistributorTermsAndConditionsDTO> autoRenewTermsAndConditionsBatch(List<DistributorTermsAndConditionsDTO> expiring,
+                                                                                  Map<UUID, TermsAndConditionsTemplateDTO> templates) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DistributorTermsAndConditionsDTO> renewable = expiring.stream()
+                .filter(terms -> renewalIneligibility(terms, terms.getTemplateId() != null ? templates.get(terms.getTemplateId()) : null, now) == null)
+                .toList();
+
+        if (renewable.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<UUID> distributorIds = renewable.stream()
+                .map(DistributorTermsAndConditionsDTO::getDistributorId)
+                .distinct()
+                .toList();
+
+        return getDistributorVariables(distributorIds)
+                .flatMapMany(snapshots -> {
+                    Map<String, Object> timeVariables = timeVariables(now);
+                    List<UUID> renewedIds = new ArrayList<>(renewable.size());
+                    List<DistributorTermsAndConditionsDTO> renewals = new ArrayList<>(renewable.size());
+
+                    for (DistributorTermsAndConditionsDTO existingTerms : renewable) {
+                        Map<String, Object> snapshot = snapshots.get(existingTerms.getDistributorId());
+                        renewedIds.add(existingTerms.getId());
+                        renewals.add(renew(existingTerms, templates.get(existingTerms.getTemplateId()), snapshot, timeVariables, now));
+                    }
+
+                    return distributorTermsAndConditionsService.createDistributorTermsAndConditionsBatch(renewals)
+                            .collectList()
+                            .flatMapMany(created -> deactivateRenewed(renewedIds).thenMany(Flux.fromIterable(created)));
+                });
+    }
+
     @Override
     public Mono<Boolean> needsRenewal(UUID termsAndConditionsId) {
         return distributorTermsAndConditionsService.getDistributorTermsAndConditionsById(termsAndConditionsId)
@@ -213,6 +235,210 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
                 .defaultIfEmpty(false);
     }
 
+    /**
+     * Generate one batch of a bulk request: resolve the batch's distributor variables with at most one
+     * query, render in parallel, then persist every successfully rendered document with a single
+     * multi-row insert.
+     */
+    private Flux<TermsAndConditionsGenerationResultDTO> generateBatch(TermsAndConditionsTemplateDTO template,
+                                                                    CompiledTemplate compiled,
+                                                                    List<TermsAndConditionsGenerationRequestDTO> batch) {
+        List<UUID> distributorIds = batch.stream()
+                .map(TermsAndConditionsGenerationRequestDTO::getDistributorId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        return getDistributorVariables(distributorIds)
+                .flatMapMany(snapshots -> {
+                    // Time-based variables are computed once for the whole batch
+                    Map<String, Object> timeVariables = timeVariables(LocalDateTime.now());
+                    return Flux.fromIterable(batch)
+                            .flatMapSequential(request -> Mono.fromCallable(() -> render(template, compiled, request, snapshots, timeVariables))
+                                    .subscribeOn(Schedulers.parallel()), bulkRenderConcurrency);
+                })
+                .collectList()
+                .flatMapMany(this::persistBatch);
+    }
+
+    private GenerationOutcome render(TermsAndConditionsTemplateDTO template, CompiledTemplate compiled,
+                                     TermsAndConditionsGenerationRequestDTO request, Map<UUID, Map<String, Object>> snapshots,
+                                     Map<String, Object> timeVariables) {
+        Map<String, Object> snapshot = request.getDistributorId() != null ? snapshots.get(request.getDistributorId()) : null;
+        if (snapshot == null) {
+            return GenerationOutcome.failed(request, "Distributor not found with ID: " + request.getDistributorId());
+        }
+
+        Map<String, Object> variables = request.getVariables() != null ? request.getVariables() : Map.of();
+        VariableSchema schema = compiled.getVariableSchema();
+        if (!schema.isSatisfiedBy(variables)) {
+            return GenerationOutcome.failed(request, "Invalid variables provided for template");
+        }
+
+        Map<String, Object> allVariables = new HashMap<>(schema.getDefaults());
+        allVariables.putAll(snapshot);
+        allVariables.putAll(timeVariables);
+        allVariables.putAll(variables);
+
+        String content = compiled.render(allVariables, this::formatValue);
+        return new GenerationOutcome(request, buildTermsAndConditions(template, request.getDistributorId(), content), null);
+    }
+
+    private Flux<TermsAndConditionsGenerationResultDTO> persistBatch(List<GenerationOutcome> outcomes) {
+        List<DistributorTermsAndConditionsDTO> generated = outcomes.stream()
+                .map(GenerationOutcome::termsAndConditions)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (generated.isEmpty()) {
+            return Flux.fromIterable(outcomes).map(outcome -> toResult(outcome, null, outcome.error()));
+        }
+
+        return distributorTermsAndConditionsService.createDistributorTermsAndConditionsBatch(generated)
+                .collectList()
+                .flatMapMany(saved -> {
+                    // Saved rows come back in insertion order, which follows the successful outcomes
+                    Iterator<DistributorTermsAndConditionsDTO> savedIterator = saved.iterator();
+                    List<TermsAndConditionsGenerationResultDTO> results = new ArrayList<>(outcomes.size());
+                    for (GenerationOutcome outcome : outcomes) {
+                        results.add(outcome.termsAndConditions() != null
+                                ? toResult(outcome, savedIterator.next().getId(), null)
+                                : toResult(outcome, null, outcome.error()));
+                    }
+                    return Flux.fromIterable(results);
+                })
+                .onErrorResume(e -> Flux.fromIterable(outcomes)
+                        .map(outcome -> toResult(outcome, null, outcome.error() != null ? outcome.error() : e.getMessage())));
+    }
+
+    /**
+     * Check whether terms and conditions can be auto-renewed from a template. Shared by the single and
+     * batch renewal paths so both accept the same rows.
+     *
+     * @return the reason the terms and conditions cannot be renewed, or null if they can
+     */
+    private String renewalIneligibility(DistributorTermsAndConditionsDTO existingTerms, TermsAndConditionsTemplateDTO template,
+                                        LocalDateTime now) {
+        if (existingTerms.getTemplateId() == null) {
+            return "Cannot auto-renew terms without template";
+        }
+        if (template == null) {
+            return "Template not found with ID: " + existingTerms.getTemplateId();
+        }
+        if (!Boolean.TRUE.equals(template.getAutoRenewal())) {
+            return "Template does not support auto-renewal";
+        }
+        if (!templateCache.get(template).getVariableSchema().isSatisfiedBy(renewalVariables(template, now))) {
+            return "Invalid variables provided for template";
+        }
+        return null;
+    }
+
+    /**
+     * Deactivate terms and conditions once their renewals are stored, so they are not renewed again. Shared
+     * by the single and batch renewal paths.
+     */
+    private Mono<Void> deactivateRenewed(Collection<UUID> renewedIds) {
+        return distributorTermsAndConditionsService.deactivateTermsAndConditionsBatch(renewedIds).then();
+    }
+
+    private static Map<String, Object> renewalVariables(TermsAndConditionsTemplateDTO template, LocalDateTime now) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("effectiveDate", now.format(DATE_FORMATTER));
+        if (template.getRenewalPeriodMonths() != null) {
+            variables.put("expirationDate", now.plusMonths(template.getRenewalPeriodMonths()).format(DATE_FORMATTER));
+        }
+        return variables;
+    }
+
+    /**
+     * Render the renewal of one expiring row that passed {@link #renewalIneligibility}.
+     */
+    private DistributorTermsAndConditionsDTO renew(DistributorTermsAndConditionsDTO existingTerms, TermsAndConditionsTemplateDTO template,
+                                                  Map<String, Object> distributorVariables, Map<String, Object> timeVariables,
+                                                  LocalDateTime now) {
+        CompiledTemplate compiled = templateCache.get(template);
+        Map<String, Object> variables = renewalVariables(template, now);
+        LocalDateTime expirationDate = template.getRenewalPeriodMonths() != null ? now.plusMonths(template.getRenewalPeriodMonths()) : null;
+
+        Map<String, Object> allVariables = new HashMap<>(compiled.getVariableSchema().getDefaults());
+        if (distributorVariables != null) {
+            allVariables.putAll(distributorVariables);
+            allVariables.putAll(timeVariables);
+        }
+        allVariables.putAll(variables);
+
+        DistributorTermsAndConditionsDTO renewal = buildTermsAndConditions(template, existingTerms.getDistributorId(),
+                compiled.render(allVariables, this::formatValue));
+        renewal.setEffectiveDate(now);
+        renewal.setExpirationDate(expirationDate);
+        return renewal;
+    }
+
+    private TermsAndConditionsGenerationResultDTO toResult(GenerationOutcome outcome, UUID termsAndConditionsId, String error) {
+        return TermsAndConditionsGenerationResultDTO.builder()
+                .distributorId(outcome.request().getDistributorId())
+                .termsAndConditionsId(termsAndConditionsId)
+                .status(error == null ? "GENERATED" : "FAILED")
+                .error(error)
+                .build();
+    }
+
+    private DistributorTermsAndConditionsDTO buildTermsAndConditions(TermsAndConditionsTemplateDTO template, UUID distributorId, String content) {
+        return DistributorTermsAndConditionsDTO.builder()
+                .distributorId(distributorId)
+                .templateId(template.getId())
+                .title(template.getName())
+                .content(content)
+                .version(template.getVersion())
+                .effectiveDate(LocalDateTime.now())
+                .status("DRAFT")
+                .isActive(true)
+                .build();
+    }
+
+    /**
+     * Render a stored template through the compiled template cache.
+     *
+     * @param template the template to render
+     * @param variables the variables to substitute
+     * @return the rendered content
+     */
+    private String renderTemplate(TermsAndConditionsTemplateDTO template, Map<String, Object> variables) {
+        if (template.getTemplateContent() == null || variables == null) {
+            return template.getTemplateContent();
+        }
+
+        return templateCache.get(template).render(variables, this::formatValue);
+    }
+
+    /**
+     * Resolve the variable snapshots of the given distributors, fetching only those not already cached.
+     */
+    private Mono<Map<UUID, Map<String, Object>>> getDistributorVariables(Collection<UUID> distributorIds) {
+        return Mono.defer(() -> {
+            Map<UUID, Map<String, Object>> snapshots = distributorVariablesCache.getAllPresent(distributorIds);
+            List<UUID> missing = distributorIds.stream()
+                    .filter(id -> !snapshots.containsKey(id))
+                    .toList();
+            if (missing.isEmpty()) {
+                return Mono.just(snapshots);
+            }
+
+            long loadGeneration = distributorVariablesCache.currentGeneration();
+            return distributorService.getDistributorsByIds(missing)
+                    .collectMap(DistributorDTO::getId, this::extractDefaultVariables)
+                    .map(loaded -> {
+                        distributorVariablesCache.putAll(loaded, loadGeneration);
+                        snapshots.putAll(loaded);
+                        return snapshots;
+                    });
+        });
+    }
+
+    /**
+     * Build the immutable snapshot of the variables derived from a distributor record.
+     */
     private Map<String, Object> extractDefaultVariables(DistributorDTO distributor) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("distributorName", distributor.getName());
@@ -225,26 +451,19 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
         variables.put("distributorCountryId", distributor.getCountryId() != null ? distributor.getCountryId().toString() : "");
         variables.put("distributorPostalCode", distributor.getPostalCode());
         variables.put("distributorWebsite", distributor.getWebsiteUrl());
-        variables.put("currentDate", LocalDateTime.now().format(DATE_FORMATTER));
-        variables.put("currentDateTime", LocalDateTime.now().format(DATETIME_FORMATTER));
-        return variables;
+        return Collections.unmodifiableMap(variables);
     }
 
-    private boolean isValidType(Object value, String expectedType) {
-        if (value == null) return true;
-        
-        switch (expectedType.toLowerCase()) {
-            case "string":
-                return value instanceof String;
-            case "number":
-                return value instanceof Number;
-            case "boolean":
-                return value instanceof Boolean;
-            case "date":
-                return value instanceof String; // Assuming dates are passed as strings
-            default:
-                return true; // Unknown types are considered valid
-        }
+    private static Map<String, Object> timeVariables(LocalDateTime now) {
+        return Map.of(
+                "currentDate", now.format(DATE_FORMATTER),
+                "currentDateTime", now.format(DATETIME_FORMATTER));
+    }
+
+    private static Map<String, Object> withTimeVariables(Map<String, Object> distributorVariables, Map<String, Object> timeVariables) {
+        Map<String, Object> variables = new HashMap<>(distributorVariables);
+        variables.putAll(timeVariables);
+        return variables;
     }
 
     private String formatValue(Object value) {
@@ -258,4 +477,13 @@ public class TermsAndConditionsGenerationServiceImpl implements TermsAndConditio
         
         return value.toString();
     }
-}
+
+    private record GenerationOutcome(TermsAndConditionsGenerationRequestDTO request,
+                                     DistributorTermsAndConditionsDTO termsAndConditions,
+                                     String error) {
+
+        static GenerationOutcome failed(TermsAndConditionsGenerationRequestDTO request, String error) {
+            return new GenerationOutcome(request, null, error);
+        }
+    }
+}
\ No newline at end of file
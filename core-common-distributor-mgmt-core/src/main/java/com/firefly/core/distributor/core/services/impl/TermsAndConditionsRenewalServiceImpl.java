@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services.impl;
+
+import com.firefly.core.distributor.core.audit.AuditCaptureCallbacks;
+import com.firefly.core.distributor.core.services.DistributorTermsAndConditionsService;
+import com.firefly.core.distributor.core.services.TermsAndConditionsGenerationService;
+import com.firefly.core.distributor.core.services.TermsAndConditionsRenewalService;
+import com.firefly.core.distributor.core.services.TermsAndConditionsTemplateService;
+import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import com.firefly.core.distributor.models.entities.TermsRenewalCheckpoint;
+import com.firefly.core.distributor.models.repositories.TermsRenewalCheckpointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the TermsAndConditionsRenewalService interface.
+ */
+@Service
+public class TermsAndConditionsRenewalServiceImpl implements TermsAndConditionsRenewalService {
+
+    static final String JOB_NAME = "terms-and-conditions-auto-renewal";
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Autowired
+    private DistributorTermsAndConditionsService distributorTermsAndConditionsService;
+
+    @Autowired
+    private TermsAndConditionsTemplateService templateService;
+
+    @Autowired
+    private TermsAndConditionsGenerationService generationService;
+
+    @Autowired
+    private TermsRenewalCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${distributor.terms-and-conditions.renewal.page-size:500}")
+    private int pageSize = 500;
+
+    @Value("${distributor.terms-and-conditions.renewal.lead-days:30}")
+    private int leadDays = 30;
+
+    // Rows scanned by the current (or last) run, exposed as a progress gauge
+    private final AtomicLong scannedInRun = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("distributor.terms.renewal.progress", scannedInRun);
+    }
+
+    @Scheduled(cron = "${distributor.terms-and-conditions.renewal.cron:0 0 2 * * *}")
+    public Mono<Void> scheduledRenewal() {
+        return renewExpiringTermsAndConditions().then();
+    }
+
+    @Override
+    public Mono<Long> renewExpiringTermsAndConditions() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Map<UUID, TermsAndConditionsTemplateDTO> templates = new HashMap<>();
+            AtomicLong renewed = new AtomicLong();
+
+            return claimRun()
+                    .expand(checkpoint -> processNextPage(checkpoint, templates, renewed))
+                    .then(Mono.fromSupplier(renewed::get))
+                    .doOnSuccess(count -> sample.stop(meterRegistry.timer("distributor.terms.renewal.run", "outcome", "success")))
+                    .doOnError(e -> sample.stop(meterRegistry.timer("distributor.terms.renewal.run", "outcome", "failure")));
+        });
+    }
+
+    /**
+     * Resume the running checkpoint, or start a new run. Completes empty when another instance holds the
+     * job lock, in which case that instance carries on with the run.
+     */
+    private Mono<TermsRenewalCheckpoint> claimRun() {
+        return checkpointRepository.tryLock(JOB_NAME)
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> checkpointRepository.findById(JOB_NAME)
+                        .filter(checkpoint -> STATUS_RUNNING.equals(checkpoint.getStatus()))
+                        .switchIfEmpty(Mono.defer(this::startRun)))
+                .doOnNext(checkpoint -> scannedInRun.set(checkpoint.getScannedCount()))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<TermsRenewalCheckpoint> startRun() {
+        LocalDateTime now = LocalDateTime.now();
+        TermsRenewalCheckpoint checkpoint = TermsRenewalCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .status(STATUS_RUNNING)
+                .threshold(now.plusDays(leadDays))
+                .scannedCount(0L)
+                .renewedCount(0L)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+        return checkpointRepository.upsert(checkpoint).thenReturn(checkpoint);
+    }
+
+    /**
+     * Renew the page after the checkpoint's cursor and commit the renewals together with the advanced
+     * checkpoint. Emits the new checkpoint, or completes empty once the scan is exhausted or another
+     * instance holds the job lock.
+     * <p>
+     * The checkpoint is re-read under the lock, so instances that run the job concurrently continue
+     * from each other's committed cursor instead of renewing the same rows twice.
+     */
+    private Mono<TermsRenewalCheckpoint> processNextPage(TermsRenewalCheckpoint previous,
+                                                         Map<UUID, TermsAndConditionsTemplateDTO> templates,
+                                                         AtomicLong renewedByRun) {
+        if (STATUS_COMPLETED.equals(previous.getStatus())) {
+            return Mono.empty();
+        }
+
+        return checkpointRepository.tryLock(JOB_NAME)
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> checkpointRepository.findById(JOB_NAME))
+                // Stop if the run was completed, or replaced by a new one, elsewhere
+                .filter(checkpoint -> STATUS_RUNNING.equals(checkpoint.getStatus())
+                        && checkpoint.getStartedAt().equals(previous.getStartedAt()))
+                .flatMap(checkpoint -> distributorTermsAndConditionsService.getExpiringTermsAndConditionsPage(checkpoint.getThreshold(),
+                                checkpoint.getCursorExpirationDate(), checkpoint.getCursorId(), pageSize)
+                        .collectList()
+                        .flatMap(page -> {
+                            if (page.isEmpty()) {
+                                return completeRun(checkpoint);
+                            }
+
+                            return loadTemplates(page, templates)
+                                    .then(Mono.defer(() -> generationService.autoRenewTermsAndConditionsBatch(page, templates).count()))
+                                    .flatMap(renewed -> {
+                                        TermsRenewalCheckpoint next = advance(checkpoint, page, renewed);
+                                        return checkpointRepository.upsert(next).thenReturn(next);
+                                    })
+                                    .doOnSuccess(next -> {
+                                        long renewed = next.getRenewedCount() - checkpoint.getRenewedCount();
+                                        renewedByRun.addAndGet(renewed);
+                                        recordPage(next.getScannedCount(), page.size(), renewed);
+                                    });
+                        }))
+                // Record the page's audit entries with its commit, so the run holds one page at a time
+                .flatMap(next -> AuditCaptureCallbacks.flush().thenReturn(next))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Load the templates referenced by a page that have not been loaded earlier in the run.
+     * Templates that no longer exist are remembered as absent so they are not queried again.
+     */
+    private Mono<Void> loadTemplates(List<DistributorTermsAndConditionsDTO> page,
+                                     Map<UUID, TermsAndConditionsTemplateDTO> templates) {
+        List<UUID> missing = page.stream()
+                .map(DistributorTermsAndConditionsDTO::getTemplateId)
+                .filter(templateId -> templateId != null && !templates.containsKey(templateId))
+                .distinct()
+                .toList();
+
+        if (missing.isEmpty()) {
+            return Mono.empty();
+        }
+        return templateService.getTemplatesByIds(missing)
+                .doOnNext(template -> templates.put(template.getId(), template))
+                .then(Mono.fromRunnable(() -> missing.forEach(templateId -> templates.putIfAbsent(templateId, null))));
+    }
+
+    private TermsRenewalCheckpoint advance(TermsRenewalCheckpoint checkpoint, List<DistributorTermsAndConditionsDTO> page, long renewed) {
+        DistributorTermsAndConditionsDTO last = page.get(page.size() - 1);
+        return checkpoint.toBuilder()
+                .cursorExpirationDate(last.getExpirationDate())
+                .cursorId(last.getId())
+                .scannedCount(checkpoint.getScannedCount() + page.size())
+                .renewedCount(checkpoint.getRenewedCount() + renewed)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Mono<TermsRenewalCheckpoint> completeRun(TermsRenewalCheckpoint checkpoint) {
+        TermsRenewalCheckpoint completed = checkpoint.toBuilder()
+                .status(STATUS_COMPLETED)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return checkpointRepository.upsert(completed).thenReturn(completed);
+    }
+
+    private void recordPage(long scannedInRunSoFar, int scanned, long renewed) {
+        scannedInRun.set(scannedInRunSoFar);
+        meterRegistry.counter("distributor.terms.renewal.scanned").increment(scanned);
+        meterRegistry.counter("distributor.terms.renewal.renewed").increment(renewed);
+        meterRegistry.counter("distributor.terms.renewal.skipped").increment(scanned - renewed);
+    }
+}
\ No newline at end of file
@@ -22,6 +22,9 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.core.mappers.TermsAndConditionsTemplateMapper;
 import com.firefly.core.distributor.core.services.TermsAndConditionsTemplateService;
+import com.firefly.core.distributor.core.templates.TermsAndConditionsTemplateCache;
+import com.firefly.core.distributor.core.templates.TermsAndConditionsTemplateCache.TemplateList;
+import com.firefly.core.distributor.core.transactions.AfterCommit;
 import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
 import com.firefly.core.distributor.models.entities.TermsAndConditionsTemplate;
 import com.firefly.core.distributor.models.repositories.TermsAndConditionsTemplateRepository;
@@ -32,10 +35,17 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Implementation of the TermsAndConditionsTemplateService interface.
+ * <p>
+ * Writes invalidate the template cache once their transaction commits, so a concurrent read cannot re-cache
+ * the row being replaced.
  */
 @Service
 @Transactional
@@ -47,6 +57,9 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
     @Autowired
     private TermsAndConditionsTemplateMapper mapper;
 
+    @Autowired
+    private TermsAndConditionsTemplateCache templateCache;
+
     @Override
     public Mono<PaginationResponse<TermsAndConditionsTemplateDTO>> filterTermsAndConditionsTemplates(FilterRequest<TermsAndConditionsTemplateDTO> filterRequest) {
         return FilterUtils
@@ -77,6 +90,7 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
                     }
                 })
                 .flatMap(repository::save)
+                .flatMap(saved -> AfterCommit.run(templateCache::invalidateAll).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -91,23 +105,45 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
                     updatedTemplate.setUpdatedAt(LocalDateTime.now());
                     return repository.save(updatedTemplate);
                 })
+                .flatMap(saved -> AfterCommit.run(templateCache::invalidateAll).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteTemplate(UUID id) {
-        return repository.deleteById(id);
+        return repository.deleteById(id)
+                .then(AfterCommit.run(templateCache::invalidateAll));
     }
 
     @Override
     public Mono<TermsAndConditionsTemplateDTO> getTemplateById(UUID id) {
-        return repository.findById(id)
+        return templateCache.getById(id, () -> repository.findById(id))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Flux<TermsAndConditionsTemplateDTO> getTemplatesByIds(Collection<UUID> ids) {
+        return Flux.defer(() -> {
+            Map<UUID, TermsAndConditionsTemplate> cached = templateCache.getAllPresentById(ids);
+            List<UUID> missing = ids.stream().filter(id -> !cached.containsKey(id)).distinct().toList();
+            if (missing.isEmpty()) {
+                return Flux.fromIterable(cached.values());
+            }
+            long loadGeneration = templateCache.currentGeneration();
+            return repository.findAllById(missing)
+                    .collectList()
+                    .doOnNext(loaded -> templateCache.putAllById(loaded, loadGeneration))
+                    .flatMapMany(loaded -> {
+                        List<TermsAndConditionsTemplate> templates = new ArrayList<>(cached.values());
+                        templates.addAll(loaded);
+                        return Flux.fromIterable(templates);
+                    });
+        }).map(mapper::toDTO);
+    }
+
     @Override
     public Flux<TermsAndConditionsTemplateDTO> getActiveTemplates() {
-        return repository.findByIsActiveTrue()
+        return templateCache.getList(TemplateList.ACTIVE, repository::findByIsActiveTrue)
                 .map(mapper::toDTO);
     }
 
@@ -143,13 +179,13 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
 
     @Override
     public Flux<TermsAndConditionsTemplateDTO> getActiveDefaultTemplates() {
-        return repository.findByIsDefaultTrueAndIsActiveTrue()
+        return templateCache.getList(TemplateList.ACTIVE_DEFAULT, repository::findByIsDefaultTrueAndIsActiveTrue)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<TermsAndConditionsTemplateDTO> getDefaultTemplateByCategory(String category) {
-        return repository.findByCategoryAndIsDefaultTrueAndIsActiveTrue(category)
+        return templateCache.getDefaultByCategory(category, () -> repository.findByCategoryAndIsDefaultTrueAndIsActiveTrue(category))
                 .map(mapper::toDTO);
     }
 
@@ -174,6 +210,7 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
                     template.setUpdatedBy(updatedBy);
                     return repository.save(template);
                 })
+                .flatMap(saved -> AfterCommit.run(templateCache::invalidateAll).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -186,29 +223,20 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
                     template.setUpdatedBy(updatedBy);
                     return repository.save(template);
                 })
+                .flatMap(saved -> AfterCommit.run(templateCache::invalidateAll).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<TermsAndConditionsTemplateDTO> setAsDefault(UUID id, UUID updatedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        // Changes of the same category serialize on a lock held until commit, so the previous default is
+        // always cleared, and committed, before another call flags a new one against the unique index
         return repository.findById(id)
-                .flatMap(template -> {
-                    // First, remove default status from other templates in the same category
-                    return repository.findByCategoryAndIsDefaultTrueAndIsActiveTrue(template.getCategory())
-                            .flatMap(existingDefault -> {
-                                existingDefault.setIsDefault(false);
-                                existingDefault.setUpdatedAt(LocalDateTime.now());
-                                existingDefault.setUpdatedBy(updatedBy);
-                                return repository.save(existingDefault);
-                            })
-                            .then(Mono.just(template));
-                })
-                .flatMap(template -> {
-                    template.setIsDefault(true);
-                    template.setUpdatedAt(LocalDateTime.now());
-                    template.setUpdatedBy(updatedBy);
-                    return repository.save(template);
-                })
+                .flatMap(template -> repository.lockDefaultOfCategory(template.getCategory())
+                        .then(repository.clearDefaultsOfCategory(template.getCategory(), id, now, updatedBy))
+                        .then(repository.markAsDefault(id, now, updatedBy)))
+                .flatMap(saved -> AfterCommit.run(templateCache::invalidateAll).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -221,6 +249,7 @@ public class TermsAndConditionsTemplateServiceImpl implements TermsAndConditions
                     template.setUpdatedBy(updatedBy);
                     return repository.save(template);
                 })
+                .flatMap(saved -> AfterCommit.run(templateCache::invalidateAll).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pre-parsed form of a terms and conditions template.
+ * <p>
+ * The template content is split once into literal chunks and variable slots, so rendering is a
+ * single forward pass into a pre-sized buffer instead of one {@code String.replace} over the
+ * whole document per placeholder. Placeholders without a value are emitted unchanged.
+ * The template's variable schema is compiled alongside the content.
+ */
+public final class CompiledTemplate {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{([^}]+)\\}\\}");
+
+    /**
+     * Extra capacity reserved per variable slot when sizing the output buffer.
+     */
+    private static final int AVERAGE_VALUE_LENGTH = 24;
+
+    // literals[i] precedes slot i; the last literal follows the last slot
+    private final String[] literals;
+    private final String[] variableNames;
+    private final String[] placeholders;
+    private final int literalLength;
+    private final Set<String> distinctVariableNames;
+    private final VariableSchema variableSchema;
+
+    private CompiledTemplate(List<String> literals, List<String> variableNames, List<String> placeholders,
+                             VariableSchema variableSchema) {
+        this.literals = literals.toArray(new String[0]);
+        this.variableNames = variableNames.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+        this.distinctVariableNames = Collections.unmodifiableSet(new LinkedHashSet<>(variableNames));
+        this.variableSchema = variableSchema;
+    }
+
+    /**
+     * Compile template content into its segment list.
+     *
+     * @param templateContent the template content with {@code {{variable}}} placeholders
+     * @return the compiled template
+     */
+    public static CompiledTemplate compile(String templateContent) {
+        return compile(templateContent, VariableSchema.EMPTY);
+    }
+
+    /**
+     * Compile template content into its segment list, together with its variable schema.
+     *
+     * @param templateContent the template content with {@code {{variable}}} placeholders
+     * @param variableSchema the compiled variable definitions of the template
+     * @return the compiled template
+     */
+    public static CompiledTemplate compile(String templateContent, VariableSchema variableSchema) {
+        if (templateContent == null) {
+            templateContent = "";
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> variableNames = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        Matcher matcher = VARIABLE_PATTERN.matcher(templateContent);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(templateContent.substring(position, matcher.start()));
+            variableNames.add(matcher.group(1));
+            placeholders.add(matcher.group());
+            position = matcher.end();
+        }
+        literals.add(templateContent.substring(position));
+
+        return new CompiledTemplate(literals, variableNames, placeholders, variableSchema);
+    }
+
+    /**
+     * Render the template with the given variables.
+     *
+     * @param variables the variables to substitute
+     * @param formatter converts a non-null variable value to its textual form
+     * @return the rendered content
+     */
+    public String render(Map<String, ?> variables, Function<Object, String> formatter) {
+        StringBuilder output = new StringBuilder(estimateRenderedLength());
+        renderTo(output, variables, formatter);
+        return output.toString();
+    }
+
+    /**
+     * Render the template with the given variables, appending to an existing buffer.
+     *
+     * @param output the buffer to append to
+     * @param variables the variables to substitute
+     * @param formatter converts a non-null variable value to its textual form
+     */
+    public void renderTo(StringBuilder output, Map<String, ?> variables, Function<Object, String> formatter) {
+        for (int i = 0; i < variableNames.length; i++) {
+            output.append(literals[i]);
+            Object value = variables.get(variableNames[i]);
+            output.append(value != null ? formatter.apply(value) : placeholders[i]);
+        }
+        output.append(literals[variableNames.length]);
+    }
+
+    /**
+     * Render the template lazily as a sequence of chunks of at most {@code chunkSize} characters.
+     * <p>
+     * Chunks are produced on demand while iterating, so only one chunk is held at a time regardless of
+     * the document size. A surrogate pair is never split across chunks.
+     *
+     * @param variables the variables to substitute
+     * @param formatter converts a non-null variable value to its textual form
+     * @param chunkSize the maximum chunk length in characters
+     * @return the rendered content as an iterable of chunks
+     */
+    public Iterable<String> renderChunks(Map<String, ?> variables, Function<Object, String> formatter, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        return () -> new ChunkIterator(variables, formatter, chunkSize);
+    }
+
+    /**
+     * Estimate the length of a rendered document, used to pre-size output buffers.
+     *
+     * @return the estimated rendered length
+     */
+    public int estimateRenderedLength() {
+        return literalLength + variableNames.length * AVERAGE_VALUE_LENGTH;
+    }
+
+    /**
+     * Get the distinct variable names referenced by the template, in order of first appearance.
+     *
+     * @return the referenced variable names
+     */
+    public Set<String> getVariableNames() {
+        return distinctVariableNames;
+    }
+
+    /**
+     * Get the compiled variable definitions of the template.
+     *
+     * @return the variable schema
+     */
+    public VariableSchema getVariableSchema() {
+        return variableSchema;
+    }
+
+    /**
+     * Get the number of variable slots in the template, counting repeated placeholders.
+     *
+     * @return the number of variable slots
+     */
+    public int getSlotCount() {
+        return variableNames.length;
+    }
+
+    /**
+     * Walks literal and slot segments in order, cutting them into chunks.
+     */
+    private final class ChunkIterator implements Iterator<String> {
+
+        private final Map<String, ?> variables;
+        private final Function<Object, String> formatter;
+        private final int chunkSize;
+
+        // Segments alternate literal, slot, literal, ... ending with the trailing literal
+        private int nextSegment;
+        private String segment;
+        private int offset;
+        private String nextChunk;
+
+        private ChunkIterator(Map<String, ?> variables, Function<Object, String> formatter, int chunkSize) {
+            this.variables = variables;
+            this.formatter = formatter;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextChunk == null) {
+                nextChunk = readChunk();
+            }
+            return nextChunk != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String chunk = nextChunk;
+            nextChunk = null;
+            return chunk;
+        }
+
+        private String readChunk() {
+            StringBuilder chunk = new StringBuilder(chunkSize);
+            while (chunk.length() < chunkSize) {
+                if (segment == null) {
+                    if (nextSegment > 2 * variableNames.length) {
+                        break;
+                    }
+                    segment = segmentText(nextSegment++);
+                    offset = 0;
+                }
+
+                int end = offset + Math.min(chunkSize - chunk.length(), segment.length() - offset);
+                if (end < segment.length() && end > offset && Character.isHighSurrogate(segment.charAt(end - 1))) {
+                    if (end - 1 > offset) {
+                        end--;
+                    } else if (chunk.length() > 0) {
+                        break;
+                    } else {
+                        end++;
+                    }
+                }
+                chunk.append(segment, offset, end);
+                offset = end;
+                if (offset == segment.length()) {
+                    segment = null;
+                }
+            }
+            return chunk.length() > 0 ? chunk.toString() : null;
+        }
+
+        private String segmentText(int index) {
+            if (index % 2 == 0) {
+                return literals[index / 2];
+            }
+            int slot = index / 2;
+            Object value = variables.get(variableNames[slot]);
+            return value != null ? formatter.apply(value) : placeholders[slot];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Bounded cache of compiled terms and conditions templates and their variable schemas.
+ * <p>
+ * Entries are keyed by template ID and version. The last-modified timestamp is part of the key
+ * as well, so a template edited without a version bump is recompiled rather than served stale.
+ */
+@Component
+public class CompiledTemplateCache {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Cache<TemplateKey, CompiledTemplate> cache;
+
+    public CompiledTemplateCache(
+            @Value("${distributor.terms-and-conditions.template-cache.max-size:256}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Get the compiled form of a template, compiling it on first use.
+     *
+     * @param template the template to compile
+     * @return the compiled template
+     */
+    public CompiledTemplate get(TermsAndConditionsTemplateDTO template) {
+        if (template.getId() == null) {
+            // Unsaved templates have no stable identity to cache under
+            return compile(template);
+        }
+        TemplateKey key = new TemplateKey(template.getId(), template.getVersion(), lastModified(template));
+        return cache.get(key, k -> compile(template));
+    }
+
+    /**
+     * Evict every compiled version of a template.
+     *
+     * @param templateId the template ID
+     */
+    public void invalidate(UUID templateId) {
+        cache.asMap().keySet().removeIf(key -> key.templateId().equals(templateId));
+    }
+
+    private static CompiledTemplate compile(TermsAndConditionsTemplateDTO template) {
+        VariableSchema schema = VariableSchema.parse(template.getVariables(), OBJECT_MAPPER);
+        return CompiledTemplate.compile(template.getTemplateContent(), schema);
+    }
+
+    private static LocalDateTime lastModified(TermsAndConditionsTemplateDTO template) {
+        return template.getUpdatedAt() != null ? template.getUpdatedAt() : template.getCreatedAt();
+    }
+
+    private record TemplateKey(UUID templateId, String version, LocalDateTime lastModified) {
+    }
+}
\ No newline at end of file
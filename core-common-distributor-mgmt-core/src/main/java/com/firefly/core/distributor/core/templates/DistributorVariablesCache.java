@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the immutable per-distributor variable snapshots used when generating terms and conditions.
+ * <p>
+ * A snapshot holds only the variables derived from the distributor record; time-based variables are
+ * added by the caller at render time. Entries are evicted when the distributor is updated or deleted
+ * and expire after a bounded TTL, which also bounds staleness for changes made on other nodes. A load that
+ * started before an invalidation of the same distributor is not stored; invalidations are tracked per
+ * distributor, so loads of other distributors are unaffected. Hit and miss counts are published as
+ * Micrometer cache metrics.
+ */
+@Component
+public class DistributorVariablesCache {
+
+    private final Cache<UUID, Map<String, Object>> snapshots;
+
+    // Sequence number of the latest invalidation of each distributor, kept for as long as a snapshot can live
+    private final Cache<UUID, Long> invalidations;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public DistributorVariablesCache(
+            @Value("${distributor.terms-and-conditions.distributor-variables-cache.max-size:10000}") long maxSize,
+            @Value("${distributor.terms-and-conditions.distributor-variables-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "terms-and-conditions.distributor-variables");
+    }
+
+    /**
+     * Get the variable snapshot of a distributor, loading it on a miss.
+     *
+     * @param distributorId the distributor ID
+     * @param loader loads the snapshot from the distributor record
+     * @return a Mono emitting the snapshot, or empty if the distributor does not exist
+     */
+    public Mono<Map<String, Object>> get(UUID distributorId, Supplier<Mono<Map<String, Object>>> loader) {
+        return Mono.defer(() -> {
+            Map<String, Object> cached = snapshots.getIfPresent(distributorId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long loadGeneration = sequence.get();
+            return loader.get()
+                    .doOnNext(snapshot -> putIfCurrent(distributorId, snapshot, loadGeneration));
+        });
+    }
+
+    /**
+     * Get the cached snapshots among the given distributor IDs.
+     *
+     * @param distributorIds the distributor IDs
+     * @return the snapshots present in the cache, keyed by distributor ID
+     */
+    public Map<UUID, Map<String, Object>> getAllPresent(Collection<UUID> distributorIds) {
+        return new HashMap<>(snapshots.getAllPresent(distributorIds));
+    }
+
+    /**
+     * Store snapshots loaded outside the cache so later lookups hit.
+     *
+     * @param loaded the snapshots loaded by the caller, keyed by distributor ID
+     * @param loadGeneration the generation returned by {@link #currentGeneration()} before loading
+     */
+    public void putAll(Map<UUID, Map<String, Object>> loaded, long loadGeneration) {
+        loaded.forEach((distributorId, snapshot) -> putIfCurrent(distributorId, snapshot, loadGeneration));
+    }
+
+    /**
+     * Get the current invalidation generation, to pass to {@link #putAll} after a load.
+     *
+     * @return the current generation
+     */
+    public long currentGeneration() {
+        return sequence.get();
+    }
+
+    /**
+     * Evict the snapshot of a distributor.
+     *
+     * @param distributorId the distributor ID
+     */
+    public void invalidate(UUID distributorId) {
+        // Recorded before the eviction, so a concurrent putIfCurrent either sees it or is evicted after it
+        invalidations.put(distributorId, sequence.incrementAndGet());
+        snapshots.invalidate(distributorId);
+    }
+
+    /**
+     * Store a loaded snapshot unless the distributor was invalidated after the load started.
+     */
+    private void putIfCurrent(UUID distributorId, Map<String, Object> snapshot, long loadGeneration) {
+        snapshots.asMap().compute(distributorId, (id, cached) -> {
+            Long invalidatedAt = invalidations.getIfPresent(id);
+            return invalidatedAt != null && invalidatedAt > loadGeneration ? cached : snapshot;
+        });
+    }
+}
\ No newline at end of file
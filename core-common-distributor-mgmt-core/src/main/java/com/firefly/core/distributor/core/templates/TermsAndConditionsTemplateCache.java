@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import com.firefly.core.distributor.models.entities.TermsAndConditionsTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for the terms and conditions template lookups on the generation path.
+ * <p>
+ * Templates change rarely, so entries live for a bounded TTL and every template write invalidates the
+ * whole cache. Loads that started before an invalidation are not stored, so a concurrent write cannot be
+ * overwritten by the stale row it replaced. Hit and miss counts are published as Micrometer cache metrics.
+ */
+@Component
+public class TermsAndConditionsTemplateCache {
+
+    /**
+     * Cached template lists.
+     */
+    public enum TemplateList {
+        ACTIVE,
+        ACTIVE_DEFAULT
+    }
+
+    private final Cache<UUID, TermsAndConditionsTemplate> byId;
+    private final Cache<String, TermsAndConditionsTemplate> defaultByCategory;
+    private final Cache<TemplateList, List<TermsAndConditionsTemplate>> lists;
+    private final AtomicLong generation = new AtomicLong();
+
+    public TermsAndConditionsTemplateCache(
+            @Value("${distributor.terms-and-conditions.template-read-cache.max-size:512}") long maxSize,
+            @Value("${distributor.terms-and-conditions.template-read-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.byId = newCache(maxSize, ttl);
+        this.defaultByCategory = newCache(maxSize, ttl);
+        this.lists = newCache(TemplateList.values().length, ttl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "terms-and-conditions-templates.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, defaultByCategory, "terms-and-conditions-templates.default-by-category");
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, "terms-and-conditions-templates.lists");
+    }
+
+    /**
+     * Get a template by ID, loading it on a miss.
+     *
+     * @param id the template ID
+     * @param loader loads the template from the database
+     * @return a Mono emitting the template, or empty if it does not exist
+     */
+    public Mono<TermsAndConditionsTemplate> getById(UUID id, Supplier<Mono<TermsAndConditionsTemplate>> loader) {
+        return getOrLoad(byId, id, loader);
+    }
+
+    /**
+     * Get the cached templates among the given IDs.
+     *
+     * @param ids the template IDs
+     * @return the templates present in the cache, keyed by ID
+     */
+    public Map<UUID, TermsAndConditionsTemplate> getAllPresentById(Collection<UUID> ids) {
+        return new HashMap<>(byId.getAllPresent(ids));
+    }
+
+    /**
+     * Store templates loaded outside the cache so later lookups by ID hit.
+     *
+     * @param templates the templates loaded by the caller
+     * @param loadGeneration the generation returned by {@link #currentGeneration()} before loading
+     */
+    public void putAllById(Collection<TermsAndConditionsTemplate> templates, long loadGeneration) {
+        if (generation.get() == loadGeneration) {
+            templates.forEach(template -> byId.put(template.getId(), template));
+        }
+    }
+
+    /**
+     * Get the default active template of a category, loading it on a miss.
+     *
+     * @param category the category
+     * @param loader loads the template from the database
+     * @return a Mono emitting the template, or empty if the category has no default
+     */
+    public Mono<TermsAndConditionsTemplate> getDefaultByCategory(String category, Supplier<Mono<TermsAndConditionsTemplate>> loader) {
+        return getOrLoad(defaultByCategory, category, loader);
+    }
+
+    /**
+     * Get a template list, loading it on a miss.
+     *
+     * @param list the list to get
+     * @param loader loads the list from the database
+     * @return a Flux emitting the templates of the list
+     */
+    public Flux<TermsAndConditionsTemplate> getList(TemplateList list, Supplier<Flux<TermsAndConditionsTemplate>> loader) {
+        return getOrLoad(lists, list, () -> loader.get().collectList())
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    /**
+     * Get the current invalidation generation, to pass to {@link #putAllById} after a load.
+     *
+     * @return the current generation
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Evict every cached template and template list.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        byId.invalidateAll();
+        defaultByCategory.invalidateAll();
+        lists.invalidateAll();
+    }
+
+    private <K, V> Mono<V> getOrLoad(Cache<K, V> cache, K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            V cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long loadGeneration = generation.get();
+            return loader.get()
+                    .doOnNext(value -> {
+                        if (generation.get() == loadGeneration) {
+                            cache.put(key, value);
+                        }
+                    });
+        });
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled form of a template's variable definitions JSON.
+ * <p>
+ * The definitions are parsed once when the template is compiled; validation then runs against
+ * plain fields with no JSON parsing. A definitions document that cannot be parsed yields a
+ * schema that rejects every variable set, matching how the original per-call parse failed.
+ */
+public final class VariableSchema {
+
+    /**
+     * Schema for templates without variable definitions; accepts any variables.
+     */
+    public static final VariableSchema EMPTY = new VariableSchema(List.of(), true);
+
+    private static final VariableSchema INVALID = new VariableSchema(List.of(), false);
+
+    private final VariableDefinition[] definitions;
+    private final boolean parseable;
+    private final Map<String, Object> defaults;
+
+    private VariableSchema(List<VariableDefinition> definitions, boolean parseable) {
+        this.definitions = definitions.toArray(new VariableDefinition[0]);
+        this.parseable = parseable;
+
+        Map<String, Object> defaultValues = new HashMap<>();
+        for (VariableDefinition definition : this.definitions) {
+            if (definition.defaultValue() != null) {
+                defaultValues.put(definition.name(), definition.defaultValue());
+            }
+        }
+        this.defaults = Collections.unmodifiableMap(defaultValues);
+    }
+
+    /**
+     * Parse variable definitions JSON into a schema.
+     *
+     * @param variablesJson the JSON defining available variables and their types
+     * @param objectMapper the mapper used to read the JSON
+     * @return the compiled schema
+     */
+    public static VariableSchema parse(String variablesJson, ObjectMapper objectMapper) {
+        if (variablesJson == null || variablesJson.trim().isEmpty()) {
+            return EMPTY;
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(variablesJson);
+        } catch (Exception e) {
+            return INVALID;
+        }
+        if (root == null || root.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<VariableDefinition> definitions = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode definition = entry.getValue();
+
+            boolean required = definition.has("required") && definition.get("required").asBoolean();
+            VariableType type = VariableType.from(definition.has("type") ? definition.get("type").asText() : "string");
+            Object defaultValue = definition.has("default") ? toValue(definition.get("default")) : null;
+
+            definitions.add(new VariableDefinition(entry.getKey(), type, required, defaultValue));
+        }
+        return new VariableSchema(definitions, true);
+    }
+
+    /**
+     * Check the given variables against the schema.
+     *
+     * @param variables the variables to validate
+     * @return true if every required variable is present and every defined variable has the expected type
+     */
+    public boolean isSatisfiedBy(Map<String, Object> variables) {
+        if (!parseable) {
+            return false;
+        }
+
+        Map<String, Object> values = variables != null ? variables : Map.of();
+        for (VariableDefinition definition : definitions) {
+            Object value = values.get(definition.name());
+            if (value == null) {
+                if (definition.required()) {
+                    return false;
+                }
+                continue;
+            }
+            if (!definition.type().accepts(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the default values declared by the schema.
+     *
+     * @return an unmodifiable map of variable name to default value
+     */
+    public Map<String, Object> getDefaults() {
+        return defaults;
+    }
+
+    /**
+     * Get the variable definitions declared by the schema.
+     *
+     * @return the variable definitions
+     */
+    public List<VariableDefinition> getDefinitions() {
+        return List.of(definitions);
+    }
+
+    private static Object toValue(JsonNode node) {
+        if (node.isNull()) {
+            return null;
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        return node.toString();
+    }
+
+    /**
+     * A single declared template variable.
+     *
+     * @param name the variable name
+     * @param type the expected value type
+     * @param required whether a value must be supplied
+     * @param defaultValue the declared default value, or null if none
+     */
+    public record VariableDefinition(String name, VariableType type, boolean required, Object defaultValue) {
+    }
+
+    /**
+     * Value types supported in variable definitions.
+     */
+    public enum VariableType {
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        DATE,
+        ANY;
+
+        static VariableType from(String type) {
+            switch (type.toLowerCase()) {
+                case "string":
+                    return STRING;
+                case "number":
+                    return NUMBER;
+                case "boolean":
+                    return BOOLEAN;
+                case "date":
+                    return DATE;
+                default:
+                    return ANY; // Unknown types are considered valid
+            }
+        }
+
+        boolean accepts(Object value) {
+            switch (this) {
+                case STRING:
+                case DATE: // Dates are passed as strings
+                    return value instanceof String;
+                case NUMBER:
+                    return value instanceof Number;
+                case BOOLEAN:
+                    return value instanceof Boolean;
+                default:
+                    return true;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.tracking;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered, node-aware tracking number generator.
+ * <p>
+ * A tracking number is {@code SHIP-} followed by 13 Crockford base32 characters and a Luhn mod 32 check
+ * character, e.g. {@code SHIP-06JFKX7CR0W00Y}. The encoded 63-bit value holds the milliseconds since
+ * 2025-01-01 (41 bits), the node ID (10 bits) and a per-millisecond sequence (12 bits), so numbers from one
+ * node never repeat and sort by creation time. When the sequence of a millisecond is exhausted, or the
+ * clock moves backwards, generation continues on the following millisecond instead of waiting.
+ * <p>
+ * Nodes must be given distinct IDs through {@code distributor.shipments.tracking-number.node-id}; without
+ * one, a random node ID is drawn at startup, and the unique index on the tracking number catches the rare
+ * clash between nodes.
+ */
+@Component
+public class TimeOrderedTrackingNumberGenerator implements TrackingNumberGenerator {
+
+    static final String PREFIX = "SHIP-";
+    static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final long EPOCH_MILLIS = 1_735_689_600_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int ENCODED_LENGTH = 13;
+    private static final int LENGTH = PREFIX.length() + ENCODED_LENGTH + 1;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] VALUES = new int[128];
+
+    static {
+        Arrays.fill(VALUES, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = i;
+        }
+    }
+
+    private final long node;
+    private final LongSupplier clock;
+
+    /**
+     * Last issued tick: milliseconds since the epoch shifted left by the sequence bits, plus the sequence.
+     */
+    private final AtomicLong lastTick = new AtomicLong();
+
+    @Autowired
+    public TimeOrderedTrackingNumberGenerator(
+            @Value("${distributor.shipments.tracking-number.node-id:-1}") int nodeId) {
+        this(nodeId < 0 ? new SecureRandom().nextInt(MAX_NODE_ID + 1) : nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedTrackingNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Tracking number node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String next() {
+        long tick = nextTick();
+        long value = (tick >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                | node << SEQUENCE_BITS
+                | tick & ((1L << SEQUENCE_BITS) - 1);
+
+        char[] chars = new char[LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = PREFIX.length() + ENCODED_LENGTH - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        chars[LENGTH - 1] = ALPHABET[checkValue(chars)];
+        return new String(chars);
+    }
+
+    /**
+     * Check whether a tracking number has the format and check character produced by this generator.
+     *
+     * @param trackingNumber the tracking number
+     * @return true if the tracking number is well formed
+     */
+    public static boolean isValid(String trackingNumber) {
+        if (trackingNumber == null || trackingNumber.length() != LENGTH || !trackingNumber.startsWith(PREFIX)) {
+            return false;
+        }
+        char[] chars = trackingNumber.toCharArray();
+        for (int i = PREFIX.length(); i < LENGTH; i++) {
+            if (chars[i] >= VALUES.length || VALUES[chars[i]] < 0) {
+                return false;
+            }
+        }
+        return VALUES[chars[LENGTH - 1]] == checkValue(chars);
+    }
+
+    private long nextTick() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTick.get();
+            long next = Math.max(last + 1, now);
+            if (lastTick.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Luhn mod 32 check value of the encoded characters, which catches any single changed character
+     * and most swaps of adjacent characters.
+     */
+    private static int checkValue(char[] chars) {
+        int sum = 0;
+        int factor = 2;
+        for (int i = PREFIX.length() + ENCODED_LENGTH - 1; i >= PREFIX.length(); i--) {
+            int addend = factor * VALUES[chars[i]];
+            sum += addend / ALPHABET.length + addend % ALPHABET.length;
+            factor = 3 - factor;
+        }
+        return (ALPHABET.length - sum % ALPHABET.length) % ALPHABET.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.tracking;
+
+/**
+ * Generates tracking numbers for new shipments.
+ * <p>
+ * {@link TimeOrderedTrackingNumberGenerator} is the default; declare a {@code @Primary} bean to replace it.
+ * Generated numbers must fit the {@code shipment.tracking_number} column, whose unique index rejects duplicates.
+ */
+public interface TrackingNumberGenerator {
+
+    /**
+     * Generate the next tracking number.
+     *
+     * @return a tracking number not previously returned by this generator
+     */
+    String next();
+}
\ No newline at end of file
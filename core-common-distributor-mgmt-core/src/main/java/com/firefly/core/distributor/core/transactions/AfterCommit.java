@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.transactions;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Defers side effects of a write, such as cache invalidation, until the surrounding reactive transaction commits.
+ * <p>
+ * A side effect applied before the commit can be undone by a concurrent read of the still committed old state,
+ * for example a read re-caching the old row after an invalidation; after the commit every new read sees the
+ * change. Outside a transaction the side effect runs at once, since the write is already committed. A rolled
+ * back transaction runs nothing.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Run an action once the current transaction commits, or at once when no transaction is active.
+     *
+     * @param action the action
+     * @return a Mono completing once the action has run or is registered to run on commit
+     */
+    public static Mono<Void> run(Runnable action) {
+        return defer(() -> Mono.fromRunnable(action));
+    }
+
+    /**
+     * Subscribe to a Mono once the current transaction commits, or at once when no transaction is active.
+     * The commit completes only when the Mono does.
+     *
+     * @param action supplies the Mono
+     * @return a Mono completing once the supplied Mono has completed or is registered to run on commit
+     */
+    public static Mono<Void> defer(Supplier<? extends Mono<?>> action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .map(synchronizations -> {
+                    synchronizations.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.defer(action).then();
+                        }
+                    });
+                    return true;
+                })
+                .defaultIfEmpty(false)
+                .flatMap(registered -> registered ? Mono.<Void>empty() : Mono.defer(action).then());
+    }
+}
\ No newline at end of file
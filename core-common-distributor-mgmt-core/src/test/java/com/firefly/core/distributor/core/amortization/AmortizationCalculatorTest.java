@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.amortization;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AmortizationCalculatorTest {
+
+    @Test
+    void schedule_ShouldRepayPrincipalWithLevelPayments() {
+        // Arrange
+        long rate = AmortizationCalculator.toScaledRate(new BigDecimal("6.00"));
+
+        // Act
+        AmortizationSchedule schedule = AmortizationCalculator.schedule(1_000_000, rate, 12);
+
+        // Assert
+        assertEquals(86_066, schedule.paymentCents());
+        assertEquals(12, schedule.termMonths());
+        assertEquals(5_000, schedule.interests()[0]);
+        assertEquals(0, schedule.balances()[11]);
+        assertEquals(1_000_000, Arrays.stream(schedule.principals()).sum());
+        assertEquals(schedule.totalInterestCents(), Arrays.stream(schedule.interests()).sum());
+        for (int period = 0; period < 11; period++) {
+            assertEquals(86_066, schedule.payments()[period]);
+        }
+    }
+
+    @Test
+    void schedule_WhenRateIsZero_ShouldSplitPrincipalEvenly() {
+        // Act
+        AmortizationSchedule schedule = AmortizationCalculator.schedule(500_000, 0, 7);
+
+        // Assert
+        assertEquals(71_429, schedule.paymentCents());
+        assertEquals(0, schedule.totalInterestCents());
+        assertEquals(71_426, schedule.payments()[6]);
+        assertEquals(500_000, Arrays.stream(schedule.payments()).sum());
+    }
+
+    @Test
+    void paymentCents_ShouldMatchAnnuityFormulaOverLongTerms() {
+        // Act & Assert
+        assertEquals(1_705_441, AmortizationCalculator.paymentCents(2_500_000_00L, 72_500, 360));
+    }
+
+    @Test
+    void paymentCents_WhenExactlyHalfACent_ShouldRoundHalfEven() {
+        // Act & Assert
+        assertEquals(2, AmortizationCalculator.paymentCents(5, 0, 2));
+        assertEquals(8, AmortizationCalculator.paymentCents(15, 0, 2));
+    }
+
+    @Test
+    void summarize_ShouldMatchIndividualSchedules() {
+        // Arrange
+        long[] principals = {1_000_000, 2_500_000_00L, 500_000, 0};
+        long[] rates = {60_000, 72_500, 0, 50_000};
+        int[] terms = {12, 360, 7, 24};
+        long[] payments = new long[4];
+        long[] totalInterest = new long[4];
+
+        // Act
+        AmortizationCalculator.summarize(4, principals, rates, terms, payments, totalInterest);
+
+        // Assert
+        for (int i = 0; i < 4; i++) {
+            AmortizationSchedule schedule = AmortizationCalculator.schedule(principals[i], rates[i], terms[i]);
+            assertEquals(schedule.paymentCents(), payments[i]);
+            assertEquals(schedule.totalInterestCents(), totalInterest[i]);
+        }
+    }
+
+    @Test
+    void toScaledRate_ShouldCarryFourDecimalPlacesOfPercent() {
+        // Act & Assert
+        assertEquals(72_500, AmortizationCalculator.toScaledRate(new BigDecimal("7.25")));
+        assertEquals(0, AmortizationCalculator.toScaledRate(null));
+    }
+
+    @Test
+    void paymentCents_WhenTermIsNotPositive_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> AmortizationCalculator.paymentCents(1_000, 0, 0));
+    }
+}
\ No newline at end of file
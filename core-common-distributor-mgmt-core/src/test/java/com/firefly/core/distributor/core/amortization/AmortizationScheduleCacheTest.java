@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.amortization;
+
+import com.firefly.core.distributor.interfaces.dtos.AmortizationInstallmentDTO;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationScheduleDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AmortizationScheduleCacheTest {
+
+    @Test
+    void weigh_ShouldCountInstallments() {
+        // Arrange
+        AmortizationScheduleDTO schedule = schedule(360);
+
+        // Act & Assert
+        assertEquals(361, AmortizationScheduleCache.weigh(null, schedule));
+        assertEquals(1, AmortizationScheduleCache.weigh(null, AmortizationScheduleDTO.builder().build()));
+    }
+
+    @Test
+    void get_WhenCached_ShouldNotRecompute() {
+        // Arrange
+        AmortizationScheduleCache cache = new AmortizationScheduleCache(10_000, Duration.ofMinutes(30), new SimpleMeterRegistry());
+        UUID lendingContractId = UUID.randomUUID();
+        LoanTerms terms = new LoanTerms(1_000_000, 60_000, 12, LocalDate.of(2026, 1, 1), 0);
+        AtomicInteger computations = new AtomicInteger();
+
+        // Act
+        cache.get(lendingContractId, terms, () -> {
+            computations.incrementAndGet();
+            return schedule(12);
+        });
+        AmortizationScheduleDTO cached = cache.get(lendingContractId, terms, () -> {
+            computations.incrementAndGet();
+            return schedule(12);
+        });
+
+        // Assert
+        assertEquals(1, computations.get());
+        assertEquals(12, cached.getInstallments().size());
+    }
+
+    private AmortizationScheduleDTO schedule(int termMonths) {
+        return AmortizationScheduleDTO.builder()
+                .termMonths(termMonths)
+                .installments(Collections.nCopies(termMonths, AmortizationInstallmentDTO.builder().build()))
+                .build();
+    }
+}
\ No newline at end of file
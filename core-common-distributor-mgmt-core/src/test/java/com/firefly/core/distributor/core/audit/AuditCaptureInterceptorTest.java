@@ -0,0 +1,368 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
+import com.firefly.core.distributor.models.entities.DistributorAgent;
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class AuditCaptureInterceptorTest {
+
+    private AuditLogWriter auditLogWriter;
+    private AgentOperations agents;
+    private UUID distributorId;
+    private UUID agentId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        auditLogWriter = mock(AuditLogWriter.class);
+        when(auditLogWriter.write(any(DistributorAuditLog.class))).thenReturn(Mono.empty());
+        ObjectProvider<AuditLogWriter> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(auditLogWriter);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new AgentOperations());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new AuditCaptureInterceptor(provider));
+        agents = (AgentOperations) proxyFactory.getProxy();
+
+        distributorId = UUID.randomUUID();
+        agentId = UUID.randomUUID();
+    }
+
+    @Test
+    void invoke_WhenEntityIsSavedWithoutLoad_ShouldRecordCreated() {
+        // Arrange
+        DistributorAgent created = agent("Ada");
+
+        // Act & Assert
+        StepVerifier.create(agents.createAgent(created))
+                .expectNext(created)
+                .verifyComplete();
+
+        // Verify
+        DistributorAuditLog auditLog = capturedAuditLog();
+        assertEquals(DistributorActionEnum.CREATED, auditLog.getAction());
+        assertEquals("DistributorAgent", auditLog.getEntity());
+        assertEquals(agentId.toString(), auditLog.getEntityId());
+        assertEquals(distributorId, auditLog.getDistributorId());
+        assertEquals("{\"operation\":\"createAgent\"}", auditLog.getAuditMetadata().asString());
+    }
+
+    @Test
+    void invoke_WhenLoadedEntityIsSaved_ShouldRecordChangedFieldsOnly() {
+        // Arrange
+        DistributorAgent existing = agent("Ada");
+        DistributorAgent updated = agent("Grace");
+
+        // Act & Assert
+        StepVerifier.create(agents.updateAgent(existing, updated))
+                .expectNext(updated)
+                .verifyComplete();
+
+        // Verify
+        DistributorAuditLog auditLog = capturedAuditLog();
+        assertEquals(DistributorActionEnum.UPDATED, auditLog.getAction());
+        assertEquals("{\"operation\":\"updateAgent\",\"changes\":{\"firstName\":{\"old\":\"Ada\",\"new\":\"Grace\"}}}",
+                auditLog.getAuditMetadata().asString());
+    }
+
+    @Test
+    void invoke_WhenSavedEntityIsUnchanged_ShouldNotRecord() {
+        // Act & Assert
+        StepVerifier.create(agents.updateAgent(agent("Ada"), agent("Ada")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Verify
+        verify(auditLogWriter, never()).write(any());
+    }
+
+    @Test
+    void invoke_WhenDeletingLoadedEntity_ShouldRecordTerminated() {
+        // Act & Assert
+        StepVerifier.create(agents.deleteAgent(agentId, agent("Ada")))
+                .verifyComplete();
+
+        // Verify
+        DistributorAuditLog auditLog = capturedAuditLog();
+        assertEquals(DistributorActionEnum.TERMINATED, auditLog.getAction());
+        assertEquals(agentId.toString(), auditLog.getEntityId());
+        assertNull(auditLog.getUserId());
+    }
+
+    @Test
+    void invoke_WhenCallFails_ShouldNotRecord() {
+        // Act & Assert
+        StepVerifier.create(agents.updateAgentAndFail(agent("Ada"), agent("Grace")))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Verify
+        verify(auditLogWriter, never()).write(any());
+    }
+
+    @Test
+    void invoke_WhenStreamCompletes_ShouldRecordEntitiesWrittenInBulk() {
+        // Arrange
+        DistributorAgent existing = agent("Ada");
+        DistributorAgent approved = agent("Grace");
+
+        // Act & Assert
+        StepVerifier.create(agents.approveAgents(existing, approved))
+                .expectNext(approved)
+                .verifyComplete();
+
+        // Verify
+        DistributorAuditLog auditLog = capturedAuditLog();
+        assertEquals(DistributorActionEnum.UPDATED, auditLog.getAction());
+        assertEquals("{\"operation\":\"approveAgents\",\"changes\":{\"firstName\":{\"old\":\"Ada\",\"new\":\"Grace\"}}}",
+                auditLog.getAuditMetadata().asString());
+    }
+
+    @Test
+    void invoke_WhenStreamFails_ShouldNotRecord() {
+        // Act & Assert
+        StepVerifier.create(agents.approveAgentsAndFail(agent("Ada"), agent("Grace")))
+                .expectNextCount(1)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Verify
+        verify(auditLogWriter, never()).write(any());
+    }
+
+    @Test
+    void invoke_WhenStreamFailsAfterFlushedUnit_ShouldRecordFlushedUnitOnce() {
+        // Act & Assert
+        StepVerifier.create(agents.approveAgentsInUnitsAndFail(agent("Ada"), agent("Grace")))
+                .expectNextCount(1)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Verify
+        DistributorAuditLog auditLog = capturedAuditLog();
+        assertEquals(DistributorActionEnum.UPDATED, auditLog.getAction());
+        assertEquals("{\"operation\":\"approveAgentsInUnitsAndFail\",\"changes\":{\"firstName\":{\"old\":\"Ada\",\"new\":\"Grace\"}}}",
+                auditLog.getAuditMetadata().asString());
+    }
+
+    @Test
+    void invoke_WhenEntitiesAreInsertedInBulk_ShouldRecordCreated() {
+        // Act & Assert
+        StepVerifier.create(agents.createAgents(List.of(agent("Ada"))))
+                .verifyComplete();
+
+        // Verify
+        DistributorAuditLog auditLog = capturedAuditLog();
+        assertEquals(DistributorActionEnum.CREATED, auditLog.getAction());
+        assertEquals(agentId.toString(), auditLog.getEntityId());
+    }
+
+    @Test
+    void invoke_InTransaction_ShouldHandEntriesToWriterAfterCommit() {
+        // Arrange
+        List<String> events = new CopyOnWriteArrayList<>();
+        recordWrites(events);
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new RecordingTransactionManager(events));
+
+        // Act & Assert
+        StepVerifier.create(agents.createAgent(agent("Ada")).as(transactionalOperator::transactional))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Assert
+        assertEquals(List.of("commit", "write"), events);
+    }
+
+    @Test
+    void invoke_WhenSurroundingTransactionRollsBack_ShouldNotRecord() {
+        // Arrange
+        List<String> events = new CopyOnWriteArrayList<>();
+        recordWrites(events);
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new RecordingTransactionManager(events));
+
+        // Act & Assert
+        StepVerifier.create(agents.createAgent(agent("Ada"))
+                        .then(Mono.error(new IllegalStateException("Rolled back")))
+                        .as(transactionalOperator::transactional))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Assert
+        assertEquals(List.of("rollback"), events);
+    }
+
+    @Test
+    void invoke_InTransactionWithFailPolicy_ShouldHandEntriesToWriterBeforeCommit() {
+        // Arrange
+        List<String> events = new CopyOnWriteArrayList<>();
+        recordWrites(events);
+        when(auditLogWriter.getOverflowPolicy()).thenReturn(AuditLogWriter.OverflowPolicy.FAIL);
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new RecordingTransactionManager(events));
+
+        // Act & Assert
+        StepVerifier.create(agents.createAgent(agent("Ada")).as(transactionalOperator::transactional))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Assert
+        assertEquals(List.of("write", "commit"), events);
+    }
+
+    @Test
+    void changes_WithLongValue_ShouldAbbreviate() {
+        // Arrange
+        String longName = "x".repeat(AuditCaptureInterceptor.MAX_VALUE_LENGTH + 10);
+
+        // Act
+        Map<String, Map<String, String>> changes = AuditCaptureInterceptor.changes(
+                AuditCapture.snapshot(agent("Ada")), AuditCapture.snapshot(agent(longName)));
+
+        // Assert
+        String abbreviated = changes.get("firstName").get("new");
+        assertEquals(AuditCaptureInterceptor.MAX_VALUE_LENGTH + 3, abbreviated.length());
+        assertTrue(abbreviated.endsWith("..."));
+    }
+
+    private void recordWrites(List<String> events) {
+        when(auditLogWriter.write(any(DistributorAuditLog.class)))
+                .thenAnswer(invocation -> Mono.fromRunnable(() -> events.add("write")));
+    }
+
+    private DistributorAuditLog capturedAuditLog() {
+        ArgumentCaptor<DistributorAuditLog> captor = ArgumentCaptor.forClass(DistributorAuditLog.class);
+        verify(auditLogWriter).write(captor.capture());
+        return captor.getValue();
+    }
+
+    private DistributorAgent agent(String firstName) {
+        return DistributorAgent.builder()
+                .id(agentId)
+                .distributorId(distributorId)
+                .firstName(firstName)
+                .build();
+    }
+
+    /**
+     * Stands in for a service implementation, invoking the entity callbacks the way the R2DBC template does.
+     */
+    public static class AgentOperations {
+
+        private final AuditCaptureCallbacks callbacks = new AuditCaptureCallbacks();
+
+        public Mono<DistributorAgent> createAgent(DistributorAgent created) {
+            return save(created);
+        }
+
+        public Mono<DistributorAgent> updateAgent(DistributorAgent existing, DistributorAgent updated) {
+            return load(existing).then(save(updated));
+        }
+
+        public Mono<DistributorAgent> updateAgentAndFail(DistributorAgent existing, DistributorAgent updated) {
+            return updateAgent(existing, updated).then(Mono.error(new IllegalStateException("Rolled back")));
+        }
+
+        public Mono<Void> deleteAgent(UUID agentId, DistributorAgent existing) {
+            return load(existing).then();
+        }
+
+        public Flux<DistributorAgent> approveAgents(DistributorAgent existing, DistributorAgent approved) {
+            return load(existing).thenMany(AuditCaptureCallbacks.saved(Flux.just(approved)));
+        }
+
+        public Flux<DistributorAgent> approveAgentsAndFail(DistributorAgent existing, DistributorAgent approved) {
+            return approveAgents(existing, approved).concatWith(Mono.error(new IllegalStateException("Rolled back")));
+        }
+
+        public Flux<DistributorAgent> approveAgentsInUnitsAndFail(DistributorAgent existing, DistributorAgent approved) {
+            return approveAgents(existing, approved)
+                    .concatWith(AuditCaptureCallbacks.flush().then(Mono.<DistributorAgent>empty()))
+                    .concatWith(Mono.error(new IllegalStateException("Rolled back")));
+        }
+
+        public Mono<Void> createAgents(List<DistributorAgent> created) {
+            return AuditCaptureCallbacks.saved(created);
+        }
+
+        private Mono<Object> load(DistributorAgent entity) {
+            return Mono.from(callbacks.onAfterConvert(entity, null));
+        }
+
+        private Mono<DistributorAgent> save(DistributorAgent entity) {
+            return Mono.from(callbacks.onAfterSave(entity, null, null)).cast(DistributorAgent.class);
+        }
+    }
+
+    /**
+     * A transaction manager without a resource, recording commits and rollbacks.
+     */
+    private static final class RecordingTransactionManager extends AbstractReactiveTransactionManager {
+
+        private final List<String> events;
+
+        RecordingTransactionManager(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager, GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> events.add("commit"));
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager, GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> events.add("rollback"));
+        }
+    }
+}
\ No newline at end of file
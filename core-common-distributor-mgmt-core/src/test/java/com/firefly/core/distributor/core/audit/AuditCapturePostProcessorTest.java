@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.core.services.impl.LendingContractServiceImpl;
+import com.firefly.core.distributor.core.services.impl.ShipmentServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AuditCapturePostProcessorTest {
+
+    private final AuditCapturePostProcessor.AuditedMethodPointcut pointcut = new AuditCapturePostProcessor.AuditedMethodPointcut();
+
+    @Test
+    void matches_WithMutatingMethods_ShouldMatchMonoAndFluxReturns() {
+        // Act & Assert
+        assertTrue(matches(LendingContractServiceImpl.class, "createLendingContract"));
+        assertTrue(matches(LendingContractServiceImpl.class, "approveLendingContract"));
+        assertTrue(matches(LendingContractServiceImpl.class, "approveLendingContracts"));
+        assertTrue(matches(ShipmentServiceImpl.class, "ingestStatusUpdates"));
+    }
+
+    @Test
+    void matches_WithReadMethods_ShouldNotMatch() {
+        // Act & Assert
+        assertFalse(matches(LendingContractServiceImpl.class, "getLendingContractsPage"));
+        assertFalse(matches(ShipmentServiceImpl.class, "getShipmentsByStatus"));
+    }
+
+    private boolean matches(Class<?> type, String methodName) {
+        Method method = Arrays.stream(type.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(methodName) && !candidate.isSynthetic())
+                .findFirst()
+                .orElseThrow();
+        return pointcut.getClassFilter().matches(type) && pointcut.matches(method, type);
+    }
+}
\ No newline at end of file
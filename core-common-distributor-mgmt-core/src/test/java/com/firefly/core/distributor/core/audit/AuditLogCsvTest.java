@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
+import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AuditLogCsvTest {
+
+    @Test
+    void row_ShouldQuoteFieldsWithSeparatorsAndEmptyNulls() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        UUID distributorId = UUID.randomUUID();
+        DistributorAuditLogDTO auditLog = DistributorAuditLogDTO.builder()
+                .id(id)
+                .distributorId(distributorId)
+                .action(DistributorActionEnum.UPDATED)
+                .entity("DistributorAgent")
+                .entityId("agent-1")
+                .auditMetadata("{\"changes\":{\"email\":{\"old\":\"a\",\"new\":\"b\"}}}")
+                .auditTimestamp(LocalDateTime.of(2026, 10, 16, 12, 30))
+                .build();
+
+        // Act
+        String row = AuditLogCsv.row(auditLog);
+
+        // Assert
+        assertEquals(id + "," + distributorId + ",UPDATED,DistributorAgent,agent-1,"
+                + "\"{\"\"changes\"\":{\"\"email\"\":{\"\"old\"\":\"\"a\"\",\"\"new\"\":\"\"b\"\"}}}\",,,2026-10-16T12:30\r\n", row);
+    }
+
+    @Test
+    void row_WithLineBreak_ShouldQuoteField() {
+        // Arrange
+        DistributorAuditLogDTO auditLog = DistributorAuditLogDTO.builder()
+                .entity("line one\nline two")
+                .build();
+
+        // Act
+        String row = AuditLogCsv.row(auditLog);
+
+        // Assert
+        assertEquals(",,,\"line one\nline two\",,,,,\r\n", row);
+    }
+
+    @Test
+    void row_WithFormulaPrefix_ShouldNeutraliseAndQuoteField() {
+        // Arrange
+        DistributorAuditLogDTO auditLog = DistributorAuditLogDTO.builder()
+                .entity("=HYPERLINK(\"http://x.example\")")
+                .entityId("+1")
+                .auditMetadata("-2")
+                .ipAddress("@SUM(A1)")
+                .build();
+
+        // Act
+        String row = AuditLogCsv.row(auditLog);
+
+        // Assert
+        assertEquals(",,,\"'=HYPERLINK(\"\"http://x.example\"\")\",\"'+1\",\"'-2\",\"'@SUM(A1)\",,\r\n", row);
+    }
+}
\ No newline at end of file
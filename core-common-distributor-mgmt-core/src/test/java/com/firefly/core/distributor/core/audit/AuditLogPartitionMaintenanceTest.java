@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.models.repositories.DistributorAuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class AuditLogPartitionMaintenanceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 16);
+
+    private DistributorAuditLogRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DistributorAuditLogRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        when(repository.createPartitions(any(), any())).thenReturn(Mono.just(1));
+        when(repository.refreshDailyRollups(any(), any())).thenReturn(Mono.just(12L));
+        when(repository.dropPartitionsBefore(any())).thenReturn(Mono.just(2));
+    }
+
+    @Test
+    void maintain_ShouldCreateRefreshAndDropForCurrentDay() {
+        // Arrange
+        AuditLogPartitionMaintenance maintenance = new AuditLogPartitionMaintenance(repository, 3, 24, 2, meterRegistry, clock);
+
+        // Act & Assert
+        StepVerifier.create(maintenance.maintain())
+                .verifyComplete();
+
+        // Verify
+        verify(repository).createPartitions(TODAY, LocalDate.of(2027, 1, 16));
+        verify(repository).refreshDailyRollups(LocalDate.of(2026, 10, 14), LocalDate.of(2026, 10, 17));
+        verify(repository).dropPartitionsBefore(LocalDate.of(2024, 10, 1));
+        assertEquals(1.0, meterRegistry.counter("distributor.audit.partitions.created").count());
+        assertEquals(2.0, meterRegistry.counter("distributor.audit.partitions.dropped").count());
+    }
+
+    @Test
+    void maintain_WithoutRetention_ShouldKeepPartitions() {
+        // Arrange
+        AuditLogPartitionMaintenance maintenance = new AuditLogPartitionMaintenance(repository, 3, 0, 2, meterRegistry, clock);
+
+        // Act & Assert
+        StepVerifier.create(maintenance.maintain())
+                .verifyComplete();
+
+        // Verify
+        verify(repository).createPartitions(TODAY, LocalDate.of(2027, 1, 16));
+        verify(repository, never()).dropPartitionsBefore(any());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.audit;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import com.firefly.core.distributor.models.repositories.DistributorAuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class AuditLogWriterTest {
+
+    private DistributorAuditLogRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DistributorAuditLogRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(repository.insertAll(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+    }
+
+    @Test
+    void write_WhenBatchSizeReached_ShouldFlushOneMultiRowInsert() {
+        // Arrange
+        AuditLogWriter writer = writer(10, 3, AuditLogWriter.OverflowPolicy.CALLER_RUNS);
+        DistributorAuditLog first = auditLog();
+        DistributorAuditLog second = auditLog();
+        DistributorAuditLog third = auditLog();
+
+        // Act
+        writer.start();
+        StepVerifier.create(writer.write(first)).verifyComplete();
+        StepVerifier.create(writer.write(second)).verifyComplete();
+        StepVerifier.create(writer.write(third)).verifyComplete();
+
+        // Verify
+        verify(repository, timeout(1000)).insertAll(List.of(first, second, third));
+        verify(repository, times(1)).insertAll(anyList());
+        assertEquals(3.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "batched").count());
+        assertEquals(0.0, meterRegistry.get("distributor.audit.writer.queue.depth").gauge().value());
+    }
+
+    @Test
+    void write_WhenBufferFullWithDropPolicy_ShouldDropRow() {
+        // Arrange
+        AuditLogWriter writer = writer(1, 10, AuditLogWriter.OverflowPolicy.DROP);
+
+        // Act & Assert
+        StepVerifier.create(writer.write(auditLog())).verifyComplete();
+        StepVerifier.create(writer.write(auditLog())).verifyComplete();
+
+        // Verify
+        verify(repository, never()).insertAll(anyList());
+        assertEquals(1.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "dropped").count());
+        assertEquals(1.0, meterRegistry.get("distributor.audit.writer.queue.depth").gauge().value());
+    }
+
+    @Test
+    void write_WhenBufferFullWithFailPolicy_ShouldReturnError() {
+        // Arrange
+        AuditLogWriter writer = writer(1, 10, AuditLogWriter.OverflowPolicy.FAIL);
+        StepVerifier.create(writer.write(auditLog())).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(writer.write(auditLog()))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Verify
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void write_WhenBufferFullWithCallerRunsPolicy_ShouldInsertDirectly() {
+        // Arrange
+        AuditLogWriter writer = writer(1, 10, AuditLogWriter.OverflowPolicy.CALLER_RUNS);
+        DistributorAuditLog queued = auditLog();
+        DistributorAuditLog overflowing = auditLog();
+        StepVerifier.create(writer.write(queued)).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(writer.write(overflowing)).verifyComplete();
+
+        // Verify
+        verify(repository).insertAll(List.of(overflowing));
+        verify(repository, never()).insertAll(List.of(queued));
+    }
+
+    @Test
+    void stop_WithPendingRows_ShouldFlushBeforeCallback() throws InterruptedException {
+        // Arrange
+        AuditLogWriter writer = writer(10, 100, AuditLogWriter.OverflowPolicy.CALLER_RUNS);
+        DistributorAuditLog first = auditLog();
+        DistributorAuditLog second = auditLog();
+        writer.start();
+        StepVerifier.create(writer.write(first)).verifyComplete();
+        StepVerifier.create(writer.write(second)).verifyComplete();
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        // Act
+        writer.stop(stopped::countDown);
+
+        // Assert
+        assertTrue(stopped.await(1, TimeUnit.SECONDS));
+        verify(repository).insertAll(List.of(first, second));
+        assertFalse(writer.isRunning());
+    }
+
+    @Test
+    void write_AfterStop_ShouldInsertDirectly() {
+        // Arrange
+        AuditLogWriter writer = writer(10, 100, AuditLogWriter.OverflowPolicy.DROP);
+        DistributorAuditLog late = auditLog();
+        writer.start();
+        writer.stop();
+
+        // Act & Assert
+        StepVerifier.create(writer.write(late)).verifyComplete();
+
+        // Verify
+        verify(repository).insertAll(List.of(late));
+        assertEquals(1.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "direct").count());
+    }
+
+    @Test
+    void flush_WhenRowRejected_ShouldSplitBatchAndDiscardOnlyFailingRow() {
+        // Arrange
+        AuditLogWriter writer = writer(10, 4, AuditLogWriter.OverflowPolicy.CALLER_RUNS);
+        List<DistributorAuditLog> rows = List.of(auditLog(), auditLog(), auditLog(), auditLog());
+        DistributorAuditLog rejected = rows.get(2);
+        List<List<DistributorAuditLog>> attempts = Collections.synchronizedList(new ArrayList<>());
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<DistributorAuditLog> batch = List.copyOf(invocation.getArgument(0));
+            attempts.add(batch);
+            return batch.contains(rejected)
+                    ? Mono.error(new DataIntegrityViolationException("duplicate key"))
+                    : Mono.just((long) batch.size());
+        });
+
+        // Act
+        writer.start();
+        rows.forEach(row -> StepVerifier.create(writer.write(row)).verifyComplete());
+
+        // Verify
+        verify(repository, after(300).times(5)).insertAll(anyList());
+        assertEquals(List.of(rows, rows.subList(0, 2), rows.subList(2, 4), List.of(rejected), List.of(rows.get(3))), attempts);
+        assertEquals(3.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "batched").count());
+        assertEquals(1.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "failed").count());
+        assertEquals(0.0, meterRegistry.get("distributor.audit.writer.queue.depth").gauge().value());
+    }
+
+    @Test
+    void flush_WhenFailureIsTransient_ShouldRetryWholeBatch() {
+        // Arrange
+        AuditLogWriter writer = writer(10, 2, AuditLogWriter.OverflowPolicy.CALLER_RUNS);
+        DistributorAuditLog first = auditLog();
+        DistributorAuditLog second = auditLog();
+        when(repository.insertAll(anyList()))
+                .thenReturn(Mono.error(new TransientDataAccessResourceException("connection reset")))
+                .thenReturn(Mono.just(2L));
+
+        // Act
+        writer.start();
+        StepVerifier.create(writer.write(first)).verifyComplete();
+        StepVerifier.create(writer.write(second)).verifyComplete();
+
+        // Verify
+        verify(repository, timeout(2000).times(2)).insertAll(List.of(first, second));
+        verify(repository, after(200).times(2)).insertAll(anyList());
+        assertEquals(2.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "batched").count());
+        assertEquals(0.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "failed").count());
+    }
+
+    @Test
+    void write_FromConcurrentCallers_ShouldQueueEveryRow() throws InterruptedException {
+        // Arrange
+        AuditLogWriter writer = writer(1000, 100, AuditLogWriter.OverflowPolicy.DROP);
+        List<DistributorAuditLog> written = Collections.synchronizedList(new ArrayList<>());
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<DistributorAuditLog> batch = invocation.getArgument(0);
+            written.addAll(batch);
+            return Mono.just((long) batch.size());
+        });
+        writer.start();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread caller = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < 100; j++) {
+                    writer.write(auditLog()).block();
+                }
+            });
+            caller.start();
+            callers.add(caller);
+        }
+
+        // Act
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        // Verify
+        verify(repository, timeout(1000).times(8)).insertAll(anyList());
+        assertEquals(800, written.size());
+        assertEquals(0.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "dropped").count());
+        assertEquals(0.0, meterRegistry.counter("distributor.audit.writer.rows", "outcome", "direct").count());
+    }
+
+    private AuditLogWriter writer(int bufferSize, int batchSize, AuditLogWriter.OverflowPolicy overflowPolicy) {
+        return new AuditLogWriter(repository, bufferSize, batchSize, Duration.ofHours(1), overflowPolicy, meterRegistry);
+    }
+
+    private static DistributorAuditLog auditLog() {
+        DistributorAuditLog auditLog = new DistributorAuditLog();
+        auditLog.setId(UUID.randomUUID());
+        auditLog.setDistributorId(UUID.randomUUID());
+        return auditLog;
+    }
+}
\ No newline at end of file
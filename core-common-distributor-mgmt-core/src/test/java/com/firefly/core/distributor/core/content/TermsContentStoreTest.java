@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.content;
+
+import com.firefly.core.distributor.models.entities.TermsContentBlob;
+import com.firefly.core.distributor.models.repositories.TermsContentBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class TermsContentStoreTest {
+
+    private TermsContentBlobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TermsContentBlobRepository.class);
+        when(repository.insertAllIfAbsent(anyList())).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void storeAll_ShouldInsertIdenticalContentOnce() {
+        // Arrange
+        TermsContentStore store = new TermsContentStore(repository, 1024, DataSize.ofMegabytes(1));
+
+        // Act & Assert
+        StepVerifier.create(store.storeAll(List.of("Same body", "Same body", "Other body")))
+                .assertNext(hashes -> {
+                    assertEquals(2, hashes.size());
+                    assertEquals(store.hash("Same body"), hashes.get("Same body"));
+                })
+                .verifyComplete();
+
+        // Verify
+        ArgumentCaptor<List<TermsContentBlob>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertAllIfAbsent(captor.capture());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resolveAll_WhenContentWasCompressed_ShouldReturnOriginalContent() {
+        // Arrange
+        TermsContentStore writer = new TermsContentStore(repository, 16, DataSize.ofMegabytes(1));
+        String content = "These terms and conditions apply to every distributor. ".repeat(20);
+        writer.store(content).block();
+
+        ArgumentCaptor<List<TermsContentBlob>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertAllIfAbsent(captor.capture());
+        TermsContentBlob blob = captor.getValue().get(0);
+        assertEquals(TermsContentStore.COMPRESSION_GZIP, blob.getCompression());
+        assertTrue(blob.getContent().length < content.length());
+
+        // A fresh store has an empty cache, so the blob is read back from the repository
+        TermsContentStore reader = new TermsContentStore(repository, 16, DataSize.ofMegabytes(1));
+        when(repository.findAllById(anyIterable())).thenReturn(Flux.just(blob));
+
+        // Act & Assert
+        StepVerifier.create(reader.resolveAll(List.of(blob.getContentHash())))
+                .expectNext(Map.of(blob.getContentHash(), content))
+                .verifyComplete();
+    }
+
+    @Test
+    void weigh_ShouldWeighDocumentsByTheirSize() {
+        // Arrange
+        String content = "Clause. ".repeat(1000);
+
+        // Act & Assert
+        assertEquals(2 * content.length(), TermsContentStore.weigh("hash", content));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.enrichment;
+
+import com.firefly.core.distributor.core.services.ProductService;
+import com.firefly.core.distributor.interfaces.dtos.ProductDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductBatchLoaderTest {
+
+    @Mock
+    private ProductService productService;
+
+    private UUID productId1;
+    private UUID productId2;
+
+    @BeforeEach
+    void setUp() {
+        productId1 = UUID.randomUUID();
+        productId2 = UUID.randomUUID();
+    }
+
+    @Test
+    void enrich_WhenRowsShareProducts_ShouldLoadProductsWithSingleQuery() {
+        // Arrange
+        ProductBatchLoader loader = new ProductBatchLoader(productService, 1000);
+        List<ShipmentDTO> shipments = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            shipments.add(ShipmentDTO.builder()
+                    .id(UUID.randomUUID())
+                    .productId(i % 2 == 0 ? productId1 : productId2)
+                    .build());
+        }
+        when(productService.getProductsByIds(any())).thenReturn(Flux.just(
+                ProductDTO.builder().id(productId1).name("Product 1").build(),
+                ProductDTO.builder().id(productId2).name("Product 2").build()));
+        AtomicInteger enriched = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(loader.enrich(Flux.fromIterable(shipments), ShipmentDTO::getProductId,
+                        (shipment, product) -> enriched.incrementAndGet()))
+                .expectNextCount(1000)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(1000, enriched.get());
+        verify(productService, times(1)).getProductsByIds(Set.of(productId1, productId2));
+        verify(productService, never()).getProductById(any());
+    }
+
+    @Test
+    void enrich_WhenProductsRepeatAcrossBatches_ShouldLoadEachProductOnce() {
+        // Arrange
+        ProductBatchLoader loader = new ProductBatchLoader(productService, 2);
+        List<ShipmentDTO> shipments = List.of(
+                ShipmentDTO.builder().productId(productId1).build(),
+                ShipmentDTO.builder().productId(productId1).build(),
+                ShipmentDTO.builder().productId(productId1).build(),
+                ShipmentDTO.builder().productId(productId2).build());
+        List<Collection<UUID>> requested = new ArrayList<>();
+        when(productService.getProductsByIds(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            requested.add(List.copyOf(ids));
+            return Flux.fromIterable(ids).map(id -> ProductDTO.builder().id(id).build());
+        });
+
+        // Act & Assert
+        StepVerifier.create(loader.enrich(Flux.fromIterable(shipments), ShipmentDTO::getProductId, (shipment, product) -> { }))
+                .expectNextCount(4)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(List.of(List.of(productId1), List.of(productId2)), requested);
+    }
+
+    @Test
+    void enrich_WhenProductMissing_ShouldEmitRowUnchanged() {
+        // Arrange
+        ProductBatchLoader loader = new ProductBatchLoader(productService, 1000);
+        ShipmentDTO withProduct = ShipmentDTO.builder().productId(productId1).build();
+        ShipmentDTO withMissingProduct = ShipmentDTO.builder().productId(productId2).build();
+        ShipmentDTO withoutProduct = ShipmentDTO.builder().build();
+        when(productService.getProductsByIds(any())).thenReturn(Flux.just(
+                ProductDTO.builder().id(productId1).build()));
+        List<ShipmentDTO> enriched = new ArrayList<>();
+
+        // Act & Assert
+        StepVerifier.create(loader.enrich(Flux.just(withProduct, withMissingProduct, withoutProduct),
+                        ShipmentDTO::getProductId, (shipment, product) -> enriched.add(shipment)))
+                .expectNext(withProduct, withMissingProduct, withoutProduct)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(List.of(withProduct), enriched);
+        verify(productService, times(1)).getProductsByIds(Set.of(productId1, productId2));
+    }
+
+    @Test
+    void enrich_WhenNoRowHasProduct_ShouldNotQuery() {
+        // Arrange
+        ProductBatchLoader loader = new ProductBatchLoader(productService, 1000);
+
+        // Act & Assert
+        StepVerifier.create(loader.enrich(Flux.just(ShipmentDTO.builder().build()), ShipmentDTO::getProductId,
+                        (shipment, product) -> { }))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Verify
+        verifyNoInteractions(productService);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.events;
+
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusEventDTO;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ShipmentStatusEventPublisherTest {
+
+    @Test
+    void publish_WithSubscribers_ShouldDeliverEventToEachSubscriber() {
+        // Arrange
+        ShipmentStatusEventPublisher publisher = new ShipmentStatusEventPublisher(16);
+        ShipmentStatusEventDTO event = event("SHIPPED");
+
+        // Act & Assert
+        StepVerifier.create(publisher.events().take(1))
+                .then(() -> StepVerifier.create(publisher.events().take(1))
+                        .then(() -> publisher.publish(event))
+                        .expectNext(event)
+                        .verifyComplete())
+                .expectNext(event)
+                .verifyComplete();
+    }
+
+    @Test
+    void publish_WithoutSubscribers_ShouldDropEvent() {
+        // Arrange
+        ShipmentStatusEventPublisher publisher = new ShipmentStatusEventPublisher(16);
+        ShipmentStatusEventDTO dropped = event("SHIPPED");
+        ShipmentStatusEventDTO delivered = event("DELIVERED");
+
+        // Act
+        publisher.publish(dropped);
+
+        // Assert
+        StepVerifier.create(publisher.events().take(1))
+                .then(() -> publisher.publish(delivered))
+                .expectNext(delivered)
+                .verifyComplete();
+    }
+
+    @Test
+    void events_WhenSubscriberFallsBehind_ShouldKeepNewestEvents() {
+        // Arrange
+        ShipmentStatusEventPublisher publisher = new ShipmentStatusEventPublisher(2);
+        ShipmentStatusEventDTO first = event("PENDING");
+        ShipmentStatusEventDTO second = event("SHIPPED");
+        ShipmentStatusEventDTO third = event("DELIVERED");
+
+        // Act & Assert
+        StepVerifier.create(publisher.events(), 0)
+                .then(() -> {
+                    publisher.publish(first);
+                    publisher.publish(second);
+                    publisher.publish(third);
+                })
+                .thenRequest(2)
+                .expectNext(second, third)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void publish_FromConcurrentThreads_ShouldDeliverEveryEvent() {
+        // Arrange
+        ShipmentStatusEventPublisher publisher = new ShipmentStatusEventPublisher(8_000);
+
+        // Act & Assert
+        StepVerifier.create(publisher.events().take(8_000))
+                .then(() -> {
+                    ExecutorService executor = Executors.newFixedThreadPool(8);
+                    for (int thread = 0; thread < 8; thread++) {
+                        executor.execute(() -> {
+                            for (int i = 0; i < 1_000; i++) {
+                                publisher.publish(event("SHIPPED"));
+                            }
+                        });
+                    }
+                    executor.shutdown();
+                    try {
+                        executor.awaitTermination(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .expectNextCount(8_000)
+                .verifyComplete();
+    }
+
+    private static ShipmentStatusEventDTO event(String status) {
+        return ShipmentStatusEventDTO.builder()
+                .shipmentId(UUID.randomUUID())
+                .status(status)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.pagination;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetPaginationTest {
+
+    private record Row(LocalDateTime createdAt, UUID id) {
+    }
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    void fetchPage_WhenMoreRowsThanPageSize_ShouldReturnCursorOfLastRow() {
+        // Arrange
+        List<Row> rows = rows(3);
+
+        // Act & Assert
+        StepVerifier.create(KeysetPagination.fetchPage(null, 2, 500,
+                        (afterTimestamp, afterId, limit) -> Flux.fromIterable(rows).take(limit),
+                        Row::createdAt, Row::id))
+                .assertNext(page -> {
+                    assertEquals(rows.subList(0, 2), page.getContent());
+                    assertEquals(true, page.getHasNext());
+                    assertEquals(new KeysetCursor(rows.get(1).createdAt(), rows.get(1).id()),
+                            KeysetCursor.decode(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void fetchPage_WhenLastPage_ShouldReturnNoCursor() {
+        // Arrange
+        List<Row> rows = rows(2);
+
+        // Act & Assert
+        StepVerifier.create(KeysetPagination.fetchPage(null, 2, 500,
+                        (afterTimestamp, afterId, limit) -> Flux.fromIterable(rows).take(limit),
+                        Row::createdAt, Row::id))
+                .assertNext(page -> {
+                    assertEquals(rows, page.getContent());
+                    assertEquals(false, page.getHasNext());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void fetchPage_WithCursor_ShouldSeekAfterDecodedPosition() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(START, UUID.randomUUID());
+        List<Object> arguments = new ArrayList<>();
+
+        // Act & Assert
+        StepVerifier.create(KeysetPagination.fetchPage(cursor.encode(), 10, 500,
+                        (afterTimestamp, afterId, limit) -> {
+                            arguments.addAll(List.of(afterTimestamp, afterId, limit));
+                            return Flux.<Row>empty();
+                        },
+                        Row::createdAt, Row::id))
+                .assertNext(page -> assertTrue(page.getContent().isEmpty()))
+                .verifyComplete();
+
+        // Verify
+        assertEquals(List.of(cursor.timestamp(), cursor.id(), 11), arguments);
+    }
+
+    @Test
+    void fetchPage_WhenSizeOutOfRange_ShouldClampLimit() {
+        // Arrange
+        List<Integer> limits = new ArrayList<>();
+        KeysetPagination.SeekQuery<Row> query = (afterTimestamp, afterId, limit) -> {
+            limits.add(limit);
+            return Flux.empty();
+        };
+
+        // Act
+        KeysetPagination.fetchPage(null, 10_000, 500, query, Row::createdAt, Row::id).block();
+        KeysetPagination.fetchPage("", 0, 500, query, Row::createdAt, Row::id).block();
+
+        // Assert
+        assertEquals(List.of(501, 2), limits);
+    }
+
+    @Test
+    void fetchPage_WhenCursorMalformed_ShouldFailWithoutQuerying() {
+        // Arrange
+        List<Integer> limits = new ArrayList<>();
+
+        // Act & Assert
+        StepVerifier.create(KeysetPagination.fetchPage("not a cursor", 10, 500,
+                        (afterTimestamp, afterId, limit) -> {
+                            limits.add(limit);
+                            return Flux.<Row>empty();
+                        },
+                        Row::createdAt, Row::id))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        assertTrue(limits.isEmpty());
+    }
+
+    private List<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(START.minusMinutes(i), UUID.randomUUID()))
+                .toList();
+    }
+}
\ No newline at end of file
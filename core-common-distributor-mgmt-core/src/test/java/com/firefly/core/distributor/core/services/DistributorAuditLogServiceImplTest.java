@@ -18,25 +18,44 @@
 package com.firefly.core.distributor.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
+import com.firefly.core.distributor.core.audit.AuditLogWriter;
 import com.firefly.core.distributor.core.mappers.DistributorAuditLogMapper;
 import com.firefly.core.distributor.core.services.impl.DistributorAuditLogServiceImpl;
+import com.firefly.core.distributor.core.pagination.KeysetCursor;
 import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
+import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogSearchDTO;
+import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
 import com.firefly.core.distributor.models.entities.DistributorAuditLog;
 import com.firefly.core.distributor.models.repositories.DistributorAuditLogRepository;
+import com.firefly.core.distributor.models.repositories.DistributorAuditLogSearchCriteria;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.BadSqlGrammarException;
+import org.springframework.r2dbc.UncategorizedR2dbcException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
-import java.util.UUID;
 
 public class DistributorAuditLogServiceImplTest {
 
     private DistributorAuditLogRepository repository;
     private DistributorAuditLogMapper mapper;
+    private AuditLogWriter auditLogWriter;
     private DistributorAuditLogServiceImpl service;
 
     private DistributorAuditLog distributorAuditLog;
@@ -49,6 +68,7 @@ public class DistributorAuditLogServiceImplTest {
         // Initialize mocks
         repository = mock(DistributorAuditLogRepository.class);
         mapper = mock(DistributorAuditLogMapper.class);
+        auditLogWriter = mock(AuditLogWriter.class);
         service = new DistributorAuditLogServiceImpl();
 
         // Use reflection to set the mocked dependencies
@@ -60,6 +80,10 @@ public class DistributorAuditLogServiceImplTest {
             java.lang.reflect.Field mapperField = DistributorAuditLogServiceImpl.class.getDeclaredField("mapper");
             mapperField.setAccessible(true);
             mapperField.set(service, mapper);
+
+            java.lang.reflect.Field writerField = DistributorAuditLogServiceImpl.class.getDeclaredField("auditLogWriter");
+            writerField.setAccessible(true);
+            writerField.set(service, auditLogWriter);
         } catch (Exception e) {
             throw new RuntimeException("Failed to set up test", e);
         }
@@ -81,7 +105,7 @@ public class DistributorAuditLogServiceImplTest {
     void createDistributorAuditLog_ShouldCreateAndReturnDistributorAuditLog() {
         // Arrange
         when(mapper.toEntity(any(DistributorAuditLogDTO.class))).thenReturn(distributorAuditLog);
-        when(repository.save(any(DistributorAuditLog.class))).thenReturn(Mono.just(distributorAuditLog));
+        when(auditLogWriter.write(any(DistributorAuditLog.class))).thenReturn(Mono.empty());
         when(mapper.toDTO(any(DistributorAuditLog.class))).thenReturn(distributorAuditLogDTO);
 
         // Act & Assert
@@ -91,8 +115,25 @@ public class DistributorAuditLogServiceImplTest {
 
         // Verify
         verify(mapper).toEntity(distributorAuditLogDTO);
-        verify(repository).save(distributorAuditLog);
+        verify(auditLogWriter).write(distributorAuditLog);
+        verify(repository, never()).save(any());
         verify(mapper).toDTO(distributorAuditLog);
+        assertNotNull(distributorAuditLog.getId());
+        assertNotNull(distributorAuditLog.getAuditTimestamp());
+    }
+
+    @Test
+    void createDistributorAuditLog_WithInvalidMetadata_ShouldReturnError() {
+        // Arrange
+        distributorAuditLogDTO.setAuditMetadata("{\"operation\":");
+
+        // Act & Assert
+        StepVerifier.create(service.createDistributorAuditLog(distributorAuditLogDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verify(auditLogWriter, never()).write(any());
     }
 
     @Test
@@ -195,4 +236,226 @@ public class DistributorAuditLogServiceImplTest {
         verify(repository).findById(testId);
         verify(mapper, never()).toDTO(any());
     }
-}
+
+    @Test
+    void getDistributorAuditLogsPage_WhenMoreRowsExist_ShouldReturnPageWithCursor() {
+        // Arrange
+        UUID distributorId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2026, 10, 16, 12, 0);
+        DistributorAuditLog newest = auditLog(distributorId, now);
+        DistributorAuditLog middle = auditLog(distributorId, now.minusMinutes(1));
+        DistributorAuditLog oldest = auditLog(distributorId, now.minusMinutes(2));
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), isNull(), isNull(), eq(3)))
+                .thenReturn(Flux.just(newest, middle, oldest));
+        when(mapper.toDTO(any(DistributorAuditLog.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+        DistributorAuditLogSearchDTO search = DistributorAuditLogSearchDTO.builder()
+                .action(DistributorActionEnum.UPDATED)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.getDistributorAuditLogsPage(distributorId, search, null, 2))
+                .assertNext(page -> {
+                    assertEquals(2, page.getContent().size());
+                    assertEquals(true, page.getHasNext());
+                    assertEquals(new KeysetCursor(middle.getAuditTimestamp(), middle.getId()), KeysetCursor.decode(page.getNextCursor()));
+                    assertNull(page.getTotalElements());
+                })
+                .verifyComplete();
+
+        // Verify
+        verify(repository).findKeysetPage(
+                eq(DistributorAuditLogSearchCriteria.builder().distributorId(distributorId).action(DistributorActionEnum.UPDATED).build()),
+                isNull(), isNull(), eq(3));
+    }
+
+    @Test
+    void getDistributorAuditLogsPage_WithInvalidCursor_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(service.getDistributorAuditLogsPage(UUID.randomUUID(), null, "not-a-cursor", 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verify(repository, never()).findKeysetPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getDistributorAuditLogsPage_WithMetadataCriteria_ShouldSearchByContainmentAndPath() {
+        // Arrange
+        UUID distributorId = UUID.randomUUID();
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), isNull(), isNull(), anyInt()))
+                .thenReturn(Flux.empty());
+        DistributorAuditLogSearchDTO search = DistributorAuditLogSearchDTO.builder()
+                .metadataContains("{\"operation\":\"updateDistributor\"}")
+                .metadataPath("$.changes.isActive ? (@.new == \"false\")")
+                .changedField("status")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.getDistributorAuditLogsPage(distributorId, search, null, 10))
+                .assertNext(page -> assertEquals(0, page.getContent().size()))
+                .verifyComplete();
+
+        // Verify
+        verify(repository).findKeysetPage(
+                eq(DistributorAuditLogSearchCriteria.builder()
+                        .distributorId(distributorId)
+                        .metadataContains(List.of("{\"operation\":\"updateDistributor\"}", "{\"changes\":{\"status\":{}}}"))
+                        .metadataPath("$.changes.isActive ? (@.new == \"false\")")
+                        .build()),
+                isNull(), isNull(), eq(11));
+    }
+
+    @Test
+    void getDistributorAuditLogsPage_WithInvalidMetadataContains_ShouldReturnError() {
+        // Arrange
+        DistributorAuditLogSearchDTO search = DistributorAuditLogSearchDTO.builder()
+                .metadataContains("not-json")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.getDistributorAuditLogsPage(UUID.randomUUID(), search, null, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verify(repository, never()).findKeysetPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getDistributorAuditLogsPage_WhenMetadataPathFailsEvaluation_ShouldReturnIllegalArgument() {
+        // Arrange
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), isNull(), isNull(), anyInt()))
+                .thenReturn(Flux.error(new UncategorizedR2dbcException("findKeysetPage", "SELECT",
+                        new R2dbcNonTransientResourceException("invalid regular expression", "2203B"))));
+        DistributorAuditLogSearchDTO search = DistributorAuditLogSearchDTO.builder()
+                .metadataPath("$.entity ? (@ like_regex \"[\")")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.getDistributorAuditLogsPage(UUID.randomUUID(), search, null, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void validateDistributorAuditLogSearch_WithMalformedMetadataPath_ShouldReturnIllegalArgument() {
+        // Arrange
+        when(repository.validateMetadataPath("$.changes[")).thenReturn(Mono.error(new BadSqlGrammarException("validateMetadataPath",
+                "SELECT CAST(:metadataPath AS jsonpath)", new R2dbcBadGrammarException("syntax error", "42601"))));
+        DistributorAuditLogSearchDTO search = DistributorAuditLogSearchDTO.builder()
+                .metadataPath("$.changes[")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.validateDistributorAuditLogSearch(search))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verify(repository, never()).findKeysetPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void validateDistributorAuditLogSearch_WithInvalidMetadataContains_ShouldNotQuery() {
+        // Arrange
+        DistributorAuditLogSearchDTO search = DistributorAuditLogSearchDTO.builder()
+                .metadataContains("not-json")
+                .metadataPath("$.changes")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.validateDistributorAuditLogSearch(search))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verify(repository, never()).validateMetadataPath(any());
+    }
+
+    @Test
+    void validateDistributorAuditLogSearch_WithoutMetadataPath_ShouldComplete() {
+        // Act & Assert
+        StepVerifier.create(service.validateDistributorAuditLogSearch(null))
+                .verifyComplete();
+
+        // Verify
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void exportDistributorAuditLogs_ShouldReadKeysetBatchesUntilExhausted() throws Exception {
+        // Arrange
+        java.lang.reflect.Field batchSizeField = DistributorAuditLogServiceImpl.class.getDeclaredField("exportBatchSize");
+        batchSizeField.setAccessible(true);
+        batchSizeField.set(service, 2);
+
+        UUID distributorId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2026, 10, 16, 12, 0);
+        DistributorAuditLog first = auditLog(distributorId, now);
+        DistributorAuditLog second = auditLog(distributorId, now.minusMinutes(1));
+        DistributorAuditLog third = auditLog(distributorId, now.minusMinutes(2));
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), isNull(), isNull(), eq(2)))
+                .thenReturn(Flux.just(first, second));
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), eq(second.getAuditTimestamp()), eq(second.getId()), eq(2)))
+                .thenReturn(Flux.just(third));
+        when(mapper.toDTO(any(DistributorAuditLog.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.exportDistributorAuditLogs(distributorId, null).map(DistributorAuditLogDTO::getId))
+                .expectNext(first.getId(), second.getId(), third.getId())
+                .verifyComplete();
+
+        // Verify
+        verify(repository, times(2)).findKeysetPage(any(), any(), any(), eq(2));
+    }
+
+    @Test
+    void exportDistributorAuditLogs_ShouldQueryNextBatchOnlyOnDemand() throws Exception {
+        // Arrange
+        java.lang.reflect.Field batchSizeField = DistributorAuditLogServiceImpl.class.getDeclaredField("exportBatchSize");
+        batchSizeField.setAccessible(true);
+        batchSizeField.set(service, 2);
+
+        UUID distributorId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2026, 10, 16, 12, 0);
+        DistributorAuditLog first = auditLog(distributorId, now);
+        DistributorAuditLog second = auditLog(distributorId, now.minusMinutes(1));
+        DistributorAuditLog third = auditLog(distributorId, now.minusMinutes(2));
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), isNull(), isNull(), eq(2)))
+                .thenReturn(Flux.just(first, second));
+        when(repository.findKeysetPage(any(DistributorAuditLogSearchCriteria.class), eq(second.getAuditTimestamp()), eq(second.getId()), eq(2)))
+                .thenReturn(Flux.just(third));
+        when(mapper.toDTO(any(DistributorAuditLog.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.exportDistributorAuditLogs(distributorId, null).map(DistributorAuditLogDTO::getId), 0)
+                .thenRequest(1)
+                .expectNext(first.getId())
+                .then(() -> verify(repository, times(1)).findKeysetPage(any(), any(), any(), eq(2)))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNext(second.getId(), third.getId())
+                .verifyComplete();
+
+        // Verify
+        verify(repository, times(2)).findKeysetPage(any(), any(), any(), eq(2));
+    }
+
+    private static DistributorAuditLog auditLog(UUID distributorId, LocalDateTime auditTimestamp) {
+        return DistributorAuditLog.builder()
+                .id(UUID.randomUUID())
+                .distributorId(distributorId)
+                .action(DistributorActionEnum.UPDATED)
+                .auditTimestamp(auditTimestamp)
+                .build();
+    }
+
+    private static DistributorAuditLogDTO toDTO(DistributorAuditLog auditLog) {
+        return DistributorAuditLogDTO.builder()
+                .id(auditLog.getId())
+                .distributorId(auditLog.getDistributorId())
+                .action(auditLog.getAction())
+                .auditTimestamp(auditLog.getAuditTimestamp())
+                .build();
+    }
+}
\ No newline at end of file
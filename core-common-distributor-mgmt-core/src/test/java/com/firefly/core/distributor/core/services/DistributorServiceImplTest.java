@@ -20,22 +20,29 @@ package com.firefly.core.distributor.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import com.firefly.core.distributor.core.mappers.DistributorMapper;
 import com.firefly.core.distributor.core.services.impl.DistributorServiceImpl;
+import com.firefly.core.distributor.core.templates.DistributorVariablesCache;
 import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
 import com.firefly.core.distributor.models.entities.Distributor;
 import com.firefly.core.distributor.models.repositories.DistributorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class DistributorServiceImplTest {
 
     private DistributorRepository repository;
     private DistributorMapper mapper;
+    private DistributorVariablesCache distributorVariablesCache;
     private DistributorServiceImpl service;
 
     private Distributor distributor;
@@ -48,6 +55,7 @@ public class DistributorServiceImplTest {
         // Initialize mocks
         repository = mock(DistributorRepository.class);
         mapper = mock(DistributorMapper.class);
+        distributorVariablesCache = new DistributorVariablesCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
         service = new DistributorServiceImpl();
 
         // Use reflection to set the mocked dependencies
@@ -62,6 +70,10 @@ public class DistributorServiceImplTest {
         // Initialize test UUID
         testId = UUID.randomUUID();
             mapperField.set(service, mapper);
+
+            java.lang.reflect.Field cacheField = DistributorServiceImpl.class.getDeclaredField("distributorVariablesCache");
+            cacheField.setAccessible(true);
+            cacheField.set(service, distributorVariablesCache);
         } catch (Exception e) {
             throw new RuntimeException("Failed to set up test", e);
         }
@@ -116,6 +128,24 @@ public class DistributorServiceImplTest {
         verify(mapper).toDTO(distributor);
     }
 
+    @Test
+    void updateDistributor_WhenDistributorExists_ShouldInvalidateCachedVariables() {
+        // Arrange
+        distributorVariablesCache.get(testId, () -> Mono.just(Map.of("distributorName", "Old Name"))).block();
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(distributor));
+        when(mapper.toEntity(any(DistributorDTO.class))).thenReturn(distributor);
+        when(repository.save(any(Distributor.class))).thenReturn(Mono.just(distributor));
+        when(mapper.toDTO(any(Distributor.class))).thenReturn(distributorDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateDistributor(testId, distributorDTO))
+                .expectNext(distributorDTO)
+                .verifyComplete();
+
+        // Verify
+        assertTrue(distributorVariablesCache.getAllPresent(List.of(testId)).isEmpty());
+    }
+
     @Test
     void updateDistributor_WhenDistributorDoesNotExist_ShouldReturnError() {
         // Arrange
@@ -17,6 +17,7 @@
 
 package com.firefly.core.distributor.core.services;
 
+import com.firefly.core.distributor.core.content.TermsContentStore;
 import com.firefly.core.distributor.core.mappers.DistributorTermsAndConditionsMapper;
 import com.firefly.core.distributor.core.services.impl.DistributorTermsAndConditionsServiceImpl;
 import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
@@ -29,9 +30,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
 
@@ -39,6 +44,7 @@ public class DistributorTermsAndConditionsServiceImplTest {
 
     private DistributorTermsAndConditionsRepository repository;
     private DistributorTermsAndConditionsMapper mapper;
+    private TermsContentStore contentStore;
     private DistributorTermsAndConditionsServiceImpl service;
 
     private DistributorTermsAndConditions distributorTermsAndConditions;
@@ -51,7 +57,9 @@ public class DistributorTermsAndConditionsServiceImplTest {
         // Initialize mocks
         repository = mock(DistributorTermsAndConditionsRepository.class);
         mapper = mock(DistributorTermsAndConditionsMapper.class);
+        contentStore = mock(TermsContentStore.class);
         service = new DistributorTermsAndConditionsServiceImpl();
+        when(contentStore.store(anyString())).thenReturn(Mono.just("content-hash"));
 
         // Use reflection to set the mocked dependencies
         try {
@@ -66,6 +74,10 @@ public class DistributorTermsAndConditionsServiceImplTest {
         testId = UUID.randomUUID();
         templateId = UUID.randomUUID();
             mapperField.set(service, mapper);
+
+            java.lang.reflect.Field contentStoreField = DistributorTermsAndConditionsServiceImpl.class.getDeclaredField("contentStore");
+            contentStoreField.setAccessible(true);
+            contentStoreField.set(service, contentStore);
         } catch (Exception e) {
             throw new RuntimeException("Failed to set up test", e);
         }
@@ -115,6 +127,43 @@ public class DistributorTermsAndConditionsServiceImplTest {
         verify(mapper).toDTO(distributorTermsAndConditions);
     }
 
+    @Test
+    void createDistributorTermsAndConditions_ShouldStoreContentByHash() {
+        // Arrange
+        when(mapper.toEntity(any(DistributorTermsAndConditionsDTO.class))).thenReturn(distributorTermsAndConditions);
+        when(repository.save(any(DistributorTermsAndConditions.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mapper.toDTO(any(DistributorTermsAndConditions.class))).thenReturn(distributorTermsAndConditionsDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.createDistributorTermsAndConditions(distributorTermsAndConditionsDTO))
+                .expectNextMatches(result -> "Test content".equals(result.getContent()))
+                .verifyComplete();
+
+        // Verify
+        verify(contentStore).store("Test content");
+        verify(repository).save(argThat(saved -> saved.getContent() == null && "content-hash".equals(saved.getContentHash())));
+    }
+
+    @Test
+    void getDistributorTermsAndConditionsById_WhenContentIsStoredByHash_ShouldResolveContent() {
+        // Arrange
+        DistributorTermsAndConditionsDTO storedDTO = DistributorTermsAndConditionsDTO.builder()
+                .id(testId)
+                .contentHash("content-hash")
+                .build();
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(distributorTermsAndConditions));
+        when(mapper.toDTO(any(DistributorTermsAndConditions.class))).thenReturn(storedDTO);
+        when(contentStore.resolveAll(anyCollection())).thenReturn(Mono.just(Map.of("content-hash", "Stored content")));
+
+        // Act & Assert
+        StepVerifier.create(service.getDistributorTermsAndConditionsById(testId))
+                .expectNextMatches(result -> "Stored content".equals(result.getContent()))
+                .verifyComplete();
+
+        // Verify
+        verify(contentStore).resolveAll(List.of("content-hash"));
+    }
+
     @Test
     void updateDistributorTermsAndConditions_WhenTermsAndConditionsExists_ShouldUpdateAndReturnTermsAndConditions() {
         // Arrange
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.core.enrichment.ProductBatchLoader;
+import com.firefly.core.distributor.core.mappers.LendingContractMapper;
+import com.firefly.core.distributor.core.pagination.KeysetCursor;
+import com.firefly.core.distributor.core.services.impl.LendingContractServiceImpl;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractSearchDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
+import com.firefly.core.distributor.models.entities.LendingContract;
+import com.firefly.core.distributor.models.repositories.LendingContractRepository;
+import com.firefly.core.distributor.models.repositories.LendingContractSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class LendingContractServiceImplTest {
+
+    private LendingContractRepository lendingContractRepository;
+    private ProductService productService;
+    private ShipmentService shipmentService;
+    private LendingContractServiceImpl service;
+
+    private AtomicBoolean committed;
+    private AtomicBoolean rolledBack;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lendingContractRepository = mock(LendingContractRepository.class);
+        productService = mock(ProductService.class);
+        when(productService.getProductsByIds(any())).thenReturn(Flux.empty());
+
+        LendingContractMapper lendingContractMapper = mock(LendingContractMapper.class);
+        when(lendingContractMapper.toDto(any())).thenAnswer(invocation -> {
+            LendingContract contract = invocation.getArgument(0);
+            return LendingContractDTO.builder()
+                    .id(contract.getId())
+                    .productId(contract.getProductId())
+                    .status(contract.getStatus())
+                    .createdAt(contract.getCreatedAt())
+                    .build();
+        });
+
+        // The operator commits when the transactional Mono succeeds and rolls back when it fails
+        committed = new AtomicBoolean();
+        rolledBack = new AtomicBoolean();
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> ((Mono<?>) invocation.getArgument(0))
+                .doOnSuccess(result -> committed.set(true))
+                .doOnError(e -> rolledBack.set(true)));
+
+        shipmentService = mock(ShipmentService.class);
+
+        service = new LendingContractServiceImpl();
+        setField("lendingContractRepository", lendingContractRepository);
+        setField("lendingContractMapper", lendingContractMapper);
+        setField("productBatchLoader", new ProductBatchLoader(productService, 1000));
+        setField("shipmentService", shipmentService);
+        setField("transactionalOperator", transactionalOperator);
+    }
+
+    @Test
+    void getLendingContractsPage_ShouldSeekWithSearchCriteriaAndCursor() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 12, 0), UUID.randomUUID());
+        UUID distributorId = UUID.randomUUID();
+        LendingContract contract = contract(cursor.timestamp().minusMinutes(1));
+        when(lendingContractRepository.findKeysetPage(any(), any(), any(), anyInt())).thenReturn(Flux.just(contract));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingContractsPage(
+                        LendingContractSearchDTO.builder().distributorId(distributorId).status("PENDING").build(),
+                        cursor.encode(), 20, true))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertEquals(contract.getId(), page.getContent().get(0).getId());
+                    assertEquals(false, page.getHasNext());
+                    assertNull(page.getTotalElements());
+                })
+                .verifyComplete();
+
+        // Verify
+        ArgumentCaptor<LendingContractSearchCriteria> criteria = ArgumentCaptor.forClass(LendingContractSearchCriteria.class);
+        verify(lendingContractRepository).findKeysetPage(criteria.capture(), eq(cursor.timestamp()), eq(cursor.id()), eq(21));
+        assertEquals(distributorId, criteria.getValue().getDistributorId());
+        assertEquals("PENDING", criteria.getValue().getStatus());
+        verify(lendingContractRepository, never()).countMatching(any());
+        verify(productService).getProductsByIds(any());
+    }
+
+    @Test
+    void getLendingContractsPage_WhenCountRequested_ShouldSetTotalElements() {
+        // Arrange
+        LendingContract newest = contract(LocalDateTime.of(2026, 3, 1, 12, 0));
+        LendingContract older = contract(newest.getCreatedAt().minusMinutes(1));
+        when(lendingContractRepository.findKeysetPage(any(), isNull(), isNull(), eq(2))).thenReturn(Flux.just(newest, older));
+        when(lendingContractRepository.countMatching(any())).thenReturn(Mono.just(42L));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingContractsPage(null, null, 1, false))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertEquals(true, page.getHasNext());
+                    assertEquals(new KeysetCursor(newest.getCreatedAt(), newest.getId()), KeysetCursor.decode(page.getNextCursor()));
+                    assertEquals(42L, page.getTotalElements());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getLendingContractsPage_WhenCursorMalformed_ShouldFailWithoutQuerying() {
+        // Arrange
+        when(lendingContractRepository.countMatching(any())).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingContractsPage(null, "not a cursor", 20, false))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verify(lendingContractRepository, never()).findKeysetPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void approveLendingContracts_WithMixedContracts_ShouldReportEachOutcomeInInputOrder() {
+        // Arrange
+        UUID approvedBy = UUID.randomUUID();
+        LendingContract pending = contract(LocalDateTime.of(2026, 3, 1, 12, 0));
+        LendingContract draft = contract(LocalDateTime.of(2026, 3, 1, 12, 5));
+        LendingContract active = contract(LocalDateTime.of(2026, 3, 1, 12, 10));
+        active.setStatus("ACTIVE");
+        UUID missingId = UUID.randomUUID();
+        UUID pendingShipmentId = UUID.randomUUID();
+        UUID draftShipmentId = UUID.randomUUID();
+
+        // The UPDATE returns the approved rows in no particular order
+        when(lendingContractRepository.approveAll(any(), eq(approvedBy), any())).thenReturn(Flux.just(draft, pending));
+        when(shipmentService.createShipmentsForApprovedContracts(anyList())).thenReturn(Flux.just(
+                ShipmentDTO.builder().id(draftShipmentId).lendingContractId(draft.getId()).build(),
+                ShipmentDTO.builder().id(pendingShipmentId).lendingContractId(pending.getId()).build()));
+        when(lendingContractRepository.findAllById(anyList())).thenReturn(Flux.just(active));
+
+        // Act & Assert
+        StepVerifier.create(service.approveLendingContracts(
+                        List.of(pending.getId(), active.getId(), missingId, draft.getId(), pending.getId()), approvedBy))
+                .assertNext(result -> {
+                    assertEquals(pending.getId(), result.getLendingContractId());
+                    assertEquals("APPROVED", result.getStatus());
+                    assertEquals(pendingShipmentId, result.getShipmentId());
+                })
+                .assertNext(result -> {
+                    assertEquals(active.getId(), result.getLendingContractId());
+                    assertEquals("SKIPPED", result.getStatus());
+                    assertNull(result.getShipmentId());
+                    assertTrue(result.getError().contains("ACTIVE"));
+                })
+                .assertNext(result -> {
+                    assertEquals(missingId, result.getLendingContractId());
+                    assertEquals("NOT_FOUND", result.getStatus());
+                    assertNotNull(result.getError());
+                })
+                .assertNext(result -> {
+                    assertEquals(draft.getId(), result.getLendingContractId());
+                    assertEquals("APPROVED", result.getStatus());
+                    assertEquals(draftShipmentId, result.getShipmentId());
+                })
+                .verifyComplete();
+
+        // Verify
+        verify(lendingContractRepository).approveAll(eq(List.of(pending.getId(), active.getId(), missingId, draft.getId())),
+                eq(approvedBy), any());
+        verify(lendingContractRepository).findAllById(List.of(active.getId(), missingId));
+        assertTrue(committed.get());
+    }
+
+    @Test
+    void approveLendingContracts_WhenShipmentInsertFails_ShouldRollBackWithoutReportingOutcomes() {
+        // Arrange
+        UUID approvedBy = UUID.randomUUID();
+        LendingContract pending = contract(LocalDateTime.of(2026, 3, 1, 12, 0));
+        when(lendingContractRepository.approveAll(any(), eq(approvedBy), any())).thenReturn(Flux.just(pending));
+        when(shipmentService.createShipmentsForApprovedContracts(anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("insert failed")));
+
+        // Act & Assert
+        StepVerifier.create(service.approveLendingContracts(List.of(pending.getId()), approvedBy))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Verify
+        assertTrue(rolledBack.get());
+        assertFalse(committed.get());
+        verify(lendingContractRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    void approveLendingContracts_WhenNoIds_ShouldNotQuery() {
+        // Act & Assert
+        StepVerifier.create(service.approveLendingContracts(List.<UUID>of(), UUID.randomUUID()))
+                .verifyComplete();
+
+        // Verify
+        verifyNoInteractions(lendingContractRepository, shipmentService);
+    }
+
+    private LendingContract contract(LocalDateTime createdAt) {
+        return LendingContract.builder()
+                .id(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .status("PENDING")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = LendingContractServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(service, value);
+    }
+}
\ No newline at end of file
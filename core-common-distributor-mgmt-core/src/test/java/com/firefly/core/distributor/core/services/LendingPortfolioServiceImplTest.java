@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.core.services.impl.LendingPortfolioServiceImpl;
+import com.firefly.core.distributor.models.repositories.LendingContractRepository;
+import com.firefly.core.distributor.models.repositories.LendingPortfolioApprovalTotals;
+import com.firefly.core.distributor.models.repositories.LendingPortfolioStatusTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LendingPortfolioServiceImplTest {
+
+    private LendingContractRepository repository;
+    private LendingPortfolioServiceImpl service;
+
+    private UUID distributorId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = mock(LendingContractRepository.class);
+        service = new LendingPortfolioServiceImpl();
+
+        Field repositoryField = LendingPortfolioServiceImpl.class.getDeclaredField("lendingContractRepository");
+        repositoryField.setAccessible(true);
+        repositoryField.set(service, repository);
+
+        distributorId = UUID.randomUUID();
+    }
+
+    @Test
+    void getPortfolioSummary_WithContracts_ShouldAggregateStatuses() {
+        // Arrange
+        when(repository.findStatusTotals(distributorId)).thenReturn(Flux.just(
+                totals("ACTIVE", 3, "30000.00", "3000.00", "1500.00"),
+                totals("APPROVED", 1, "10000.00", "2000.00", "700.00"),
+                totals("DRAFT", 2, "8000.00", "0.00", "400.00")));
+        when(repository.findApprovalTotals(distributorId, "quarter", null, null)).thenReturn(Flux.just(
+                LendingPortfolioApprovalTotals.builder()
+                        .periodStart(LocalDate.of(2026, 4, 1))
+                        .approvalCount(4)
+                        .totalAmount(new BigDecimal("40000.00"))
+                        .build()));
+
+        // Act & Assert
+        StepVerifier.create(service.getPortfolioSummary(distributorId, "quarter", null, null))
+                .assertNext(summary -> {
+                    assertEquals(6L, summary.getContractCount());
+                    assertEquals(new BigDecimal("48000.00"), summary.getTotalAmount());
+                    assertEquals(new BigDecimal("35000.00"), summary.getOutstandingBalance());
+                    assertEquals(new BigDecimal("433.33"), summary.getAverageMonthlyPayment());
+                    assertEquals(3, summary.getStatuses().size());
+                    assertEquals(new BigDecimal("500.00"), summary.getStatuses().get(0).getAverageMonthlyPayment());
+                    assertEquals("QUARTER", summary.getPeriod());
+                    assertEquals(4L, summary.getApprovals().get(0).getApprovalCount());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getPortfolioSummary_WithoutContracts_ShouldReturnZeroTotals() {
+        // Arrange
+        when(repository.findStatusTotals(distributorId)).thenReturn(Flux.empty());
+        when(repository.findApprovalTotals(eq(distributorId), anyString(), any(), any())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getPortfolioSummary(distributorId, null, null, null))
+                .assertNext(summary -> {
+                    assertEquals(0L, summary.getContractCount());
+                    assertEquals(BigDecimal.ZERO, summary.getOutstandingBalance());
+                    assertNull(summary.getAverageMonthlyPayment());
+                    assertEquals("MONTH", summary.getPeriod());
+                    assertTrue(summary.getApprovals().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getPortfolioSummary_WithInvalidPeriod_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(service.getPortfolioSummary(distributorId, "WEEK", null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verifyNoInteractions(repository);
+    }
+
+    private static LendingPortfolioStatusTotals totals(String status, long count, String totalAmount,
+                                                       String downPayment, String monthlyPayment) {
+        return LendingPortfolioStatusTotals.builder()
+                .status(status)
+                .contractCount(count)
+                .totalAmount(new BigDecimal(totalAmount))
+                .downPayment(new BigDecimal(downPayment))
+                .monthlyPayment(new BigDecimal(monthlyPayment))
+                .build();
+    }
+}
\ No newline at end of file
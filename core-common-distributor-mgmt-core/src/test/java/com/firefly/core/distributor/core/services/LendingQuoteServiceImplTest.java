@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.core.quotes.LendingConfigurationCache;
+import com.firefly.core.distributor.core.services.impl.LendingQuoteServiceImpl;
+import com.firefly.core.distributor.interfaces.dtos.LendingQuoteDTO;
+import com.firefly.core.distributor.models.entities.LendingConfiguration;
+import com.firefly.core.distributor.models.repositories.LendingConfigurationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class LendingQuoteServiceImplTest {
+
+    private LendingConfigurationRepository repository;
+    private LendingConfigurationCache cache;
+    private LendingQuoteServiceImpl service;
+
+    private UUID productId;
+    private LendingConfiguration configuration;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = mock(LendingConfigurationRepository.class);
+        cache = new LendingConfigurationCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        service = new LendingQuoteServiceImpl();
+
+        Field repositoryField = LendingQuoteServiceImpl.class.getDeclaredField("lendingConfigurationRepository");
+        repositoryField.setAccessible(true);
+        repositoryField.set(service, repository);
+
+        Field cacheField = LendingQuoteServiceImpl.class.getDeclaredField("lendingConfigurationCache");
+        cacheField.setAccessible(true);
+        cacheField.set(service, cache);
+
+        productId = UUID.randomUUID();
+        configuration = LendingConfiguration.builder()
+                .id(UUID.randomUUID())
+                .productId(productId)
+                .name("Standard Loan")
+                .minTermMonths(12)
+                .maxTermMonths(36)
+                .defaultTermMonths(24)
+                .minDownPaymentPercentage(new BigDecimal("20.00"))
+                .defaultDownPaymentPercentage(new BigDecimal("25.00"))
+                .interestRate(new BigDecimal("6.00"))
+                .processingFeePercentage(new BigDecimal("1.00"))
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    void getLendingQuotes_ShouldQuoteDefaultTermsAndDownPaymentsWithinLimits() {
+        // Arrange
+        when(repository.findByProductIdAndIsActive(productId, true)).thenReturn(Flux.just(configuration));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, new BigDecimal("12500.00"), null, null))
+                .assertNext(grid -> {
+                    // Terms 12, 24, 36 by down payments 20%, 25%, 30%, 40%, 50%
+                    assertEquals(15, grid.getQuotes().size());
+                    LendingQuoteDTO first = grid.getQuotes().get(0);
+                    assertEquals(12, first.getTermMonths());
+                    assertEquals(new BigDecimal("20"), first.getDownPaymentPercentage());
+                    assertEquals(new BigDecimal("2500.00"), first.getDownPayment());
+                    assertEquals(new BigDecimal("10000.00"), first.getFinancedAmount());
+                    assertEquals(new BigDecimal("860.66"), first.getMonthlyPayment());
+                    assertEquals(new BigDecimal("100.00"), first.getProcessingFee());
+                    assertEquals(36, grid.getQuotes().get(14).getTermMonths());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getLendingQuotes_ShouldSkipRequestedOptionsOutsideConfigurationLimits() {
+        // Arrange
+        when(repository.findByProductIdAndIsActive(productId, true)).thenReturn(Flux.just(configuration));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, new BigDecimal("1000"), List.of(6, 24, 48),
+                        List.of(new BigDecimal("10"), new BigDecimal("20"))))
+                .assertNext(grid -> {
+                    assertEquals(1, grid.getQuotes().size());
+                    assertEquals(24, grid.getQuotes().get(0).getTermMonths());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getLendingQuotes_ShouldReuseCachedConfigurationsUntilInvalidated() {
+        // Arrange
+        when(repository.findByProductIdAndIsActive(productId, true)).thenReturn(Flux.just(configuration));
+
+        // Act
+        service.getLendingQuotes(productId, BigDecimal.TEN, null, null).block();
+        service.getLendingQuotes(productId, BigDecimal.TEN, null, null).block();
+        cache.invalidate(productId);
+        service.getLendingQuotes(productId, BigDecimal.TEN, null, null).block();
+
+        // Verify
+        verify(repository, times(2)).findByProductIdAndIsActive(productId, true);
+    }
+
+    @Test
+    void getLendingQuotes_WhenPriceNotPositive_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, BigDecimal.ZERO, null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getLendingQuotes_WhenTermAboveLimit_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, BigDecimal.TEN, List.of(12, 601), null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getLendingQuotes_WhenGridTooLarge_ShouldReturnError() {
+        // Arrange
+        List<Integer> terms = IntStream.rangeClosed(1, 101).boxed().toList();
+        List<BigDecimal> downPayments = IntStream.range(0, 10).mapToObj(BigDecimal::valueOf).toList();
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, BigDecimal.TEN, terms, downPayments))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        // Verify
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getLendingQuotes_WhenConfigurationHasNoMaximumTerm_ShouldReturnError() {
+        // Arrange
+        configuration.setMaxTermMonths(null);
+        when(repository.findByProductIdAndIsActive(productId, true)).thenReturn(Flux.just(configuration));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, BigDecimal.TEN, List.of(24), null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void getLendingQuotes_WhenMaximumTermAboveLimit_ShouldQuoteDefaultTermsUpToLimit() {
+        // Arrange
+        configuration.setMaxTermMonths(1200);
+        when(repository.findByProductIdAndIsActive(productId, true)).thenReturn(Flux.just(configuration));
+
+        // Act & Assert
+        StepVerifier.create(service.getLendingQuotes(productId, new BigDecimal("12500.00"), null, List.of(new BigDecimal("20"))))
+                .assertNext(grid -> {
+                    // Every year from 12 to 600 months, plus the 24 month default
+                    assertEquals(50, grid.getQuotes().size());
+                    assertEquals(600, grid.getQuotes().get(49).getTermMonths());
+                })
+                .verifyComplete();
+    }
+}
\ No newline at end of file
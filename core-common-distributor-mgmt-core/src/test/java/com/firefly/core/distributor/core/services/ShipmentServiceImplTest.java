@@ -0,0 +1,318 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.core.enrichment.ProductBatchLoader;
+import com.firefly.core.distributor.core.events.ShipmentStatusEventPublisher;
+import com.firefly.core.distributor.core.mappers.ShipmentMapper;
+import com.firefly.core.distributor.core.services.impl.ShipmentServiceImpl;
+import com.firefly.core.distributor.core.tracking.TimeOrderedTrackingNumberGenerator;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusEventDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateDTO;
+import com.firefly.core.distributor.models.entities.Shipment;
+import com.firefly.core.distributor.models.repositories.ShipmentRepository;
+import com.firefly.core.distributor.models.repositories.ShipmentStatusChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ShipmentServiceImplTest {
+
+    private ShipmentRepository shipmentRepository;
+    private ShipmentMapper shipmentMapper;
+    private ShipmentStatusEventPublisher statusEventPublisher;
+    private ShipmentServiceImpl service;
+
+    private AtomicBoolean committed;
+
+    private UUID updatedBy;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        shipmentRepository = mock(ShipmentRepository.class);
+        shipmentMapper = mock(ShipmentMapper.class);
+        when(shipmentMapper.toDto(any())).thenAnswer(invocation -> {
+            Shipment shipment = invocation.getArgument(0);
+            return ShipmentDTO.builder()
+                    .id(shipment.getId())
+                    .trackingNumber(shipment.getTrackingNumber())
+                    .status(shipment.getStatus())
+                    .build();
+        });
+        service = new ShipmentServiceImpl();
+
+        Field repositoryField = ShipmentServiceImpl.class.getDeclaredField("shipmentRepository");
+        repositoryField.setAccessible(true);
+        repositoryField.set(service, shipmentRepository);
+
+        Field publisherField = ShipmentServiceImpl.class.getDeclaredField("statusEventPublisher");
+        publisherField.setAccessible(true);
+        statusEventPublisher = new ShipmentStatusEventPublisher(16);
+        publisherField.set(service, statusEventPublisher);
+
+        Field mapperField = ShipmentServiceImpl.class.getDeclaredField("shipmentMapper");
+        mapperField.setAccessible(true);
+        mapperField.set(service, shipmentMapper);
+
+        Field generatorField = ShipmentServiceImpl.class.getDeclaredField("trackingNumberGenerator");
+        generatorField.setAccessible(true);
+        generatorField.set(service, new TimeOrderedTrackingNumberGenerator(1));
+
+        // The operator commits when the transactional Mono succeeds
+        committed = new AtomicBoolean();
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> ((Mono<?>) invocation.getArgument(0))
+                .doOnSuccess(result -> committed.set(true)));
+        Field operatorField = ShipmentServiceImpl.class.getDeclaredField("transactionalOperator");
+        operatorField.setAccessible(true);
+        operatorField.set(service, transactionalOperator);
+
+        Field loaderField = ShipmentServiceImpl.class.getDeclaredField("productBatchLoader");
+        loaderField.setAccessible(true);
+        loaderField.set(service, new ProductBatchLoader(mock(ProductService.class), 1000));
+
+        updatedBy = UUID.randomUUID();
+    }
+
+    @Test
+    void ingestStatusUpdates_WithMixedUpdates_ShouldReportEachUpdateInOrder() {
+        // Arrange
+        Shipment shipment = shipment("TRK-1", "PENDING");
+        LocalDateTime shippedAt = LocalDateTime.of(2026, 3, 1, 10, 0);
+        when(shipmentRepository.findByTrackingNumberIn(any())).thenReturn(Flux.just(shipment));
+        when(shipmentRepository.updateStatuses(anyList(), any(), eq(updatedBy)))
+                .thenReturn(Flux.just(withStatus(shipment, "SHIPPED")));
+
+        Flux<ShipmentStatusUpdateDTO> updates = Flux.just(
+                update("TRK-1", "SHIPPED", shippedAt),
+                update("TRK-UNKNOWN", "SHIPPED", shippedAt),
+                update(" ", "SHIPPED", shippedAt));
+
+        // Act & Assert
+        StepVerifier.create(service.ingestStatusUpdates(updates, updatedBy))
+                .assertNext(result -> {
+                    assertEquals("TRK-1", result.getTrackingNumber());
+                    assertEquals(shipment.getId(), result.getShipmentId());
+                    assertEquals("UPDATED", result.getStatus());
+                })
+                .assertNext(result -> assertEquals("NOT_FOUND", result.getStatus()))
+                .assertNext(result -> {
+                    assertEquals("FAILED", result.getStatus());
+                    assertNotNull(result.getError());
+                })
+                .verifyComplete();
+
+        // Verify
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ShipmentStatusChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(shipmentRepository, times(1)).findByTrackingNumberIn(any());
+        verify(shipmentRepository, times(1)).updateStatuses(changes.capture(), any(), eq(updatedBy));
+        assertEquals(1, changes.getValue().size());
+        assertEquals(shipment.getId(), changes.getValue().get(0).getShipmentId());
+        assertEquals(shippedAt, changes.getValue().get(0).getChangedAt());
+        verify(shipmentRepository, never()).findById(any(UUID.class));
+        verify(shipmentRepository, never()).save(any());
+    }
+
+    @Test
+    void ingestStatusUpdates_WithRepeatedShipment_ShouldApplyUpdatesInStreamOrder() {
+        // Arrange
+        Shipment shipment = shipment("TRK-1", "PENDING");
+        when(shipmentRepository.findByTrackingNumberIn(any())).thenReturn(Flux.just(shipment));
+        when(shipmentRepository.updateStatuses(anyList(), any(), any()))
+                .thenReturn(Flux.just(withStatus(shipment, "SHIPPED")))
+                .thenReturn(Flux.just(withStatus(shipment, "DELIVERED")));
+
+        Flux<ShipmentStatusUpdateDTO> updates = Flux.just(
+                update("TRK-1", "SHIPPED", LocalDateTime.of(2026, 3, 1, 10, 0)),
+                update("TRK-1", "DELIVERED", LocalDateTime.of(2026, 3, 3, 15, 0)));
+
+        // Act & Assert
+        StepVerifier.create(service.ingestStatusUpdates(updates, updatedBy))
+                .assertNext(result -> assertEquals("UPDATED", result.getStatus()))
+                .assertNext(result -> assertEquals("UPDATED", result.getStatus()))
+                .verifyComplete();
+
+        // Verify
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ShipmentStatusChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(shipmentRepository, times(2)).updateStatuses(changes.capture(), any(), any());
+        assertEquals("SHIPPED", changes.getAllValues().get(0).get(0).getStatus());
+        assertEquals("DELIVERED", changes.getAllValues().get(1).get(0).getStatus());
+    }
+
+    @Test
+    void createShipmentsForApprovedContracts_WhenTrackingNumberTaken_ShouldRetrySkippedShipments() {
+        // Arrange
+        List<LendingContractDTO> contracts = List.of(
+                LendingContractDTO.builder().id(UUID.randomUUID()).productId(UUID.randomUUID()).build(),
+                LendingContractDTO.builder().id(UUID.randomUUID()).productId(UUID.randomUUID()).build());
+        List<List<Shipment>> insertedBatches = new ArrayList<>();
+        when(shipmentRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Shipment> batch = invocation.getArgument(0);
+            insertedBatches.add(List.copyOf(batch));
+            // The first attempt loses the second shipment to an existing tracking number
+            return Mono.just(insertedBatches.size() == 1 ? 1L : (long) batch.size());
+        });
+        when(shipmentRepository.findAllById(anyIterable())).thenAnswer(invocation ->
+                Flux.just(insertedBatches.get(0).get(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.createShipmentsForApprovedContracts(contracts))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(2, insertedBatches.size());
+        assertEquals(1, insertedBatches.get(1).size());
+        assertEquals(insertedBatches.get(0).get(1).getId(), insertedBatches.get(1).get(0).getId());
+        assertTrue(TimeOrderedTrackingNumberGenerator.isValid(insertedBatches.get(1).get(0).getTrackingNumber()));
+    }
+
+    @Test
+    void createShipment_WithTrackingNumberInUse_ShouldReturnError() {
+        // Arrange
+        ShipmentDTO shipmentDTO = ShipmentDTO.builder()
+                .productId(UUID.randomUUID())
+                .trackingNumber("CARRIER-123")
+                .status("PENDING")
+                .build();
+        when(shipmentMapper.toEntity(shipmentDTO)).thenReturn(Shipment.builder()
+                .productId(shipmentDTO.getProductId())
+                .trackingNumber(shipmentDTO.getTrackingNumber())
+                .status(shipmentDTO.getStatus())
+                .build());
+        when(shipmentRepository.insertAll(anyList())).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(service.createShipment(shipmentDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void updateShipmentStatus_ShouldPublishTransitionOnlyAfterCommit() {
+        // Arrange
+        Shipment shipment = shipment("TRK-1", "PENDING");
+        when(shipmentRepository.findById(shipment.getId())).thenReturn(Mono.just(shipment));
+        when(shipmentRepository.save(any(Shipment.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        List<Boolean> committedWhenPublished = new ArrayList<>();
+        statusEventPublisher.events().subscribe(event -> committedWhenPublished.add(committed.get()));
+
+        // Act & Assert
+        StepVerifier.create(service.updateShipmentStatus(shipment.getId(), "SHIPPED", updatedBy))
+                .assertNext(result -> assertEquals("SHIPPED", result.getStatus()))
+                .verifyComplete();
+
+        // Verify
+        assertEquals(List.of(true), committedWhenPublished);
+    }
+
+    @Test
+    void updateShipmentStatus_WhenSaveFails_ShouldNotPublishTransition() {
+        // Arrange
+        Shipment shipment = shipment("TRK-1", "PENDING");
+        when(shipmentRepository.findById(shipment.getId())).thenReturn(Mono.just(shipment));
+        when(shipmentRepository.save(any(Shipment.class))).thenReturn(Mono.error(new IllegalStateException("save failed")));
+        List<ShipmentStatusEventDTO> published = new ArrayList<>();
+        statusEventPublisher.events().subscribe(published::add);
+
+        // Act & Assert
+        StepVerifier.create(service.updateShipmentStatus(shipment.getId(), "SHIPPED", updatedBy))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Verify
+        assertTrue(published.isEmpty());
+        assertFalse(committed.get());
+    }
+
+    @Test
+    void streamStatusEvents_WhenCatchUpIsSlow_ShouldBufferBoundedLiveEvents() throws Exception {
+        // Arrange
+        Field bufferField = ShipmentServiceImpl.class.getDeclaredField("statusEventBufferSize");
+        bufferField.setAccessible(true);
+        bufferField.set(service, 4);
+        Sinks.Many<Shipment> catchUp = Sinks.many().unicast().onBackpressureBuffer();
+        when(shipmentRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(any())).thenReturn(catchUp.asFlux());
+
+        // Act & Assert
+        StepVerifier.create(service.streamStatusEvents(LocalDateTime.of(2026, 3, 1, 0, 0)))
+                .then(() -> {
+                    for (int i = 0; i < 10; i++) {
+                        statusEventPublisher.publish(ShipmentStatusEventDTO.builder()
+                                .shipmentId(UUID.randomUUID())
+                                .status("SHIPPED")
+                                .build());
+                    }
+                    catchUp.tryEmitNext(withStatus(shipment("TRK-1", "PENDING"), "DELIVERED"));
+                    catchUp.tryEmitComplete();
+                })
+                .assertNext(event -> assertEquals("DELIVERED", event.getStatus()))
+                .expectNextCount(4)
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+    }
+
+    private static Shipment shipment(String trackingNumber, String status) {
+        return Shipment.builder()
+                .id(UUID.randomUUID())
+                .trackingNumber(trackingNumber)
+                .status(status)
+                .build();
+    }
+
+    private static Shipment withStatus(Shipment shipment, String status) {
+        return Shipment.builder()
+                .id(shipment.getId())
+                .trackingNumber(shipment.getTrackingNumber())
+                .status(status)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static ShipmentStatusUpdateDTO update(String trackingNumber, String status, LocalDateTime timestamp) {
+        return ShipmentStatusUpdateDTO.builder()
+                .trackingNumber(trackingNumber)
+                .status(status)
+                .timestamp(timestamp)
+                .build();
+    }
+}
\ No newline at end of file
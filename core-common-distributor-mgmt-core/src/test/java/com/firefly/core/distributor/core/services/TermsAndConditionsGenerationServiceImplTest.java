@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.core.services.impl.TermsAndConditionsGenerationServiceImpl;
+import com.firefly.core.distributor.core.templates.CompiledTemplateCache;
+import com.firefly.core.distributor.core.templates.DistributorVariablesCache;
+import com.firefly.core.distributor.interfaces.dtos.DistributorDTO;
+import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationRequestDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationResultDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class TermsAndConditionsGenerationServiceImplTest {
+
+    private TermsAndConditionsTemplateService templateService;
+    private DistributorTermsAndConditionsService distributorTermsAndConditionsService;
+    private DistributorService distributorService;
+    private TermsAndConditionsGenerationServiceImpl service;
+
+    private TermsAndConditionsTemplateDTO template;
+    private DistributorDTO distributor;
+
+    @BeforeEach
+    void setUp() {
+        // Initialize mocks
+        templateService = mock(TermsAndConditionsTemplateService.class);
+        distributorTermsAndConditionsService = mock(DistributorTermsAndConditionsService.class);
+        distributorService = mock(DistributorService.class);
+        service = new TermsAndConditionsGenerationServiceImpl();
+
+        // Use reflection to set the dependencies
+        setField("templateService", templateService);
+        setField("distributorTermsAndConditionsService", distributorTermsAndConditionsService);
+        setField("distributorService", distributorService);
+        setField("templateCache", new CompiledTemplateCache(256));
+        setField("distributorVariablesCache", new DistributorVariablesCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry()));
+
+        // Initialize test data
+        template = TermsAndConditionsTemplateDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Agreement")
+                .templateContent("{{distributorName}} accepts a fee of {{fee}}")
+                .variables("{\"fee\":{\"type\":\"number\",\"required\":true}}")
+                .version("1.0")
+                .build();
+        distributor = DistributorDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Acme")
+                .build();
+
+        when(templateService.getTemplateById(template.getId())).thenReturn(Mono.just(template));
+        when(distributorService.getDistributorsByIds(anyCollection())).thenReturn(Flux.just(distributor));
+    }
+
+    @Test
+    void bulkGenerateFromTemplate_ShouldReportEveryRequestInInputOrder() {
+        // Arrange
+        UUID unknownDistributorId = UUID.randomUUID();
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        when(distributorTermsAndConditionsService.createDistributorTermsAndConditionsBatch(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(withIds(invocation.getArgument(0), firstId, secondId)));
+
+        // Act & Assert
+        StepVerifier.create(service.bulkGenerateFromTemplate(template.getId(), Flux.just(
+                        request(distributor.getId(), Map.of("fee", 10)),
+                        request(unknownDistributorId, Map.of("fee", 10)),
+                        request(distributor.getId(), Map.of("fee", "ten")),
+                        request(distributor.getId(), Map.of("fee", 20)))))
+                .assertNext(result -> assertResult(result, distributor.getId(), "GENERATED", firstId))
+                .assertNext(result -> {
+                    assertResult(result, unknownDistributorId, "FAILED", null);
+                    assertEquals("Distributor not found with ID: " + unknownDistributorId, result.getError());
+                })
+                .assertNext(result -> {
+                    assertResult(result, distributor.getId(), "FAILED", null);
+                    assertEquals("Invalid variables provided for template", result.getError());
+                })
+                .assertNext(result -> assertResult(result, distributor.getId(), "GENERATED", secondId))
+                .verifyComplete();
+
+        // Verify
+        verify(distributorService, times(1)).getDistributorsByIds(anyCollection());
+        verify(distributorTermsAndConditionsService, times(1)).createDistributorTermsAndConditionsBatch(argThat(batch ->
+                batch.size() == 2
+                        && batch.get(0).getContent().equals("Acme accepts a fee of 10")
+                        && batch.get(1).getContent().equals("Acme accepts a fee of 20")));
+    }
+
+    @Test
+    void bulkGenerateFromTemplate_WhenBatchInsertFails_ShouldReportEveryRequestAsFailed() {
+        // Arrange
+        when(distributorTermsAndConditionsService.createDistributorTermsAndConditionsBatch(anyList()))
+                .thenReturn(Flux.error(new RuntimeException("insert failed")));
+
+        // Act & Assert
+        StepVerifier.create(service.bulkGenerateFromTemplate(template.getId(), Flux.just(
+                        request(distributor.getId(), Map.of("fee", 10)),
+                        request(distributor.getId(), Map.of()))))
+                .assertNext(result -> {
+                    assertResult(result, distributor.getId(), "FAILED", null);
+                    assertEquals("insert failed", result.getError());
+                })
+                .assertNext(result -> {
+                    assertResult(result, distributor.getId(), "FAILED", null);
+                    assertEquals("Invalid variables provided for template", result.getError());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void bulkGenerateFromTemplate_ShouldPersistOneInsertPerBatch() {
+        // Arrange
+        setField("bulkBatchSize", 2);
+        when(distributorTermsAndConditionsService.createDistributorTermsAndConditionsBatch(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(withIds(invocation.getArgument(0), UUID.randomUUID(), UUID.randomUUID())));
+
+        // Act & Assert
+        StepVerifier.create(service.bulkGenerateFromTemplate(template.getId(), Flux.just(
+                        request(distributor.getId(), Map.of("fee", 1)),
+                        request(distributor.getId(), Map.of("fee", 2)),
+                        request(distributor.getId(), Map.of("fee", 3))))
+                        .map(TermsAndConditionsGenerationResultDTO::getStatus))
+                .expectNext("GENERATED", "GENERATED", "GENERATED")
+                .verifyComplete();
+
+        // Verify
+        verify(distributorTermsAndConditionsService, times(2)).createDistributorTermsAndConditionsBatch(anyList());
+        // The second batch reads the distributor from the variables cache
+        verify(distributorService, times(1)).getDistributorsByIds(anyCollection());
+    }
+
+    @Test
+    void bulkGenerateFromTemplate_WhenTemplateDoesNotExist_ShouldReturnError() {
+        // Arrange
+        UUID missingTemplateId = UUID.randomUUID();
+        when(templateService.getTemplateById(missingTemplateId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.bulkGenerateFromTemplate(missingTemplateId, Flux.just(request(distributor.getId(), Map.of()))))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void autoRenewTermsAndConditions_ShouldApplyTheSameEligibilityAsBatchRenewal() {
+        // Arrange
+        // The template requires a fee, which a renewal does not provide
+        template.setAutoRenewal(true);
+        template.setRenewalPeriodMonths(12);
+        DistributorTermsAndConditionsDTO expiring = DistributorTermsAndConditionsDTO.builder()
+                .id(UUID.randomUUID())
+                .distributorId(distributor.getId())
+                .templateId(template.getId())
+                .build();
+        when(distributorTermsAndConditionsService.getDistributorTermsAndConditionsById(expiring.getId())).thenReturn(Mono.just(expiring));
+
+        // Act & Assert
+        StepVerifier.create(service.autoRenewTermsAndConditions(expiring.getId()))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && "Invalid variables provided for template".equals(e.getMessage()))
+                .verify();
+        StepVerifier.create(service.autoRenewTermsAndConditionsBatch(List.of(expiring), Map.of(template.getId(), template)))
+                .verifyComplete();
+
+        // Verify
+        verify(distributorTermsAndConditionsService, never()).createDistributorTermsAndConditions(any());
+        verify(distributorTermsAndConditionsService, never()).createDistributorTermsAndConditionsBatch(anyList());
+    }
+
+    @Test
+    void autoRenewTermsAndConditions_ShouldDeactivateRenewedTermsLikeBatchRenewal() {
+        // Arrange
+        template.setAutoRenewal(true);
+        template.setRenewalPeriodMonths(12);
+        template.setVariables("{}");
+        template.setTemplateContent("{{distributorName}} terms");
+        DistributorTermsAndConditionsDTO expiring = DistributorTermsAndConditionsDTO.builder()
+                .id(UUID.randomUUID())
+                .distributorId(distributor.getId())
+                .templateId(template.getId())
+                .build();
+        UUID renewalId = UUID.randomUUID();
+        when(distributorTermsAndConditionsService.getDistributorTermsAndConditionsById(expiring.getId())).thenReturn(Mono.just(expiring));
+        when(distributorService.getDistributorById(distributor.getId())).thenReturn(Mono.just(distributor));
+        when(distributorTermsAndConditionsService.createDistributorTermsAndConditions(any()))
+                .thenAnswer(invocation -> {
+                    DistributorTermsAndConditionsDTO created = invocation.getArgument(0);
+                    created.setId(renewalId);
+                    return Mono.just(created);
+                });
+        when(distributorTermsAndConditionsService.deactivateTermsAndConditionsBatch(anyCollection())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.autoRenewTermsAndConditions(expiring.getId()))
+                .assertNext(renewal -> assertEquals(renewalId, renewal.getId()))
+                .verifyComplete();
+
+        // Verify
+        verify(distributorTermsAndConditionsService).deactivateTermsAndConditionsBatch(List.of(expiring.getId()));
+    }
+
+    private static TermsAndConditionsGenerationRequestDTO request(UUID distributorId, Map<String, Object> variables) {
+        return TermsAndConditionsGenerationRequestDTO.builder()
+                .distributorId(distributorId)
+                .variables(variables)
+                .build();
+    }
+
+    private static List<DistributorTermsAndConditionsDTO> withIds(List<DistributorTermsAndConditionsDTO> batch, UUID... ids) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).setId(ids[i]);
+        }
+        return batch;
+    }
+
+    private static void assertResult(TermsAndConditionsGenerationResultDTO result, UUID distributorId, String status,
+                                     UUID termsAndConditionsId) {
+        assertEquals(distributorId, result.getDistributorId());
+        assertEquals(status, result.getStatus());
+        if (termsAndConditionsId != null) {
+            assertEquals(termsAndConditionsId, result.getTermsAndConditionsId());
+        } else {
+            assertNull(result.getTermsAndConditionsId());
+        }
+    }
+
+    private void setField(String name, Object value) {
+        try {
+            java.lang.reflect.Field field = TermsAndConditionsGenerationServiceImpl.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(service, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set up test", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.services;
+
+import com.firefly.core.distributor.core.services.impl.TermsAndConditionsRenewalServiceImpl;
+import com.firefly.core.distributor.interfaces.dtos.DistributorTermsAndConditionsDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import com.firefly.core.distributor.models.entities.TermsRenewalCheckpoint;
+import com.firefly.core.distributor.models.repositories.TermsRenewalCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TermsAndConditionsRenewalServiceImplTest {
+
+    private DistributorTermsAndConditionsService distributorTermsAndConditionsService;
+    private TermsAndConditionsTemplateService templateService;
+    private TermsAndConditionsGenerationService generationService;
+    private TermsRenewalCheckpointRepository checkpointRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TermsAndConditionsRenewalServiceImpl service;
+
+    private UUID templateId;
+    private TermsAndConditionsTemplateDTO template;
+    private LocalDateTime threshold;
+    private AtomicReference<TermsRenewalCheckpoint> storedCheckpoint;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Initialize mocks
+        distributorTermsAndConditionsService = mock(DistributorTermsAndConditionsService.class);
+        templateService = mock(TermsAndConditionsTemplateService.class);
+        generationService = mock(TermsAndConditionsGenerationService.class);
+        checkpointRepository = mock(TermsRenewalCheckpointRepository.class);
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TermsAndConditionsRenewalServiceImpl();
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // The checkpoint repository behaves like the single shared row the instances lock and update
+        storedCheckpoint = new AtomicReference<>();
+        when(checkpointRepository.tryLock(anyString())).thenReturn(Mono.just(true));
+        when(checkpointRepository.findById(anyString())).thenAnswer(invocation -> Mono.justOrEmpty(storedCheckpoint.get()));
+        when(checkpointRepository.upsert(any(TermsRenewalCheckpoint.class))).thenAnswer(invocation -> {
+            storedCheckpoint.set(invocation.getArgument(0));
+            return Mono.just(1);
+        });
+
+        // Use reflection to set the mocked dependencies
+        setField("distributorTermsAndConditionsService", distributorTermsAndConditionsService);
+        setField("templateService", templateService);
+        setField("generationService", generationService);
+        setField("checkpointRepository", checkpointRepository);
+        setField("transactionalOperator", transactionalOperator);
+        setField("meterRegistry", meterRegistry);
+
+        // Initialize test data
+        templateId = UUID.randomUUID();
+        template = TermsAndConditionsTemplateDTO.builder()
+                .id(templateId)
+                .name("Renewable Template")
+                .autoRenewal(true)
+                .renewalPeriodMonths(12)
+                .build();
+        threshold = LocalDateTime.now().plusDays(30);
+    }
+
+    @Test
+    void renewExpiringTermsAndConditions_WhenNoCheckpoint_ShouldScanFromStartAndComplete() {
+        // Arrange
+        DistributorTermsAndConditionsDTO first = expiringTerms(1);
+        DistributorTermsAndConditionsDTO second = expiringTerms(2);
+
+        when(distributorTermsAndConditionsService.getExpiringTermsAndConditionsPage(any(), isNull(), isNull(), anyInt()))
+                .thenReturn(Flux.just(first, second));
+        when(distributorTermsAndConditionsService.getExpiringTermsAndConditionsPage(any(), eq(second.getExpirationDate()), eq(second.getId()), anyInt()))
+                .thenReturn(Flux.empty());
+        when(templateService.getTemplatesByIds(anyCollection())).thenReturn(Flux.just(template));
+        when(generationService.autoRenewTermsAndConditionsBatch(anyList(), anyMap()))
+                .thenReturn(Flux.just(DistributorTermsAndConditionsDTO.builder().id(UUID.randomUUID()).build()));
+
+        // Act & Assert
+        StepVerifier.create(service.renewExpiringTermsAndConditions())
+                .expectNext(1L)
+                .verifyComplete();
+
+        // Verify
+        verify(templateService, times(1)).getTemplatesByIds(anyCollection());
+        verify(checkpointRepository, times(3)).upsert(any(TermsRenewalCheckpoint.class));
+        assertEquals(2.0, meterRegistry.counter("distributor.terms.renewal.scanned").count());
+        assertEquals(1.0, meterRegistry.counter("distributor.terms.renewal.renewed").count());
+        assertEquals(1.0, meterRegistry.counter("distributor.terms.renewal.skipped").count());
+    }
+
+    @Test
+    void renewExpiringTermsAndConditions_WhenRunWasInterrupted_ShouldResumeFromCheckpoint() {
+        // Arrange
+        LocalDateTime cursorExpirationDate = LocalDateTime.now().plusDays(3);
+        UUID cursorId = UUID.randomUUID();
+        storedCheckpoint.set(runningCheckpoint(cursorExpirationDate, cursorId));
+        when(distributorTermsAndConditionsService.getExpiringTermsAndConditionsPage(eq(threshold), eq(cursorExpirationDate), eq(cursorId), anyInt()))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.renewExpiringTermsAndConditions())
+                .expectNext(0L)
+                .verifyComplete();
+
+        // Verify
+        verify(distributorTermsAndConditionsService, never()).getExpiringTermsAndConditionsPage(any(), isNull(), isNull(), anyInt());
+        verify(checkpointRepository).upsert(argThat(saved -> "COMPLETED".equals(saved.getStatus())
+                && saved.getScannedCount() == 500L && saved.getRenewedCount() == 420L));
+        verify(generationService, never()).autoRenewTermsAndConditionsBatch(anyList(), anyMap());
+    }
+
+    @Test
+    void renewExpiringTermsAndConditions_WhenAnotherInstanceHoldsTheLock_ShouldNotScan() {
+        // Arrange
+        when(checkpointRepository.tryLock(anyString())).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(service.renewExpiringTermsAndConditions())
+                .expectNext(0L)
+                .verifyComplete();
+
+        // Verify
+        verify(distributorTermsAndConditionsService, never()).getExpiringTermsAndConditionsPage(any(), any(), any(), anyInt());
+        verify(checkpointRepository, never()).upsert(any(TermsRenewalCheckpoint.class));
+    }
+
+    @Test
+    void renewExpiringTermsAndConditions_WhenAnotherInstanceAdvancedTheCursor_ShouldContinueFromStoredCursor() {
+        // Arrange
+        LocalDateTime cursorExpirationDate = LocalDateTime.now().plusDays(3);
+        UUID cursorId = UUID.randomUUID();
+        TermsRenewalCheckpoint running = runningCheckpoint(null, null);
+        storedCheckpoint.set(running);
+
+        AtomicReference<Integer> lockAttempts = new AtomicReference<>(0);
+        when(checkpointRepository.tryLock(anyString())).thenAnswer(invocation -> {
+            // Another instance commits pages between this instance claiming the run and reading its first page
+            if (lockAttempts.getAndUpdate(attempts -> attempts + 1) == 1) {
+                storedCheckpoint.set(running.toBuilder()
+                        .cursorExpirationDate(cursorExpirationDate)
+                        .cursorId(cursorId)
+                        .build());
+            }
+            return Mono.just(true);
+        });
+        when(distributorTermsAndConditionsService.getExpiringTermsAndConditionsPage(eq(threshold), eq(cursorExpirationDate), eq(cursorId), anyInt()))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.renewExpiringTermsAndConditions())
+                .expectNext(0L)
+                .verifyComplete();
+
+        // Verify
+        verify(distributorTermsAndConditionsService, never()).getExpiringTermsAndConditionsPage(any(), isNull(), isNull(), anyInt());
+        assertEquals("COMPLETED", storedCheckpoint.get().getStatus());
+    }
+
+    private TermsRenewalCheckpoint runningCheckpoint(LocalDateTime cursorExpirationDate, UUID cursorId) {
+        return TermsRenewalCheckpoint.builder()
+                .jobName("terms-and-conditions-auto-renewal")
+                .status("RUNNING")
+                .threshold(threshold)
+                .cursorExpirationDate(cursorExpirationDate)
+                .cursorId(cursorId)
+                .scannedCount(500L)
+                .renewedCount(420L)
+                .startedAt(LocalDateTime.now().minusHours(1))
+                .updatedAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+
+    private DistributorTermsAndConditionsDTO expiringTerms(int daysUntilExpiration) {
+        return DistributorTermsAndConditionsDTO.builder()
+                .id(UUID.randomUUID())
+                .distributorId(UUID.randomUUID())
+                .templateId(templateId)
+                .expirationDate(LocalDateTime.now().plusDays(daysUntilExpiration))
+                .isActive(true)
+                .build();
+    }
+
+    private void setField(String name, Object value) {
+        try {
+            java.lang.reflect.Field field = TermsAndConditionsRenewalServiceImpl.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(service, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set up test", e);
+        }
+    }
+}
\ No newline at end of file
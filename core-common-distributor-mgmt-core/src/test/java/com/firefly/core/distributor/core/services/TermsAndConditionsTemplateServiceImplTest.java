@@ -19,19 +19,24 @@ package com.firefly.core.distributor.core.services;
 
 import com.firefly.core.distributor.core.mappers.TermsAndConditionsTemplateMapper;
 import com.firefly.core.distributor.core.services.impl.TermsAndConditionsTemplateServiceImpl;
+import com.firefly.core.distributor.core.templates.TermsAndConditionsTemplateCache;
 import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
 import com.firefly.core.distributor.models.entities.TermsAndConditionsTemplate;
 import com.firefly.core.distributor.models.repositories.TermsAndConditionsTemplateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
 
@@ -62,6 +67,10 @@ public class TermsAndConditionsTemplateServiceImplTest {
             java.lang.reflect.Field mapperField = TermsAndConditionsTemplateServiceImpl.class.getDeclaredField("mapper");
             mapperField.setAccessible(true);
             mapperField.set(service, mapper);
+
+            java.lang.reflect.Field cacheField = TermsAndConditionsTemplateServiceImpl.class.getDeclaredField("templateCache");
+            cacheField.setAccessible(true);
+            cacheField.set(service, new TermsAndConditionsTemplateCache(512, Duration.ofMinutes(10), new SimpleMeterRegistry()));
         } catch (Exception e) {
             throw new RuntimeException("Failed to set up test", e);
         }
@@ -155,6 +164,39 @@ public class TermsAndConditionsTemplateServiceImplTest {
         verify(mapper).toDTO(template);
     }
 
+    @Test
+    void getTemplateById_WhenCalledTwice_ShouldServeSecondReadFromCache() {
+        // Arrange
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(template));
+        when(mapper.toDTO(any(TermsAndConditionsTemplate.class))).thenReturn(templateDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getTemplateById(testId).then(service.getTemplateById(testId)))
+                .expectNext(templateDTO)
+                .verifyComplete();
+
+        // Verify
+        verify(repository, times(1)).findById(testId);
+    }
+
+    @Test
+    void getTemplateById_AfterTemplateDeactivated_ShouldReloadFromRepository() {
+        // Arrange
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(template));
+        when(repository.save(any(TermsAndConditionsTemplate.class))).thenReturn(Mono.just(template));
+        when(mapper.toDTO(any(TermsAndConditionsTemplate.class))).thenReturn(templateDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getTemplateById(testId)
+                        .then(service.deactivateTemplate(testId, templateId))
+                        .then(service.getTemplateById(testId)))
+                .expectNext(templateDTO)
+                .verifyComplete();
+
+        // Verify: initial read, deactivation lookup and the read after invalidation
+        verify(repository, times(3)).findById(testId);
+    }
+
     @Test
     void getTemplateById_WhenTemplateDoesNotExist_ShouldReturnEmpty() {
         // Arrange
@@ -344,9 +386,12 @@ public class TermsAndConditionsTemplateServiceImplTest {
                 .isActive(true)
                 .build();
 
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(template));
-        when(repository.findByCategoryAndIsDefaultTrueAndIsActiveTrue(anyString())).thenReturn(Mono.empty());
-        when(repository.save(any(TermsAndConditionsTemplate.class))).thenReturn(Mono.just(defaultTemplate));
+        when(repository.findById(testId)).thenReturn(Mono.just(defaultTemplate));
+        when(repository.lockDefaultOfCategory("GENERAL")).thenReturn(Mono.just(1));
+        when(repository.clearDefaultsOfCategory(eq("GENERAL"), eq(testId), any(LocalDateTime.class), eq(updatedBy)))
+                .thenReturn(Mono.just(1));
+        when(repository.markAsDefault(eq(testId), any(LocalDateTime.class), eq(updatedBy)))
+                .thenReturn(Mono.just(defaultTemplate));
         when(mapper.toDTO(any(TermsAndConditionsTemplate.class))).thenReturn(templateDTO);
 
         // Act & Assert
@@ -355,12 +400,30 @@ public class TermsAndConditionsTemplateServiceImplTest {
                 .verifyComplete();
 
         // Verify
-        verify(repository).findById(testId);
-        verify(repository).findByCategoryAndIsDefaultTrueAndIsActiveTrue("GENERAL");
-        verify(repository).save(any(TermsAndConditionsTemplate.class));
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).lockDefaultOfCategory("GENERAL");
+        inOrder.verify(repository).clearDefaultsOfCategory(eq("GENERAL"), eq(testId), any(LocalDateTime.class), eq(updatedBy));
+        inOrder.verify(repository).markAsDefault(eq(testId), any(LocalDateTime.class), eq(updatedBy));
+        verify(repository, never()).save(any(TermsAndConditionsTemplate.class));
         verify(mapper).toDTO(defaultTemplate);
     }
 
+    @Test
+    void setAsDefault_WhenTemplateNotFound_ShouldReturnEmpty() {
+        // Arrange
+        UUID updatedBy = UUID.randomUUID();
+        when(repository.findById(testId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.setAsDefault(testId, updatedBy))
+                .verifyComplete();
+
+        // Verify
+        verify(repository, never()).lockDefaultOfCategory(any());
+        verify(repository, never()).markAsDefault(any(UUID.class), any(LocalDateTime.class), any(UUID.class));
+        verify(mapper, never()).toDTO(any(TermsAndConditionsTemplate.class));
+    }
+
     @Test
     void templateNameExists_WhenNameExists_ShouldReturnTrue() {
         // Arrange
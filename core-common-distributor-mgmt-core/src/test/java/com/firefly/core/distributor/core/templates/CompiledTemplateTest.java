@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledTemplateTest {
+
+    @Test
+    void render_ShouldSubstituteEveryOccurrenceOfEachVariable() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile("Hello {{name}}, welcome to {{company}}. Bye {{name}}!");
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", "Acme");
+        variables.put("company", "Firefly");
+
+        // Act
+        String result = template.render(variables, Object::toString);
+
+        // Assert
+        assertEquals("Hello Acme, welcome to Firefly. Bye Acme!", result);
+        assertEquals(3, template.getSlotCount());
+        assertEquals(Set.of("name", "company"), template.getVariableNames());
+    }
+
+    @Test
+    void render_WhenVariableMissing_ShouldKeepPlaceholder() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile("Rate: {{commissionRate}}% for {{distributorName}}");
+
+        // Act
+        String result = template.render(Map.of("distributorName", "Acme"), Object::toString);
+
+        // Assert
+        assertEquals("Rate: {{commissionRate}}% for Acme", result);
+    }
+
+    @Test
+    void render_ShouldNotReprocessSubstitutedValues() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile("{{first}} and {{second}}");
+        Map<String, Object> variables = Map.of("first", "{{second}}", "second", "two");
+
+        // Act
+        String result = template.render(variables, Object::toString);
+
+        // Assert
+        assertEquals("{{second}} and two", result);
+    }
+
+    @Test
+    void render_WhenNoPlaceholders_ShouldReturnContentUnchanged() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile("Plain text with { single } braces");
+
+        // Act & Assert
+        assertEquals("Plain text with { single } braces", template.render(Map.of(), Object::toString));
+        assertEquals(0, template.getSlotCount());
+    }
+
+    @Test
+    void cache_ShouldRecompileWhenTemplateIsModified() {
+        // Arrange
+        CompiledTemplateCache cache = new CompiledTemplateCache(16);
+        TermsAndConditionsTemplateDTO template = TermsAndConditionsTemplateDTO.builder()
+                .id(UUID.randomUUID())
+                .version("1.0")
+                .templateContent("Version one {{name}}")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // Act
+        CompiledTemplate first = cache.get(template);
+        CompiledTemplate second = cache.get(template);
+        template.setTemplateContent("Version two {{name}}");
+        template.setUpdatedAt(LocalDateTime.now().plusSeconds(1));
+        CompiledTemplate third = cache.get(template);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals("Version two X", third.render(Map.of("name", "X"), Object::toString));
+    }
+
+    @Test
+    void renderChunks_ShouldProduceBoundedChunksMatchingFullRender() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile("Dear {{name}}, these terms bind {{company}} and {{name}}. {{unknown}} stays.");
+        Map<String, Object> variables = Map.of("name", "Acme Distribution", "company", "Firefly");
+
+        // Act
+        List<String> chunks = new ArrayList<>();
+        template.renderChunks(variables, Object::toString, 7).forEach(chunks::add);
+
+        // Assert
+        assertEquals(template.render(variables, Object::toString), String.join("", chunks));
+        assertTrue(chunks.stream().allMatch(chunk -> !chunk.isEmpty() && chunk.length() <= 7));
+    }
+
+    @Test
+    void renderChunks_ShouldNotSplitSurrogatePairs() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile("a\uD83D\uDE00b\uD83D\uDE00c");
+
+        // Act
+        List<String> chunks = new ArrayList<>();
+        template.renderChunks(Map.of(), Object::toString, 2).forEach(chunks::add);
+
+        // Assert
+        assertEquals("a\uD83D\uDE00b\uD83D\uDE00c", String.join("", chunks));
+        assertTrue(chunks.stream().noneMatch(chunk -> Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))));
+    }
+}
\ No newline at end of file
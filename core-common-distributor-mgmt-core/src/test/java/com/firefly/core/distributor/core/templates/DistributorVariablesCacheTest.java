@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DistributorVariablesCacheTest {
+
+    private DistributorVariablesCache cache;
+    private UUID distributorId;
+    private UUID otherDistributorId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DistributorVariablesCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        distributorId = UUID.randomUUID();
+        otherDistributorId = UUID.randomUUID();
+    }
+
+    @Test
+    void get_WhenAnotherDistributorIsInvalidatedDuringLoad_ShouldStoreSnapshot() {
+        // Arrange
+        Map<String, Object> snapshot = Map.of("distributorName", "Acme");
+
+        // Act & Assert
+        StepVerifier.create(cache.get(distributorId, () -> Mono.fromSupplier(() -> {
+                    cache.invalidate(otherDistributorId);
+                    return snapshot;
+                })))
+                .expectNext(snapshot)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(Map.of(distributorId, snapshot), cache.getAllPresent(List.of(distributorId)));
+    }
+
+    @Test
+    void get_WhenSameDistributorIsInvalidatedDuringLoad_ShouldNotStoreSnapshot() {
+        // Arrange
+        Map<String, Object> staleSnapshot = Map.of("distributorName", "Acme");
+
+        // Act & Assert
+        StepVerifier.create(cache.get(distributorId, () -> Mono.fromSupplier(() -> {
+                    cache.invalidate(distributorId);
+                    return staleSnapshot;
+                })))
+                .expectNext(staleSnapshot)
+                .verifyComplete();
+
+        // Verify
+        assertTrue(cache.getAllPresent(List.of(distributorId)).isEmpty());
+    }
+
+    @Test
+    void putAll_ShouldSkipOnlyDistributorsInvalidatedSinceTheLoadStarted() {
+        // Arrange
+        long loadGeneration = cache.currentGeneration();
+        cache.invalidate(distributorId);
+        Map<String, Object> snapshot = Map.of("distributorName", "Acme");
+        Map<String, Object> otherSnapshot = Map.of("distributorName", "Other");
+
+        // Act
+        cache.putAll(Map.of(distributorId, snapshot, otherDistributorId, otherSnapshot), loadGeneration);
+
+        // Verify
+        assertEquals(Map.of(otherDistributorId, otherSnapshot), cache.getAllPresent(List.of(distributorId, otherDistributorId)));
+
+        // A load started after the invalidation is stored
+        cache.putAll(Map.of(distributorId, snapshot), cache.currentGeneration());
+        assertEquals(Map.of(distributorId, snapshot), cache.getAllPresent(List.of(distributorId)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.templates;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VariableSchemaTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String VARIABLES_JSON = "{\"companyName\": {\"type\": \"string\", \"default\": \"Firefly Financial Services\"}, "
+            + "\"distributorName\": {\"type\": \"string\", \"required\": true}, "
+            + "\"commissionRate\": {\"type\": \"number\", \"default\": 5.0}}";
+
+    @Test
+    void isSatisfiedBy_WhenRequiredVariablesPresentWithValidTypes_ShouldReturnTrue() {
+        // Arrange
+        VariableSchema schema = VariableSchema.parse(VARIABLES_JSON, OBJECT_MAPPER);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("distributorName", "Acme");
+        variables.put("commissionRate", 7.5);
+
+        // Act & Assert
+        assertTrue(schema.isSatisfiedBy(variables));
+    }
+
+    @Test
+    void isSatisfiedBy_WhenRequiredVariableMissing_ShouldReturnFalse() {
+        // Arrange
+        VariableSchema schema = VariableSchema.parse(VARIABLES_JSON, OBJECT_MAPPER);
+
+        // Act & Assert
+        assertFalse(schema.isSatisfiedBy(Map.of("commissionRate", 7.5)));
+    }
+
+    @Test
+    void isSatisfiedBy_WhenTypeMismatch_ShouldReturnFalse() {
+        // Arrange
+        VariableSchema schema = VariableSchema.parse(VARIABLES_JSON, OBJECT_MAPPER);
+
+        // Act & Assert
+        assertFalse(schema.isSatisfiedBy(Map.of("distributorName", "Acme", "commissionRate", "seven")));
+    }
+
+    @Test
+    void parse_WhenJsonInvalid_ShouldRejectAllVariables() {
+        // Arrange
+        VariableSchema schema = VariableSchema.parse("{not json", OBJECT_MAPPER);
+
+        // Act & Assert
+        assertFalse(schema.isSatisfiedBy(Map.of()));
+    }
+
+    @Test
+    void parse_WhenJsonBlank_ShouldAcceptAnyVariables() {
+        // Act & Assert
+        assertSame(VariableSchema.EMPTY, VariableSchema.parse("  ", OBJECT_MAPPER));
+        assertTrue(VariableSchema.EMPTY.isSatisfiedBy(Map.of("anything", 1)));
+    }
+
+    @Test
+    void getDefaults_ShouldExposeDeclaredDefaults() {
+        // Arrange
+        VariableSchema schema = VariableSchema.parse(VARIABLES_JSON, OBJECT_MAPPER);
+
+        // Act
+        Map<String, Object> defaults = schema.getDefaults();
+
+        // Assert
+        assertEquals(2, defaults.size());
+        assertEquals("Firefly Financial Services", defaults.get("companyName"));
+        assertEquals(5.0, ((Number) defaults.get("commissionRate")).doubleValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.tracking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedTrackingNumberGeneratorTest {
+
+    private static final long NOW = 1_780_000_000_000L;
+
+    @Test
+    void next_WithinOneMillisecond_ShouldBeUniqueOrderedAndValid() {
+        // Arrange
+        TimeOrderedTrackingNumberGenerator generator = new TimeOrderedTrackingNumberGenerator(7, () -> NOW);
+        Set<String> trackingNumbers = new HashSet<>();
+        String previous = null;
+
+        // Act & Assert
+        for (int i = 0; i < 100_000; i++) {
+            String trackingNumber = generator.next();
+            assertTrue(trackingNumbers.add(trackingNumber));
+            assertTrue(TimeOrderedTrackingNumberGenerator.isValid(trackingNumber));
+            if (previous != null) {
+                assertTrue(previous.compareTo(trackingNumber) < 0);
+            }
+            previous = trackingNumber;
+        }
+    }
+
+    @Test
+    void next_WhenClockMovesBackwards_ShouldKeepIncreasing() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedTrackingNumberGenerator generator = new TimeOrderedTrackingNumberGenerator(7, clock::get);
+        String before = generator.next();
+
+        // Act
+        clock.set(NOW - 60_000);
+        String after = generator.next();
+
+        // Assert
+        assertTrue(before.compareTo(after) < 0);
+    }
+
+    @Test
+    void next_OnDifferentNodes_ShouldNotCollide() {
+        // Arrange
+        TimeOrderedTrackingNumberGenerator node1 = new TimeOrderedTrackingNumberGenerator(1, () -> NOW);
+        TimeOrderedTrackingNumberGenerator node2 = new TimeOrderedTrackingNumberGenerator(2, () -> NOW);
+        Set<String> trackingNumbers = new HashSet<>();
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(trackingNumbers.add(node1.next()));
+            assertTrue(trackingNumbers.add(node2.next()));
+        }
+    }
+
+    @Test
+    void isValid_WithAnySingleCharacterChanged_ShouldReturnFalse() {
+        // Arrange
+        String trackingNumber = new TimeOrderedTrackingNumberGenerator(7, () -> NOW).next();
+        String alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+        // Act & Assert
+        for (int i = TimeOrderedTrackingNumberGenerator.PREFIX.length(); i < trackingNumber.length(); i++) {
+            for (char c : alphabet.toCharArray()) {
+                if (c != trackingNumber.charAt(i)) {
+                    char[] chars = trackingNumber.toCharArray();
+                    chars[i] = c;
+                    assertFalse(TimeOrderedTrackingNumberGenerator.isValid(new String(chars)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void isValid_WithMalformedTrackingNumber_ShouldReturnFalse() {
+        assertFalse(TimeOrderedTrackingNumberGenerator.isValid(null));
+        assertFalse(TimeOrderedTrackingNumberGenerator.isValid("SHIP-1A2B3C4D"));
+        assertFalse(TimeOrderedTrackingNumberGenerator.isValid("SHIP-06JFKX7CR0W0IY"));
+    }
+
+    @Test
+    void constructor_WithNodeIdOutOfRange_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedTrackingNumberGenerator(
+                TimeOrderedTrackingNumberGenerator.MAX_NODE_ID + 1, () -> NOW));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.core.transactions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AfterCommitTest {
+
+    private List<String> events;
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    void setUp() {
+        events = new CopyOnWriteArrayList<>();
+        transactionalOperator = TransactionalOperator.create(new RecordingTransactionManager(events));
+    }
+
+    @Test
+    void run_InTransaction_ShouldRunAfterCommit() {
+        // Act & Assert
+        StepVerifier.create(AfterCommit.run(() -> events.add("invalidate"))
+                        .then(Mono.fromRunnable(() -> events.add("write")))
+                        .as(transactionalOperator::transactional))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(List.of("write", "commit", "invalidate"), events);
+    }
+
+    @Test
+    void run_WhenTransactionRollsBack_ShouldNotRun() {
+        // Act & Assert
+        StepVerifier.create(AfterCommit.run(() -> events.add("invalidate"))
+                        .then(Mono.error(new IllegalStateException("Write failed")))
+                        .as(transactionalOperator::transactional))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Assert
+        assertEquals(List.of("rollback"), events);
+    }
+
+    @Test
+    void defer_WithoutTransaction_ShouldRunAtOnce() {
+        // Act & Assert
+        StepVerifier.create(AfterCommit.defer(() -> Mono.fromRunnable(() -> events.add("write audit log"))))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(List.of("write audit log"), events);
+    }
+
+    /**
+     * A transaction manager without a resource, recording commits and rollbacks.
+     */
+    private static final class RecordingTransactionManager extends AbstractReactiveTransactionManager {
+
+        private final List<String> events;
+
+        RecordingTransactionManager(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager, GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> events.add("commit"));
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager, GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> events.add("rollback"));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the totals of a lending contract's amortization schedule, without its installments.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmortizationSummaryDTO {
+
+    private UUID lendingContractId;
+
+    private BigDecimal principal;
+
+    private BigDecimal annualInterestRate;
+
+    private Integer termMonths;
+
+    private BigDecimal monthlyPayment;
+
+    private BigDecimal totalInterest;
+
+    private BigDecimal processingFee;
+
+    private BigDecimal totalPayable;
+}
\ No newline at end of file
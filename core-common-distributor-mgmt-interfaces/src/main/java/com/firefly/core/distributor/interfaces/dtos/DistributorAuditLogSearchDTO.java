@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.interfaces.dtos;
+
+import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the criteria of a keyset paginated audit log search or export.
+ * Null criteria are ignored. The time range includes {@code from} and excludes {@code to}.
+ * Metadata criteria match the JSON metadata: {@code metadataContains} is a JSON document the metadata
+ * must contain, {@code metadataPath} a jsonpath expression that must match, and {@code changedField}
+ * the name of a field recorded in the metadata {@code changes}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistributorAuditLogSearchDTO {
+
+    private DistributorActionEnum action;
+
+    private String entity;
+
+    private String entityId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String metadataContains;
+
+    private String metadataPath;
+
+    private String changedField;
+}
\ No newline at end of file
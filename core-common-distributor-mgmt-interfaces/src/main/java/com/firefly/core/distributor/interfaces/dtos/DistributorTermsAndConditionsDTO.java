@@ -56,6 +56,9 @@ public class DistributorTermsAndConditionsDTO {
     @NotBlank(message = "Content is required")
     private String content;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String contentHash;
+
     @NotBlank(message = "Version is required")
     @Size(max = 50, message = "Version cannot exceed 50 characters")
     private String version;
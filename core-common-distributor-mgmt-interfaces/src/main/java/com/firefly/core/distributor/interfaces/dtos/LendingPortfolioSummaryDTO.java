@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the lending portfolio aggregates of a distributor.
+ * <p>
+ * The outstanding balance is the financed amount (total amount less down payment) of APPROVED and ACTIVE
+ * contracts, as repayments are not tracked by this service.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LendingPortfolioSummaryDTO {
+
+    private UUID distributorId;
+
+    private Long contractCount;
+
+    private BigDecimal totalAmount;
+
+    private BigDecimal outstandingBalance;
+
+    private BigDecimal averageMonthlyPayment;
+
+    private List<LendingPortfolioStatusDTO> statuses;
+
+    private String period; // MONTH, QUARTER, YEAR
+
+    private List<LendingPortfolioApprovalPeriodDTO> approvals;
+}
\ No newline at end of file
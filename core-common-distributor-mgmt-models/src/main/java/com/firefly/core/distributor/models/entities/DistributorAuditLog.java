@@ -19,6 +19,7 @@ package com.firefly.core.distributor.models.entities;
 
 import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,7 +58,7 @@ public class DistributorAuditLog {
     private String entityId;
 
     @Column("audit_metadata")
-    private String auditMetadata;
+    private Json auditMetadata;
 
     @Column("ip_address")
     private String ipAddress;
@@ -54,7 +54,10 @@ public class DistributorTermsAndConditions {
     private String title;
 
     @Column("content")
-    private String content;
+    private String content; // Legacy inline content; new rows reference the content store
+
+    @Column("content_hash")
+    private String contentHash;
 
     @Column("version")
     private String version;
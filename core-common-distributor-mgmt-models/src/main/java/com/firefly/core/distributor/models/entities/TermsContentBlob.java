@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a stored terms and conditions document body, addressed by the hash of its content.
+ * Maps to the 'terms_content_blob' table in the database.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("terms_content_blob")
+public class TermsContentBlob {
+
+    @Id
+    @Column("content_hash")
+    private String contentHash;
+
+    @Column("compression")
+    private String compression; // NONE, GZIP
+
+    @Column("content")
+    private byte[] content;
+
+    @Column("content_size")
+    private Integer contentSize;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
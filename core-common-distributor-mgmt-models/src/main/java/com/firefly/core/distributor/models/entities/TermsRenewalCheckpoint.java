@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing the progress of a terms and conditions renewal run.
+ * Maps to the 'terms_renewal_checkpoint' table in the database.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("terms_renewal_checkpoint")
+public class TermsRenewalCheckpoint {
+
+    @Id
+    @Column("job_name")
+    private String jobName;
+
+    @Column("status")
+    private String status; // RUNNING, COMPLETED
+
+    @Column("threshold")
+    private LocalDateTime threshold;
+
+    @Column("cursor_expiration_date")
+    private LocalDateTime cursorExpirationDate;
+
+    @Column("cursor_id")
+    private UUID cursorId;
+
+    @Column("scanned_count")
+    private Long scannedCount;
+
+    @Column("renewed_count")
+    private Long renewedCount;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
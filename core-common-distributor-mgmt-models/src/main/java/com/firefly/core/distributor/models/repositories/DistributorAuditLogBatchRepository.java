@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Batch write operations for {@link DistributorAuditLog}.
+ */
+public interface DistributorAuditLogBatchRepository {
+
+    /**
+     * Insert audit log rows using multi-row insert statements.
+     * Every row must already carry its ID.
+     *
+     * @param auditLogs the rows to insert
+     * @return a Mono emitting the number of inserted rows
+     */
+    Mono<Long> insertAll(List<DistributorAuditLog> auditLogs);
+}
\ No newline at end of file
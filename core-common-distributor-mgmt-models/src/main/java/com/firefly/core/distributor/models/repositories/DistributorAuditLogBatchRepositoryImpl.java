@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import com.firefly.core.distributor.models.repositories.support.MultiRowInsert;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row insert implementation of {@link DistributorAuditLogBatchRepository}.
+ */
+public class DistributorAuditLogBatchRepositoryImpl implements DistributorAuditLogBatchRepository {
+
+    private static final MultiRowInsert<DistributorAuditLog> INSERT =
+            MultiRowInsert.<DistributorAuditLog>into("distributor_audit_log")
+                    .column("id", UUID.class, DistributorAuditLog::getId)
+                    .column("distributor_id", UUID.class, DistributorAuditLog::getDistributorId)
+                    .column("action", String.class, auditLog -> auditLog.getAction() != null ? auditLog.getAction().name() : null)
+                    .column("entity", String.class, DistributorAuditLog::getEntity)
+                    .column("entity_id", String.class, DistributorAuditLog::getEntityId)
+                    .column("audit_metadata", Json.class, DistributorAuditLog::getAuditMetadata)
+                    .column("ip_address", String.class, DistributorAuditLog::getIpAddress)
+                    .column("user_id", UUID.class, DistributorAuditLog::getUserId)
+                    .column("audit_timestamp", LocalDateTime.class, DistributorAuditLog::getAuditTimestamp);
+
+    private final DatabaseClient databaseClient;
+
+    public DistributorAuditLogBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<DistributorAuditLog> auditLogs) {
+        return INSERT.execute(databaseClient, auditLogs);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pagination queries for {@link DistributorAuditLog}.
+ */
+public interface DistributorAuditLogKeysetRepository {
+
+    /**
+     * Find a page of audit logs matching the criteria, ordered newest first by audit timestamp, then ID.
+     * A null cursor starts from the first page.
+     *
+     * @param criteria the search criteria
+     * @param afterTimestamp the audit timestamp of the last row of the previous page
+     * @param afterId the ID of the last row of the previous page
+     * @param limit the maximum number of rows
+     * @return a Flux of audit logs
+     */
+    Flux<DistributorAuditLog> findKeysetPage(DistributorAuditLogSearchCriteria criteria,
+                                             LocalDateTime afterTimestamp, UUID afterId, int limit);
+
+    /**
+     * Check that a metadata path is a valid jsonpath expression without reading any audit log.
+     *
+     * @param metadataPath the jsonpath expression
+     * @return a Mono completing when the expression is valid, or failing with the database error otherwise
+     */
+    Mono<Void> validateMetadataPath(String metadataPath);
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL implementation of {@link DistributorAuditLogKeysetRepository}.
+ * <p>
+ * The seek predicate is the row comparison {@code (audit_timestamp, id) < (:afterTimestamp, :afterId)}, which
+ * Postgres turns into a start bound on the {@code (distributor_id, audit_timestamp, id)} and
+ * {@code (audit_timestamp, id)} indexes, so each page or export batch reads only its own rows; the time bounds
+ * prune the monthly partitions.
+ * Metadata criteria use the JSONB containment ({@code @>}) and path ({@code @?}) operators, which the GIN
+ * index on {@code audit_metadata} serves.
+ */
+public class DistributorAuditLogKeysetRepositoryImpl implements DistributorAuditLogKeysetRepository {
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public DistributorAuditLogKeysetRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    @Override
+    public Flux<DistributorAuditLog> findKeysetPage(DistributorAuditLogSearchCriteria criteria,
+                                                    LocalDateTime afterTimestamp, UUID afterId, int limit) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM distributor_audit_log WHERE TRUE");
+        appendCriteria(sql, bindings, criteria);
+        if (afterTimestamp != null && afterId != null) {
+            sql.append(" AND (audit_timestamp, id) < (:afterTimestamp, :afterId)");
+            bindings.put("afterTimestamp", afterTimestamp);
+            bindings.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY audit_timestamp DESC, id DESC LIMIT :limit");
+        bindings.put("limit", limit);
+
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(DistributorAuditLog.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<Void> validateMetadataPath(String metadataPath) {
+        return entityTemplate.getDatabaseClient()
+                .sql("SELECT CAST(:metadataPath AS jsonpath)")
+                .bind("metadataPath", metadataPath)
+                .then();
+    }
+
+    private void appendCriteria(StringBuilder sql, Map<String, Object> bindings, DistributorAuditLogSearchCriteria criteria) {
+        if (criteria.getDistributorId() != null) {
+            sql.append(" AND distributor_id = :distributorId");
+            bindings.put("distributorId", criteria.getDistributorId());
+        }
+        if (criteria.getAction() != null) {
+            sql.append(" AND action = CAST(:action AS distributor_action_enum)");
+            bindings.put("action", criteria.getAction().name());
+        }
+        if (criteria.getEntity() != null) {
+            sql.append(" AND entity = :entity");
+            bindings.put("entity", criteria.getEntity());
+        }
+        if (criteria.getEntityId() != null) {
+            sql.append(" AND entity_id = :entityId");
+            bindings.put("entityId", criteria.getEntityId());
+        }
+        if (criteria.getFrom() != null) {
+            sql.append(" AND audit_timestamp >= :from");
+            bindings.put("from", criteria.getFrom());
+        }
+        if (criteria.getTo() != null) {
+            sql.append(" AND audit_timestamp < :to");
+            bindings.put("to", criteria.getTo());
+        }
+        if (criteria.getMetadataContains() != null) {
+            for (int i = 0; i < criteria.getMetadataContains().size(); i++) {
+                sql.append(" AND audit_metadata @> CAST(:metadataContains").append(i).append(" AS jsonb)");
+                bindings.put("metadataContains" + i, criteria.getMetadataContains().get(i));
+            }
+        }
+        if (criteria.getMetadataPath() != null) {
+            sql.append(" AND audit_metadata @? CAST(:metadataPath AS jsonpath)");
+            bindings.put("metadataPath", criteria.getMetadataPath());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Maintenance of the monthly partitions and daily rollups of {@link DistributorAuditLog}.
+ * <p>
+ * Every operation is idempotent and serialized in the database, so several instances may run it.
+ */
+public interface DistributorAuditLogPartitionRepository {
+
+    /**
+     * Create the missing monthly partitions of a range of months.
+     *
+     * @param from a day of the first month, inclusive
+     * @param to a day of the last month, inclusive
+     * @return a Mono emitting the number of partitions created
+     */
+    Mono<Integer> createPartitions(LocalDate from, LocalDate to);
+
+    /**
+     * Drop the monthly partitions that end on or before a day, refreshing their daily rollups first.
+     *
+     * @param before the retention boundary
+     * @return a Mono emitting the number of partitions dropped
+     */
+    Mono<Integer> dropPartitionsBefore(LocalDate before);
+
+    /**
+     * Recompute the daily rollups per distributor and action of a range of days.
+     *
+     * @param from the first day, inclusive
+     * @param to the last day, exclusive
+     * @return a Mono emitting the number of rollup rows written
+     */
+    Mono<Long> refreshDailyRollups(LocalDate from, LocalDate to);
+}
\ No newline at end of file
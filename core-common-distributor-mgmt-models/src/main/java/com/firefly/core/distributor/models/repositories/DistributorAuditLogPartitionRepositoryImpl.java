@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Implementation of {@link DistributorAuditLogPartitionRepository} delegating to the maintenance
+ * functions created with the partitioned table.
+ */
+public class DistributorAuditLogPartitionRepositoryImpl implements DistributorAuditLogPartitionRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public DistributorAuditLogPartitionRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Integer> createPartitions(LocalDate from, LocalDate to) {
+        return databaseClient.sql("SELECT create_distributor_audit_log_partitions(:fromDate, :toDate)")
+                .bind("fromDate", from)
+                .bind("toDate", to)
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Integer> dropPartitionsBefore(LocalDate before) {
+        return databaseClient.sql("SELECT drop_distributor_audit_log_partitions(:before)")
+                .bind("before", before)
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> refreshDailyRollups(LocalDate from, LocalDate to) {
+        return databaseClient.sql("SELECT refresh_distributor_audit_log_daily_rollup(:fromDate, :toDate)")
+                .bind("fromDate", from)
+                .bind("toDate", to)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+    }
+}
\ No newline at end of file
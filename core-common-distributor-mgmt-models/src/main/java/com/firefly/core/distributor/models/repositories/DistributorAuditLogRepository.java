@@ -31,7 +31,8 @@ import java.util.UUID;
  * Extends {@link BaseRepository} to inherit common CRUD operations.
  */
 @Repository
-public interface DistributorAuditLogRepository extends BaseRepository<DistributorAuditLog, UUID> {
+public interface DistributorAuditLogRepository extends BaseRepository<DistributorAuditLog, UUID>,
+        DistributorAuditLogBatchRepository, DistributorAuditLogPartitionRepository, DistributorAuditLogKeysetRepository {
     
     /**
      * Find all audit logs for a specific distributor.
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.interfaces.enums.DistributorActionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria of an audit log search evaluated in SQL by {@link DistributorAuditLogKeysetRepository}.
+ * Null criteria are ignored. The time range includes {@code from} and excludes {@code to}.
+ * Every metadata containment document must be contained in the metadata, and the metadata path must match.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistributorAuditLogSearchCriteria {
+
+    private UUID distributorId;
+
+    private DistributorActionEnum action;
+
+    private String entity;
+
+    private String entityId;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private List<String> metadataContains;
+
+    private String metadataPath;
+}
\ No newline at end of file
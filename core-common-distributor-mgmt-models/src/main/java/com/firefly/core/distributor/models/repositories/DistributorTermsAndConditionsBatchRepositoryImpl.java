@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorTermsAndConditions;
+import com.firefly.core.distributor.models.repositories.support.MultiRowInsert;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row insert implementation of {@link DistributorTermsAndConditionsBatchRepository}.
+ */
+public class DistributorTermsAndConditionsBatchRepositoryImpl implements DistributorTermsAndConditionsBatchRepository {
+
+    private static final MultiRowInsert<DistributorTermsAndConditions> INSERT =
+            MultiRowInsert.<DistributorTermsAndConditions>into("distributor_terms_and_conditions")
+                    .column("id", UUID.class, DistributorTermsAndConditions::getId)
+                    .column("distributor_id", UUID.class, DistributorTermsAndConditions::getDistributorId)
+                    .column("template_id", UUID.class, DistributorTermsAndConditions::getTemplateId)
+                    .column("title", String.class, DistributorTermsAndConditions::getTitle)
+                    .column("content", String.class, DistributorTermsAndConditions::getContent)
+                    .column("content_hash", String.class, DistributorTermsAndConditions::getContentHash)
+                    .column("version", String.class, DistributorTermsAndConditions::getVersion)
+                    .column("effective_date", LocalDateTime.class, DistributorTermsAndConditions::getEffectiveDate)
+                    .column("expiration_date", LocalDateTime.class, DistributorTermsAndConditions::getExpirationDate)
+                    .column("status", String.class, DistributorTermsAndConditions::getStatus)
+                    .column("is_active", Boolean.class, DistributorTermsAndConditions::getIsActive)
+                    .column("notes", String.class, DistributorTermsAndConditions::getNotes)
+                    .column("created_at", LocalDateTime.class, DistributorTermsAndConditions::getCreatedAt)
+                    .column("created_by", UUID.class, DistributorTermsAndConditions::getCreatedBy);
+
+    private final DatabaseClient databaseClient;
+
+    public DistributorTermsAndConditionsBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<DistributorTermsAndConditions> termsAndConditions) {
+        return INSERT.execute(databaseClient, termsAndConditions);
+    }
+}
\ No newline at end of file
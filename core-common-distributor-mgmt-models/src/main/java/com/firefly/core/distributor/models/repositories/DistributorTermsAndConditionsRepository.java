@@ -18,11 +18,14 @@
 package com.firefly.core.distributor.models.repositories;
 
 import com.firefly.core.distributor.models.entities.DistributorTermsAndConditions;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -30,7 +33,8 @@ import java.util.UUID;
  * Extends {@link BaseRepository} to inherit common CRUD operations.
  */
 @Repository
-public interface DistributorTermsAndConditionsRepository extends BaseRepository<DistributorTermsAndConditions, UUID> {
+public interface DistributorTermsAndConditionsRepository extends BaseRepository<DistributorTermsAndConditions, UUID>,
+        DistributorTermsAndConditionsBatchRepository {
     
     /**
      * Find all terms and conditions for a specific distributor.
@@ -89,6 +93,45 @@ public interface DistributorTermsAndConditionsRepository extends BaseRepository<
      * @return a Flux of expiring terms and conditions
      */
     Flux<DistributorTermsAndConditions> findByExpirationDateBeforeAndIsActiveTrue(LocalDateTime expirationDate);
+
+    /**
+     * Find the first page of active terms and conditions expiring before a certain date,
+     * ordered by expiration date and ID for keyset pagination.
+     *
+     * @param expirationDate the expiration date threshold
+     * @param limit the maximum number of rows to return
+     * @return a Flux of expiring terms and conditions
+     */
+    @Query("SELECT * FROM distributor_terms_and_conditions WHERE is_active = TRUE AND expiration_date < :expirationDate "
+            + "ORDER BY expiration_date, id LIMIT :limit")
+    Flux<DistributorTermsAndConditions> findExpiringFirstPage(LocalDateTime expirationDate, int limit);
+
+    /**
+     * Find the next page of active terms and conditions expiring before a certain date,
+     * continuing after the given (expiration date, ID) cursor.
+     *
+     * @param expirationDate the expiration date threshold
+     * @param afterExpirationDate the expiration date of the last row of the previous page
+     * @param afterId the ID of the last row of the previous page
+     * @param limit the maximum number of rows to return
+     * @return a Flux of expiring terms and conditions
+     */
+    @Query("SELECT * FROM distributor_terms_and_conditions WHERE is_active = TRUE AND expiration_date < :expirationDate "
+            + "AND (expiration_date, id) > (:afterExpirationDate, :afterId) "
+            + "ORDER BY expiration_date, id LIMIT :limit")
+    Flux<DistributorTermsAndConditions> findExpiringAfter(LocalDateTime expirationDate, LocalDateTime afterExpirationDate,
+                                                          UUID afterId, int limit);
+
+    /**
+     * Deactivate the terms and conditions with the given IDs in a single statement.
+     *
+     * @param ids the IDs of the terms and conditions to deactivate
+     * @param updatedAt the modification timestamp to record
+     * @return a Mono emitting the number of deactivated rows
+     */
+    @Modifying
+    @Query("UPDATE distributor_terms_and_conditions SET is_active = FALSE, updated_at = :updatedAt WHERE id IN (:ids)")
+    Mono<Integer> deactivateAllByIds(Collection<UUID> ids, LocalDateTime updatedAt);
     
     /**
      * Find terms and conditions effective after a certain date.
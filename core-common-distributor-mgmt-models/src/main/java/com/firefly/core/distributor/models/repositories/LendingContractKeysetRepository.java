@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.LendingContract;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pagination queries for {@link LendingContract}.
+ */
+public interface LendingContractKeysetRepository {
+
+    /**
+     * Find a page of lending contracts matching the criteria, ordered newest first by creation date, then ID.
+     * A null cursor starts from the first page.
+     *
+     * @param criteria the search criteria
+     * @param afterCreatedAt the creation date of the last row of the previous page
+     * @param afterId the ID of the last row of the previous page
+     * @param limit the maximum number of rows
+     * @return a Flux of lending contracts
+     */
+    Flux<LendingContract> findKeysetPage(LendingContractSearchCriteria criteria,
+                                         LocalDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Count the lending contracts matching the criteria.
+     *
+     * @param criteria the search criteria
+     * @return a Mono emitting the number of matching lending contracts
+     */
+    Mono<Long> countMatching(LendingContractSearchCriteria criteria);
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.LendingContract;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL implementation of {@link LendingContractKeysetRepository}.
+ * <p>
+ * Pages are fetched with plain SQL because the seek predicate has to be the row comparison
+ * {@code (created_at, id) < (:afterCreatedAt, :afterId)}: Postgres turns it into a start bound on the
+ * {@code (created_at, id)} indexes, whereas the equivalent {@code OR} form cannot bound the index scan.
+ * Counting has no seek and stays on {@link Criteria}.
+ */
+public class LendingContractKeysetRepositoryImpl implements LendingContractKeysetRepository {
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public LendingContractKeysetRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    @Override
+    public Flux<LendingContract> findKeysetPage(LendingContractSearchCriteria criteria,
+                                                LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM lending_contract WHERE TRUE");
+        if (criteria.getStatus() != null) {
+            sql.append(" AND status = :status");
+            bindings.put("status", criteria.getStatus());
+        }
+        if (criteria.getDistributorId() != null) {
+            sql.append(" AND distributor_id = :distributorId");
+            bindings.put("distributorId", criteria.getDistributorId());
+        }
+        if (criteria.getPartyId() != null) {
+            sql.append(" AND party_id = :partyId");
+            bindings.put("partyId", criteria.getPartyId());
+        }
+        if (criteria.getProductId() != null) {
+            sql.append(" AND product_id = :productId");
+            bindings.put("productId", criteria.getProductId());
+        }
+        if (criteria.getStartDateFrom() != null) {
+            sql.append(" AND start_date >= :startDateFrom");
+            bindings.put("startDateFrom", criteria.getStartDateFrom());
+        }
+        if (criteria.getStartDateTo() != null) {
+            sql.append(" AND start_date <= :startDateTo");
+            bindings.put("startDateTo", criteria.getStartDateTo());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            sql.append(" AND created_at >= :createdFrom");
+            bindings.put("createdFrom", criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            sql.append(" AND created_at < :createdTo");
+            bindings.put("createdTo", criteria.getCreatedTo());
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            sql.append(" AND (created_at, id) < (:afterCreatedAt, :afterId)");
+            bindings.put("afterCreatedAt", afterCreatedAt);
+            bindings.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT :limit");
+        bindings.put("limit", limit);
+
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(LendingContract.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countMatching(LendingContractSearchCriteria criteria) {
+        return entityTemplate.count(Query.query(toCriteria(criteria)), LendingContract.class);
+    }
+
+    private Criteria toCriteria(LendingContractSearchCriteria criteria) {
+        Criteria where = Criteria.empty();
+        if (criteria.getStatus() != null) {
+            where = where.and("status").is(criteria.getStatus());
+        }
+        if (criteria.getDistributorId() != null) {
+            where = where.and("distributorId").is(criteria.getDistributorId());
+        }
+        if (criteria.getPartyId() != null) {
+            where = where.and("partyId").is(criteria.getPartyId());
+        }
+        if (criteria.getProductId() != null) {
+            where = where.and("productId").is(criteria.getProductId());
+        }
+        if (criteria.getStartDateFrom() != null) {
+            where = where.and("startDate").greaterThanOrEquals(criteria.getStartDateFrom());
+        }
+        if (criteria.getStartDateTo() != null) {
+            where = where.and("startDate").lessThanOrEquals(criteria.getStartDateTo());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            where = where.and("createdAt").greaterThanOrEquals(criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            where = where.and("createdAt").lessThan(criteria.getCreatedTo());
+        }
+        return where;
+    }
+}
\ No newline at end of file
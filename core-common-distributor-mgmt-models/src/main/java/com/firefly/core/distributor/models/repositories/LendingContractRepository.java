@@ -22,13 +22,16 @@ import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * Repository for managing LendingContract entities.
  */
 @Repository
-public interface LendingContractRepository extends BaseRepository<LendingContract, UUID> {
+public interface LendingContractRepository extends BaseRepository<LendingContract, UUID>, LendingContractKeysetRepository,
+        LendingPortfolioRepository {
 
     /**
      * Find all lending contracts by distributor ID.
@@ -113,4 +116,18 @@ public interface LendingContractRepository extends BaseRepository<LendingContrac
      */
     @Query("SELECT * FROM lending_contract WHERE approval_date >= :approvalDate")
     Flux<LendingContract> findByApprovalDateAfter(String approvalDate);
+
+    /**
+     * Approve the DRAFT and PENDING lending contracts among the given IDs in a single statement.
+     * Contracts in any other status are left unchanged.
+     *
+     * @param ids the lending contract IDs
+     * @param approvedBy the ID of the approver
+     * @param approvedAt the approval timestamp
+     * @return a Flux of the approved lending contracts
+     */
+    @Query("UPDATE lending_contract SET status = 'APPROVED', approval_date = :approvedAt, approved_by = :approvedBy, "
+            + "updated_at = :approvedAt, updated_by = :approvedBy "
+            + "WHERE id IN (:ids) AND status IN ('DRAFT', 'PENDING') RETURNING *")
+    Flux<LendingContract> approveAll(Collection<UUID> ids, UUID approvedBy, LocalDateTime approvedAt);
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Criteria of a lending contract search evaluated in SQL by {@link LendingContractKeysetRepository}.
+ * Null criteria are ignored. Start date bounds are inclusive; the creation range includes
+ * {@code createdFrom} and excludes {@code createdTo}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LendingContractSearchCriteria {
+
+    private String status;
+
+    private UUID distributorId;
+
+    private UUID partyId;
+
+    private UUID productId;
+
+    private LocalDate startDateFrom;
+
+    private LocalDate startDateTo;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+}
\ No newline at end of file
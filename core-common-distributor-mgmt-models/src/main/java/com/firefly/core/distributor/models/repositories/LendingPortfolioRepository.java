@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.LendingContract;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Portfolio aggregates of {@link LendingContract} per distributor.
+ * <p>
+ * Reads come from summary tables that triggers on {@code lending_contract} keep up to date within the
+ * writing transaction, so their cost depends on the number of statuses and periods, not of contracts.
+ */
+public interface LendingPortfolioRepository {
+
+    /**
+     * Find the contract totals of a distributor per status.
+     *
+     * @param distributorId the ID of the distributor
+     * @return a Flux of totals, one per status with contracts
+     */
+    Flux<LendingPortfolioStatusTotals> findStatusTotals(UUID distributorId);
+
+    /**
+     * Find the approval totals of a distributor per period, oldest period first.
+     *
+     * @param distributorId the ID of the distributor
+     * @param period the period length: {@code month}, {@code quarter} or {@code year}
+     * @param from the first day of the range, inclusive, or null for no lower bound
+     * @param to the last day of the range, inclusive, or null for no upper bound
+     * @return a Flux of totals, one per period with approvals
+     */
+    Flux<LendingPortfolioApprovalTotals> findApprovalTotals(UUID distributorId, String period, LocalDate from, LocalDate to);
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Summary table implementation of {@link LendingPortfolioRepository}.
+ * <p>
+ * Approvals are summarized by month; quarters and years are rolled up from the monthly rows. The
+ * {@code from} and {@code to} bounds therefore apply at month granularity.
+ */
+public class LendingPortfolioRepositoryImpl implements LendingPortfolioRepository {
+
+    private static final String STATUS_TOTALS = "SELECT status, contract_count, total_amount, down_payment, monthly_payment "
+            + "FROM lending_portfolio_status_summary WHERE distributor_id = :distributorId AND contract_count <> 0 "
+            + "ORDER BY status";
+
+    private static final String APPROVAL_TOTALS = "SELECT date_trunc(:period, approval_month)::date AS period_start, "
+            + "SUM(approval_count) AS approval_count, SUM(total_amount) AS total_amount "
+            + "FROM lending_portfolio_approval_summary WHERE distributor_id = :distributorId "
+            + "AND approval_month >= date_trunc('month', CAST(:fromDate AS date)) "
+            + "AND approval_month <= CAST(:toDate AS date) "
+            + "GROUP BY period_start HAVING SUM(approval_count) <> 0 ORDER BY period_start";
+
+    private final DatabaseClient databaseClient;
+
+    public LendingPortfolioRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<LendingPortfolioStatusTotals> findStatusTotals(UUID distributorId) {
+        return databaseClient.sql(STATUS_TOTALS)
+                .bind("distributorId", distributorId)
+                .map((row, metadata) -> LendingPortfolioStatusTotals.builder()
+                        .status(row.get("status", String.class))
+                        .contractCount(row.get("contract_count", Long.class))
+                        .totalAmount(row.get("total_amount", BigDecimal.class))
+                        .downPayment(row.get("down_payment", BigDecimal.class))
+                        .monthlyPayment(row.get("monthly_payment", BigDecimal.class))
+                        .build())
+                .all();
+    }
+
+    @Override
+    public Flux<LendingPortfolioApprovalTotals> findApprovalTotals(UUID distributorId, String period, LocalDate from, LocalDate to) {
+        return databaseClient.sql(APPROVAL_TOTALS)
+                .bind("period", period)
+                .bind("distributorId", distributorId)
+                .bind("fromDate", from != null ? from : LocalDate.of(1, 1, 1))
+                .bind("toDate", to != null ? to : LocalDate.of(9999, 12, 31))
+                .map((row, metadata) -> LendingPortfolioApprovalTotals.builder()
+                        .periodStart(row.get("period_start", LocalDate.class))
+                        .approvalCount(row.get("approval_count", BigDecimal.class).longValue())
+                        .totalAmount(row.get("total_amount", BigDecimal.class))
+                        .build())
+                .all();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.Shipment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch write operations for {@link Shipment}.
+ */
+public interface ShipmentBatchRepository {
+
+    /**
+     * Insert shipment rows using multi-row insert statements.
+     * Every row must already carry its ID. Rows whose tracking number already exists are skipped
+     * without failing the statement, so the caller can retry them with new tracking numbers.
+     *
+     * @param shipments the rows to insert
+     * @return a Mono emitting the number of inserted rows
+     */
+    Mono<Long> insertAll(List<Shipment> shipments);
+
+    /**
+     * Apply status changes with multi-row update statements.
+     * <p>
+     * A {@code SHIPPED} change sets the shipping date and a {@code DELIVERED} change sets the actual
+     * delivery date to {@code changedAt}, unless the date is already set. Each shipment may appear
+     * at most once in {@code changes}.
+     *
+     * @param changes the status changes to apply
+     * @param updatedAt the modification time to record
+     * @param updatedBy the ID of the user applying the changes
+     * @return a Flux of the updated shipments; shipments that no longer exist are absent
+     */
+    Flux<Shipment> updateStatuses(List<ShipmentStatusChange> changes, LocalDateTime updatedAt, UUID updatedBy);
+}
\ No newline at end of file
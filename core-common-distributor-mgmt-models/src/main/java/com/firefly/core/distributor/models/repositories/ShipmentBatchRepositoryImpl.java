@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.Shipment;
+import com.firefly.core.distributor.models.repositories.support.MultiRowInsert;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row statement implementation of {@link ShipmentBatchRepository}.
+ */
+public class ShipmentBatchRepositoryImpl implements ShipmentBatchRepository {
+
+    private static final MultiRowInsert<Shipment> INSERT =
+            MultiRowInsert.<Shipment>into("shipment")
+                    .column("id", UUID.class, Shipment::getId)
+                    .column("lending_contract_id", UUID.class, Shipment::getLendingContractId)
+                    .column("product_id", UUID.class, Shipment::getProductId)
+                    .column("tracking_number", String.class, Shipment::getTrackingNumber)
+                    .column("carrier", String.class, Shipment::getCarrier)
+                    .column("shipping_address", String.class, Shipment::getShippingAddress)
+                    .column("shipping_date", LocalDateTime.class, Shipment::getShippingDate)
+                    .column("estimated_delivery_date", LocalDateTime.class, Shipment::getEstimatedDeliveryDate)
+                    .column("actual_delivery_date", LocalDateTime.class, Shipment::getActualDeliveryDate)
+                    .column("status", String.class, Shipment::getStatus)
+                    .column("notes", String.class, Shipment::getNotes)
+                    .column("created_at", LocalDateTime.class, Shipment::getCreatedAt)
+                    .column("created_by", UUID.class, Shipment::getCreatedBy)
+                    .onConflict("ON CONFLICT (tracking_number) DO NOTHING");
+
+    /**
+     * Bind parameters per status change: shipment ID, status and change time.
+     */
+    private static final int STATUS_CHANGE_PARAMETERS = 3;
+
+    /**
+     * Status changes per update statement, within the PostgreSQL limit of 65535 bind parameters.
+     */
+    private static final int STATUS_CHANGES_PER_STATEMENT = (65535 - 2) / STATUS_CHANGE_PARAMETERS;
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final DatabaseClient databaseClient;
+
+    public ShipmentBatchRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+        this.databaseClient = entityTemplate.getDatabaseClient();
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<Shipment> shipments) {
+        return INSERT.execute(databaseClient, shipments);
+    }
+
+    @Override
+    public Flux<Shipment> updateStatuses(List<ShipmentStatusChange> changes, LocalDateTime updatedAt, UUID updatedBy) {
+        return Flux.range(0, (changes.size() + STATUS_CHANGES_PER_STATEMENT - 1) / STATUS_CHANGES_PER_STATEMENT)
+                .concatMap(chunk -> updateStatusChunk(changes.subList(chunk * STATUS_CHANGES_PER_STATEMENT,
+                        Math.min(changes.size(), (chunk + 1) * STATUS_CHANGES_PER_STATEMENT)), updatedAt, updatedBy));
+    }
+
+    private Flux<Shipment> updateStatusChunk(List<ShipmentStatusChange> changes, LocalDateTime updatedAt, UUID updatedBy) {
+        // In SET, s.* still refers to the row before the update
+        StringBuilder sql = new StringBuilder("UPDATE shipment AS s SET status = v.status, "
+                + "shipping_date = CASE WHEN v.status = 'SHIPPED' THEN COALESCE(s.shipping_date, v.changed_at) "
+                + "ELSE s.shipping_date END, "
+                + "actual_delivery_date = CASE WHEN v.status = 'DELIVERED' THEN COALESCE(s.actual_delivery_date, v.changed_at) "
+                + "ELSE s.actual_delivery_date END, "
+                + "updated_at = $1, updated_by = $2 FROM (VALUES ");
+        int parameter = 3;
+        for (int r = 0; r < changes.size(); r++) {
+            sql.append(r > 0 ? ", (" : "(")
+                    .append('$').append(parameter++).append("::uuid, ")
+                    .append('$').append(parameter++).append("::varchar, ")
+                    .append('$').append(parameter++).append("::timestamp)");
+        }
+        sql.append(") AS v(id, status, changed_at) WHERE s.id = v.id RETURNING s.*");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind(0, updatedAt);
+        spec = updatedBy != null ? spec.bind(1, updatedBy) : spec.bindNull(1, UUID.class);
+        int index = 2;
+        for (ShipmentStatusChange change : changes) {
+            spec = spec.bind(index++, change.getShipmentId())
+                    .bind(index++, change.getStatus())
+                    .bind(index++, change.getChangedAt());
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(Shipment.class, row, metadata))
+                .all();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.Shipment;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pagination queries for {@link Shipment}.
+ */
+public interface ShipmentKeysetRepository {
+
+    /**
+     * Find a page of shipments ordered newest first by creation date, then ID.
+     * Null filter values are ignored; a null cursor starts from the first page.
+     *
+     * @param status the status to filter by
+     * @param productId the product ID to filter by
+     * @param lendingContractId the lending contract ID to filter by
+     * @param afterCreatedAt the creation date of the last row of the previous page
+     * @param afterId the ID of the last row of the previous page
+     * @param limit the maximum number of rows
+     * @return a Flux of shipments
+     */
+    Flux<Shipment> findKeysetPage(String status, UUID productId, UUID lendingContractId,
+                                  LocalDateTime afterCreatedAt, UUID afterId, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.Shipment;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL implementation of {@link ShipmentKeysetRepository}.
+ * <p>
+ * The seek predicate is the row comparison {@code (created_at, id) < (:afterCreatedAt, :afterId)}, which
+ * Postgres turns into a start bound on the {@code (created_at, id)} indexes, so a deep page reads only its
+ * own rows instead of scanning past every newer one.
+ */
+public class ShipmentKeysetRepositoryImpl implements ShipmentKeysetRepository {
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public ShipmentKeysetRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    @Override
+    public Flux<Shipment> findKeysetPage(String status, UUID productId, UUID lendingContractId,
+                                         LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM shipment WHERE TRUE");
+        if (status != null) {
+            sql.append(" AND status = :status");
+            bindings.put("status", status);
+        }
+        if (productId != null) {
+            sql.append(" AND product_id = :productId");
+            bindings.put("productId", productId);
+        }
+        if (lendingContractId != null) {
+            sql.append(" AND lending_contract_id = :lendingContractId");
+            bindings.put("lendingContractId", lendingContractId);
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            sql.append(" AND (created_at, id) < (:afterCreatedAt, :afterId)");
+            bindings.put("afterCreatedAt", afterCreatedAt);
+            bindings.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT :limit");
+        bindings.put("limit", limit);
+
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(Shipment.class, row, metadata))
+                .all();
+    }
+}
\ No newline at end of file
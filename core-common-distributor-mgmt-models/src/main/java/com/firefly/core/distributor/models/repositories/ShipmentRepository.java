@@ -22,13 +22,15 @@ import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * Repository for managing Shipment entities.
  */
 @Repository
-public interface ShipmentRepository extends BaseRepository<Shipment, UUID> {
+public interface ShipmentRepository extends BaseRepository<Shipment, UUID>, ShipmentKeysetRepository, ShipmentBatchRepository {
 
     /**
      * Find all shipments by lending contract ID.
@@ -54,6 +56,14 @@ public interface ShipmentRepository extends BaseRepository<Shipment, UUID> {
      */
     Mono<Shipment> findByTrackingNumber(String trackingNumber);
 
+    /**
+     * Find all shipments with any of the given tracking numbers.
+     *
+     * @param trackingNumbers the tracking numbers
+     * @return a Flux of shipments
+     */
+    Flux<Shipment> findByTrackingNumberIn(Collection<String> trackingNumbers);
+
     /**
      * Find all shipments by status.
      *
@@ -114,4 +124,12 @@ public interface ShipmentRepository extends BaseRepository<Shipment, UUID> {
      */
     @Query("SELECT * FROM shipment WHERE actual_delivery_date >= :actualDeliveryDate")
     Flux<Shipment> findByActualDeliveryDateAfter(String actualDeliveryDate);
+
+    /**
+     * Find all shipments updated at or after a specific time, oldest update first.
+     *
+     * @param updatedAt the earliest update time
+     * @return a Flux of shipments
+     */
+    Flux<Shipment> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(LocalDateTime updatedAt);
 }
\ No newline at end of file
@@ -18,9 +18,13 @@
 package com.firefly.core.distributor.models.repositories;
 
 import com.firefly.core.distributor.models.entities.TermsAndConditionsTemplate;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -99,6 +103,42 @@ public interface TermsAndConditionsTemplateRepository extends BaseRepository<Ter
      */
     Mono<TermsAndConditionsTemplate> findByCategoryAndIsDefaultTrueAndIsActiveTrue(String category);
     
+    /**
+     * Take the transaction-scoped lock serializing default changes of a category, across every instance.
+     * It is released when the transaction ends, so it must be taken inside one.
+     *
+     * @param category the category
+     * @return a Mono emitting 1 once the lock is held
+     */
+    @Query("SELECT 1 FROM pg_advisory_xact_lock(hashtext('terms_and_conditions_template_default:' || :category))")
+    Mono<Integer> lockDefaultOfCategory(String category);
+
+    /**
+     * Clear the default flag of every template of a category except one.
+     *
+     * @param category the category
+     * @param id the ID of the template to keep
+     * @param updatedAt the modification timestamp
+     * @param updatedBy the ID of the user making the change
+     * @return a Mono emitting the number of templates cleared
+     */
+    @Modifying
+    @Query("UPDATE terms_and_conditions_template SET is_default = FALSE, updated_at = :updatedAt, updated_by = :updatedBy "
+            + "WHERE category = :category AND id <> :id AND is_default = TRUE")
+    Mono<Integer> clearDefaultsOfCategory(String category, UUID id, LocalDateTime updatedAt, UUID updatedBy);
+
+    /**
+     * Flag a template as the default of its category.
+     *
+     * @param id the template ID
+     * @param updatedAt the modification timestamp
+     * @param updatedBy the ID of the user making the change
+     * @return a Mono containing the updated template, or empty if it does not exist
+     */
+    @Query("UPDATE terms_and_conditions_template SET is_default = TRUE, updated_at = :updatedAt, updated_by = :updatedBy "
+            + "WHERE id = :id RETURNING *")
+    Mono<TermsAndConditionsTemplate> markAsDefault(UUID id, LocalDateTime updatedAt, UUID updatedBy);
+    
     /**
      * Find templates that require approval.
      *
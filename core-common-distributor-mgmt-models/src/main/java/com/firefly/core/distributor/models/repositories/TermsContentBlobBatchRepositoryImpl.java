@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.TermsContentBlob;
+import com.firefly.core.distributor.models.repositories.support.MultiRowInsert;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Multi-row insert implementation of {@link TermsContentBlobBatchRepository}.
+ */
+public class TermsContentBlobBatchRepositoryImpl implements TermsContentBlobBatchRepository {
+
+    private static final MultiRowInsert<TermsContentBlob> INSERT =
+            MultiRowInsert.<TermsContentBlob>into("terms_content_blob")
+                    .column("content_hash", String.class, TermsContentBlob::getContentHash)
+                    .column("compression", String.class, TermsContentBlob::getCompression)
+                    .column("content", byte[].class, TermsContentBlob::getContent)
+                    .column("content_size", Integer.class, TermsContentBlob::getContentSize)
+                    .column("created_at", LocalDateTime.class, TermsContentBlob::getCreatedAt)
+                    .onConflict("ON CONFLICT (content_hash) DO NOTHING");
+
+    private final DatabaseClient databaseClient;
+
+    public TermsContentBlobBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertAllIfAbsent(List<TermsContentBlob> blobs) {
+        return INSERT.execute(databaseClient, blobs);
+    }
+}
\ No newline at end of file
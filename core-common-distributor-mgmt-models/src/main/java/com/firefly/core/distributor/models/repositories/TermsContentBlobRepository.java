@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.TermsContentBlob;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link TermsContentBlob} entities.
+ * Blobs are immutable once written; new content is inserted through {@link TermsContentBlobBatchRepository}.
+ */
+@Repository
+public interface TermsContentBlobRepository extends BaseRepository<TermsContentBlob, String>, TermsContentBlobBatchRepository {
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.TermsRenewalCheckpoint;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repository interface for managing {@link TermsRenewalCheckpoint} entities.
+ */
+@Repository
+public interface TermsRenewalCheckpointRepository extends BaseRepository<TermsRenewalCheckpoint, String> {
+
+    /**
+     * Insert or replace the checkpoint of a renewal job.
+     * <p>
+     * The job name is an assigned key, so {@code save} cannot tell a new checkpoint from an existing one.
+     *
+     * @param checkpoint the checkpoint to store
+     * @return a Mono emitting the number of affected rows
+     */
+    @Modifying
+    @Query("INSERT INTO terms_renewal_checkpoint (job_name, status, threshold, cursor_expiration_date, cursor_id, "
+            + "scanned_count, renewed_count, started_at, updated_at) "
+            + "VALUES (:#{#checkpoint.jobName}, :#{#checkpoint.status}, :#{#checkpoint.threshold}, "
+            + ":#{#checkpoint.cursorExpirationDate}, :#{#checkpoint.cursorId}, :#{#checkpoint.scannedCount}, "
+            + ":#{#checkpoint.renewedCount}, :#{#checkpoint.startedAt}, :#{#checkpoint.updatedAt}) "
+            + "ON CONFLICT (job_name) DO UPDATE SET status = EXCLUDED.status, threshold = EXCLUDED.threshold, "
+            + "cursor_expiration_date = EXCLUDED.cursor_expiration_date, cursor_id = EXCLUDED.cursor_id, "
+            + "scanned_count = EXCLUDED.scanned_count, renewed_count = EXCLUDED.renewed_count, "
+            + "started_at = EXCLUDED.started_at, updated_at = EXCLUDED.updated_at")
+    Mono<Integer> upsert(TermsRenewalCheckpoint checkpoint);
+
+    /**
+     * Try to take the transaction-scoped advisory lock of a renewal job.
+     * <p>
+     * The lock is held until the surrounding transaction ends, so only one instance works on the job's
+     * checkpoint at a time.
+     *
+     * @param jobName the job name
+     * @return a Mono emitting true if the lock was taken, or false if another transaction holds it
+     */
+    @Query("SELECT pg_try_advisory_xact_lock(hashtext(:jobName))")
+    Mono<Boolean> tryLock(String jobName);
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories.support;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builder for multi-row {@code INSERT ... VALUES (...), (...)} statements.
+ * <p>
+ * Rows are written with as few statements as the PostgreSQL bind parameter limit allows,
+ * instead of one round trip per entity as with {@code saveAll}.
+ *
+ * @param <T> the row type
+ */
+public final class MultiRowInsert<T> {
+
+    /**
+     * Maximum number of bind parameters PostgreSQL accepts in a single statement.
+     */
+    private static final int MAX_BIND_PARAMETERS = 65535;
+
+    private final String table;
+    private final List<ColumnBinding<T>> columns = new ArrayList<>();
+    private String suffix = "";
+
+    private MultiRowInsert(String table) {
+        this.table = table;
+    }
+
+    /**
+     * Start building an insert into the given table.
+     *
+     * @param table the table name
+     * @param <T> the row type
+     * @return the builder
+     */
+    public static <T> MultiRowInsert<T> into(String table) {
+        return new MultiRowInsert<>(table);
+    }
+
+    /**
+     * Add a column to the insert.
+     *
+     * @param name the column name
+     * @param type the Java type of the column, used to bind null values
+     * @param extractor reads the column value from a row
+     * @return this builder
+     */
+    public MultiRowInsert<T> column(String name, Class<?> type, Function<T, ?> extractor) {
+        columns.add(new ColumnBinding<>(name, type, extractor));
+        return this;
+    }
+
+    /**
+     * Append a clause after the {@code VALUES} list, e.g. {@code ON CONFLICT DO NOTHING}.
+     *
+     * @param clause the SQL clause
+     * @return this builder
+     */
+    public MultiRowInsert<T> onConflict(String clause) {
+        this.suffix = " " + clause;
+        return this;
+    }
+
+    /**
+     * Insert the given rows.
+     *
+     * @param databaseClient the client to execute with
+     * @param rows the rows to insert
+     * @return a Mono emitting the number of inserted rows
+     */
+    public Mono<Long> execute(DatabaseClient databaseClient, List<T> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        int rowsPerStatement = Math.max(1, MAX_BIND_PARAMETERS / columns.size());
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            chunks.add(rows.subList(from, Math.min(rows.size(), from + rowsPerStatement)));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> executeChunk(databaseClient, chunk))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> executeChunk(DatabaseClient databaseClient, List<T> rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            sql.append(c > 0 ? ", " : "").append(columns.get(c).name());
+        }
+        sql.append(") VALUES ");
+
+        int parameter = 1;
+        for (int r = 0; r < rows.size(); r++) {
+            sql.append(r > 0 ? ", (" : "(");
+            for (int c = 0; c < columns.size(); c++) {
+                sql.append(c > 0 ? ", $" : "$").append(parameter++);
+            }
+            sql.append(')');
+        }
+        sql.append(suffix);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        int index = 0;
+        for (T row : rows) {
+            for (ColumnBinding<T> column : columns) {
+                Object value = column.extractor().apply(row);
+                spec = value != null ? spec.bind(index, value) : spec.bindNull(index, column.type());
+                index++;
+            }
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private record ColumnBinding<T>(String name, Class<?> type, Function<T, ?> extractor) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+-- Migration V28: Support batch auto-renewal of expiring terms and conditions
+
+-- Create terms_renewal_checkpoint table
+-- Stores the keyset cursor of the renewal job so an interrupted run resumes where it stopped
+CREATE TABLE IF NOT EXISTS terms_renewal_checkpoint (
+    job_name VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL, -- RUNNING, COMPLETED
+    threshold TIMESTAMP NOT NULL,
+    cursor_expiration_date TIMESTAMP,
+    cursor_id UUID,
+    scanned_count BIGINT NOT NULL DEFAULT 0,
+    renewed_count BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Index backing the keyset scan over active terms ordered by (expiration_date, id)
+CREATE INDEX IF NOT EXISTS idx_distributor_terms_active_expiration
+    ON distributor_terms_and_conditions(expiration_date, id)
+    WHERE is_active = TRUE;
@@ -0,0 +1,38 @@
+-- Migration V29: Content-addressed storage for distributor terms and conditions content
+-- Identical rendered documents are stored once and referenced by hash
+
+-- Create terms_content_blob table
+CREATE TABLE IF NOT EXISTS terms_content_blob (
+    content_hash VARCHAR(64) PRIMARY KEY, -- SHA-256 of the UTF-8 content, hex encoded
+    compression VARCHAR(10) NOT NULL, -- NONE, GZIP
+    content BYTEA NOT NULL,
+    content_size INTEGER NOT NULL, -- Uncompressed size in bytes
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Reference stored content from distributor_terms_and_conditions
+ALTER TABLE distributor_terms_and_conditions ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE distributor_terms_and_conditions ALTER COLUMN content DROP NOT NULL;
+
+-- Move existing content into the store (uncompressed; new content is compressed by the application)
+INSERT INTO terms_content_blob (content_hash, compression, content, content_size)
+SELECT DISTINCT encode(sha256(convert_to(content, 'UTF8')), 'hex'), 'NONE', convert_to(content, 'UTF8'), octet_length(content)
+FROM distributor_terms_and_conditions
+WHERE content IS NOT NULL
+ON CONFLICT (content_hash) DO NOTHING;
+
+UPDATE distributor_terms_and_conditions
+SET content_hash = encode(sha256(convert_to(content, 'UTF8')), 'hex'),
+    content = NULL
+WHERE content IS NOT NULL;
+
+ALTER TABLE distributor_terms_and_conditions
+    ADD CONSTRAINT fk_distributor_terms_content
+        FOREIGN KEY (content_hash)
+        REFERENCES terms_content_blob (content_hash);
+
+ALTER TABLE distributor_terms_and_conditions
+    ADD CONSTRAINT chk_distributor_terms_content
+        CHECK (content IS NOT NULL OR content_hash IS NOT NULL);
+
+CREATE INDEX IF NOT EXISTS idx_distributor_terms_content_hash ON distributor_terms_and_conditions(content_hash);
@@ -0,0 +1,21 @@
+-- Migration V30: Enforce at most one active default terms and conditions template per category
+
+-- Resolve existing duplicates, keeping the most recently modified default in each category
+UPDATE terms_and_conditions_template t
+SET is_default = FALSE
+WHERE t.is_default = TRUE
+  AND t.is_active = TRUE
+  AND EXISTS (
+      SELECT 1
+      FROM terms_and_conditions_template other
+      WHERE other.category = t.category
+        AND other.is_default = TRUE
+        AND other.is_active = TRUE
+        AND (COALESCE(other.updated_at, other.created_at), other.id)
+            > (COALESCE(t.updated_at, t.created_at), t.id)
+  );
+
+-- Partial unique index guaranteeing a single active default per category under concurrent updates
+CREATE UNIQUE INDEX IF NOT EXISTS uq_terms_template_default_category
+    ON terms_and_conditions_template(category)
+    WHERE is_default = TRUE AND is_active = TRUE;
@@ -0,0 +1,9 @@
+-- Migration V31: Support keyset pagination of shipments
+
+-- Index backing the newest-first keyset scan over all shipments
+CREATE INDEX IF NOT EXISTS idx_shipment_created_at_id
+    ON shipment(created_at DESC, id DESC);
+
+-- Index backing the keyset scan of shipments filtered by status
+CREATE INDEX IF NOT EXISTS idx_shipment_status_created_at_id
+    ON shipment(status, created_at DESC, id DESC);
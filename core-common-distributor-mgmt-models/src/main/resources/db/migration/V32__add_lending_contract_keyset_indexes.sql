@@ -0,0 +1,15 @@
+-- Migration V32: Support keyset pagination of lending contracts
+
+-- Index backing the newest-first keyset scan over all lending contracts
+CREATE INDEX IF NOT EXISTS idx_lending_contract_created_at_id
+    ON lending_contract(created_at DESC, id DESC);
+
+-- Indexes backing the keyset scan of lending contracts filtered by the most selective criteria
+CREATE INDEX IF NOT EXISTS idx_lending_contract_distributor_created_at_id
+    ON lending_contract(distributor_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_lending_contract_party_created_at_id
+    ON lending_contract(party_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_lending_contract_status_created_at_id
+    ON lending_contract(status, created_at DESC, id DESC);
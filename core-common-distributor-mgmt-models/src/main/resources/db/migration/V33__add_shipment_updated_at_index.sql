@@ -0,0 +1,3 @@
+-- Migration V33: Support catch-up of shipment status change streams
+
+CREATE INDEX IF NOT EXISTS idx_shipment_updated_at ON shipment(updated_at);
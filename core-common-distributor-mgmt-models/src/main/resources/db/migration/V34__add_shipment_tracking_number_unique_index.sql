@@ -0,0 +1,15 @@
+-- Migration V34: Make shipment tracking numbers unique
+
+-- Keep the oldest shipment of each duplicated tracking number and suffix the others
+UPDATE shipment s
+SET tracking_number = s.tracking_number || '-' || d.duplicate_number
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY tracking_number ORDER BY created_at, id) - 1 AS duplicate_number
+    FROM shipment
+    WHERE tracking_number IS NOT NULL
+) d
+WHERE s.id = d.id AND d.duplicate_number > 0;
+
+DROP INDEX IF EXISTS idx_shipment_tracking_number;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_shipment_tracking_number ON shipment(tracking_number);
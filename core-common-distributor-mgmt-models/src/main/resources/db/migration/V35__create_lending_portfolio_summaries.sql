@@ -0,0 +1,91 @@
+-- Migration V35: Incrementally maintained lending portfolio aggregates per distributor
+
+-- Contract counts and amounts per distributor and status
+CREATE TABLE IF NOT EXISTS lending_portfolio_status_summary (
+    distributor_id UUID NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    contract_count BIGINT NOT NULL DEFAULT 0,
+    total_amount NUMERIC(19,2) NOT NULL DEFAULT 0,
+    down_payment NUMERIC(19,2) NOT NULL DEFAULT 0,
+    monthly_payment NUMERIC(19,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (distributor_id, status)
+);
+
+-- Approved contracts per distributor and month of approval
+CREATE TABLE IF NOT EXISTS lending_portfolio_approval_summary (
+    distributor_id UUID NOT NULL,
+    approval_month DATE NOT NULL,
+    approval_count BIGINT NOT NULL DEFAULT 0,
+    total_amount NUMERIC(19,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (distributor_id, approval_month)
+);
+
+-- Applies the rows changed by one statement as signed deltas, so a bulk update touches each summary row once
+CREATE OR REPLACE FUNCTION maintain_lending_portfolio_summaries() RETURNS trigger AS $$
+DECLARE
+    delta TEXT;
+BEGIN
+    -- Transition tables exist only for the operations their trigger declares them on
+    IF TG_OP = 'INSERT' THEN
+        delta := 'SELECT *, 1 AS sign FROM new_rows';
+    ELSIF TG_OP = 'DELETE' THEN
+        delta := 'SELECT *, -1 AS sign FROM old_rows';
+    ELSE
+        delta := 'SELECT *, 1 AS sign FROM new_rows UNION ALL SELECT *, -1 AS sign FROM old_rows';
+    END IF;
+
+    EXECUTE format(
+        'INSERT INTO lending_portfolio_status_summary AS s '
+        || '(distributor_id, status, contract_count, total_amount, down_payment, monthly_payment) '
+        || 'SELECT distributor_id, status, SUM(sign), SUM(sign * total_amount), SUM(sign * down_payment), '
+        || 'SUM(sign * monthly_payment) FROM (%s) d GROUP BY distributor_id, status '
+        || 'HAVING SUM(sign) <> 0 OR SUM(sign * total_amount) <> 0 OR SUM(sign * down_payment) <> 0 '
+        || 'OR SUM(sign * monthly_payment) <> 0 '
+        || 'ON CONFLICT (distributor_id, status) DO UPDATE SET '
+        || 'contract_count = s.contract_count + EXCLUDED.contract_count, '
+        || 'total_amount = s.total_amount + EXCLUDED.total_amount, '
+        || 'down_payment = s.down_payment + EXCLUDED.down_payment, '
+        || 'monthly_payment = s.monthly_payment + EXCLUDED.monthly_payment', delta);
+
+    EXECUTE format(
+        'INSERT INTO lending_portfolio_approval_summary AS s '
+        || '(distributor_id, approval_month, approval_count, total_amount) '
+        || 'SELECT distributor_id, date_trunc(''month'', approval_date)::date, SUM(sign), SUM(sign * total_amount) '
+        || 'FROM (%s) d WHERE approval_date IS NOT NULL '
+        || 'GROUP BY distributor_id, date_trunc(''month'', approval_date)::date '
+        || 'HAVING SUM(sign) <> 0 OR SUM(sign * total_amount) <> 0 '
+        || 'ON CONFLICT (distributor_id, approval_month) DO UPDATE SET '
+        || 'approval_count = s.approval_count + EXCLUDED.approval_count, '
+        || 'total_amount = s.total_amount + EXCLUDED.total_amount', delta);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_lending_portfolio_summaries_insert
+    AFTER INSERT ON lending_contract
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION maintain_lending_portfolio_summaries();
+
+CREATE TRIGGER trg_lending_portfolio_summaries_update
+    AFTER UPDATE ON lending_contract
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION maintain_lending_portfolio_summaries();
+
+CREATE TRIGGER trg_lending_portfolio_summaries_delete
+    AFTER DELETE ON lending_contract
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION maintain_lending_portfolio_summaries();
+
+-- Backfill from the existing contracts
+INSERT INTO lending_portfolio_status_summary
+    (distributor_id, status, contract_count, total_amount, down_payment, monthly_payment)
+SELECT distributor_id, status, COUNT(*), SUM(total_amount), SUM(down_payment), SUM(monthly_payment)
+FROM lending_contract
+GROUP BY distributor_id, status;
+
+INSERT INTO lending_portfolio_approval_summary (distributor_id, approval_month, approval_count, total_amount)
+SELECT distributor_id, date_trunc('month', approval_date)::date, COUNT(*), SUM(total_amount)
+FROM lending_contract
+WHERE approval_date IS NOT NULL
+GROUP BY distributor_id, date_trunc('month', approval_date)::date;
@@ -0,0 +1,4 @@
+-- Migration V36: Keep audit log entries independent of the distributor row
+
+-- Audit entries must outlive the distributor they describe, including the entry recording its deletion
+ALTER TABLE distributor_audit_log DROP CONSTRAINT IF EXISTS fk_distributor_audit_log_distributor;
@@ -0,0 +1,146 @@
+-- Migration V37: Partition distributor_audit_log by month of audit_timestamp, with daily rollups
+
+-- Keep the existing rows aside while the partitioned table is created
+ALTER TABLE distributor_audit_log RENAME TO distributor_audit_log_unpartitioned;
+ALTER INDEX IF EXISTS distributor_audit_log_pkey RENAME TO distributor_audit_log_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_distributor_audit_log_distributor_id;
+DROP INDEX IF EXISTS idx_distributor_audit_log_entity_id;
+DROP INDEX IF EXISTS idx_distributor_audit_log_timestamp;
+
+-- Partitioned table; the partition key must be part of the primary key
+CREATE TABLE distributor_audit_log (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    distributor_id UUID NOT NULL,
+    action distributor_action_enum NOT NULL,
+    entity VARCHAR(50) NOT NULL,
+    entity_id VARCHAR(50) NOT NULL,
+    audit_metadata TEXT,
+    ip_address VARCHAR(45),
+    user_id UUID,
+    audit_timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, audit_timestamp)
+) PARTITION BY RANGE (audit_timestamp);
+
+-- Catches rows outside every monthly partition so inserts never fail
+CREATE TABLE distributor_audit_log_default PARTITION OF distributor_audit_log DEFAULT;
+
+-- Indexes are created on every partition
+CREATE INDEX idx_distributor_audit_log_distributor_id_timestamp ON distributor_audit_log(distributor_id, audit_timestamp);
+CREATE INDEX idx_distributor_audit_log_timestamp ON distributor_audit_log(audit_timestamp);
+CREATE INDEX idx_distributor_audit_log_entity_id ON distributor_audit_log(entity_id);
+
+-- Entry counts per distributor, day and action; kept when partitions are dropped
+CREATE TABLE IF NOT EXISTS distributor_audit_log_daily_rollup (
+    distributor_id UUID NOT NULL,
+    audit_date DATE NOT NULL,
+    action distributor_action_enum NOT NULL,
+    entry_count BIGINT NOT NULL,
+    PRIMARY KEY (distributor_id, audit_date, action)
+);
+
+-- Create the partition of the month containing p_month, named distributor_audit_log_yYYYYmMM.
+-- Rows of that month already in the default partition are moved into it. Returns false if it exists.
+CREATE OR REPLACE FUNCTION create_distributor_audit_log_partition(p_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::DATE;
+    v_to DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'distributor_audit_log_' || to_char(date_trunc('month', p_month), '"y"YYYY"m"MM');
+BEGIN
+    -- Serializes maintenance runs of several instances
+    PERFORM pg_advisory_xact_lock(hashtext('distributor_audit_log_partitions'));
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE distributor_audit_log INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM distributor_audit_log_default '
+        'WHERE audit_timestamp >= %L AND audit_timestamp < %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved',
+        v_from, v_to, v_name);
+    EXECUTE format('ALTER TABLE distributor_audit_log ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_from, v_to);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Create the partitions of every month from p_from to p_to inclusive. Returns the number created.
+CREATE OR REPLACE FUNCTION create_distributor_audit_log_partitions(p_from DATE, p_to DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    v_month DATE := date_trunc('month', p_from)::DATE;
+    v_created INTEGER := 0;
+BEGIN
+    WHILE v_month <= p_to LOOP
+        IF create_distributor_audit_log_partition(v_month) THEN
+            v_created := v_created + 1;
+        END IF;
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Recompute the daily rollups of the days from p_from inclusive to p_to exclusive. Returns the rows written.
+CREATE OR REPLACE FUNCTION refresh_distributor_audit_log_daily_rollup(p_from DATE, p_to DATE)
+RETURNS BIGINT AS $$
+DECLARE
+    v_rows BIGINT;
+BEGIN
+    DELETE FROM distributor_audit_log_daily_rollup
+    WHERE audit_date >= p_from AND audit_date < p_to;
+
+    INSERT INTO distributor_audit_log_daily_rollup (distributor_id, audit_date, action, entry_count)
+    SELECT distributor_id, audit_timestamp::DATE, action, count(*)
+    FROM distributor_audit_log
+    WHERE audit_timestamp >= p_from AND audit_timestamp < p_to
+    GROUP BY distributor_id, audit_timestamp::DATE, action;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drop the monthly partitions that end on or before p_before, refreshing their rollups first.
+-- Returns the number dropped.
+CREATE OR REPLACE FUNCTION drop_distributor_audit_log_partitions(p_before DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    v_partition RECORD;
+    v_dropped INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('distributor_audit_log_partitions'));
+    FOR v_partition IN
+        SELECT c.relname AS name, to_date(right(c.relname, 7), 'YYYY"m"MM') AS month
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'distributor_audit_log'::regclass
+          AND c.relname ~ '^distributor_audit_log_y[0-9]{4}m[0-9]{2}$'
+        ORDER BY 2
+    LOOP
+        EXIT WHEN (v_partition.month + INTERVAL '1 month')::DATE > p_before;
+        PERFORM refresh_distributor_audit_log_daily_rollup(
+            v_partition.month, (v_partition.month + INTERVAL '1 month')::DATE);
+        EXECUTE format('DROP TABLE %I', v_partition.name);
+        v_dropped := v_dropped + 1;
+    END LOOP;
+    RETURN v_dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Create partitions for the existing rows and the next three months, then move the rows across
+SELECT create_distributor_audit_log_partitions(
+    COALESCE((SELECT min(audit_timestamp)::DATE FROM distributor_audit_log_unpartitioned), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO distributor_audit_log (id, distributor_id, action, entity, entity_id, audit_metadata, ip_address, user_id, audit_timestamp)
+SELECT id, distributor_id, action, entity, entity_id, audit_metadata, ip_address, user_id, audit_timestamp
+FROM distributor_audit_log_unpartitioned;
+
+-- Backfill the rollups of the existing rows
+SELECT refresh_distributor_audit_log_daily_rollup(
+    COALESCE((SELECT min(audit_timestamp)::DATE FROM distributor_audit_log_unpartitioned), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '1 day')::DATE);
+
+DROP TABLE distributor_audit_log_unpartitioned;
@@ -0,0 +1,20 @@
+-- Migration V38: Store distributor audit log metadata as JSONB with a GIN index
+
+-- Converts metadata text to JSONB, keeping text that is not valid JSON as a JSON string
+CREATE OR REPLACE FUNCTION distributor_audit_metadata_to_jsonb(p_metadata TEXT)
+RETURNS JSONB AS $$
+BEGIN
+    RETURN p_metadata::JSONB;
+EXCEPTION WHEN invalid_text_representation THEN
+    RETURN to_jsonb(p_metadata);
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Alter audit_metadata column type from TEXT to JSONB on every partition
+ALTER TABLE distributor_audit_log
+    ALTER COLUMN audit_metadata TYPE JSONB USING distributor_audit_metadata_to_jsonb(audit_metadata);
+
+DROP FUNCTION distributor_audit_metadata_to_jsonb(TEXT);
+
+-- Serves containment (@>) and JSON path (@?, @@) predicates on the metadata
+CREATE INDEX IF NOT EXISTS idx_distributor_audit_log_metadata ON distributor_audit_log USING GIN (audit_metadata jsonb_path_ops);
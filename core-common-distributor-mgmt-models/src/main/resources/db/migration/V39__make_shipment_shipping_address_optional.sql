@@ -0,0 +1,5 @@
+-- Migration V39: Allow shipments to be created before their shipping address is known
+
+-- Shipments created when a lending contract is approved carry no address; the party's delivery details are
+-- held outside this service and are added when the shipment is dispatched
+ALTER TABLE shipment ALTER COLUMN shipping_address DROP NOT NULL;
@@ -0,0 +1,24 @@
+-- Migration V40: Serialize daily rollup refreshes with partition maintenance
+
+-- Recompute the daily rollups of the days from p_from inclusive to p_to exclusive. Returns the rows written.
+-- Takes the partition maintenance lock, so concurrent refreshes of overlapping days, or a refresh racing a
+-- partition drop, cannot both insert the same rollup keys
+CREATE OR REPLACE FUNCTION refresh_distributor_audit_log_daily_rollup(p_from DATE, p_to DATE)
+RETURNS BIGINT AS $$
+DECLARE
+    v_rows BIGINT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('distributor_audit_log_partitions'));
+    DELETE FROM distributor_audit_log_daily_rollup
+    WHERE audit_date >= p_from AND audit_date < p_to;
+
+    INSERT INTO distributor_audit_log_daily_rollup (distributor_id, audit_date, action, entry_count)
+    SELECT distributor_id, audit_timestamp::DATE, action, count(*)
+    FROM distributor_audit_log
+    WHERE audit_timestamp >= p_from AND audit_timestamp < p_to
+    GROUP BY distributor_id, audit_timestamp::DATE, action;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
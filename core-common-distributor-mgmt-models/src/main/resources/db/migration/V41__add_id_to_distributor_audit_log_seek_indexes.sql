@@ -0,0 +1,9 @@
+-- Migration V41: Add id to the distributor_audit_log indexes serving the (audit_timestamp, id) seek
+
+-- Replaces idx_distributor_audit_log_distributor_id_timestamp; with id the seek bounds the scan within a timestamp
+CREATE INDEX IF NOT EXISTS idx_distributor_audit_log_distributor_id_timestamp_id ON distributor_audit_log(distributor_id, audit_timestamp, id);
+DROP INDEX IF EXISTS idx_distributor_audit_log_distributor_id_timestamp;
+
+-- Replaces idx_distributor_audit_log_timestamp for pages and exports across distributors
+CREATE INDEX IF NOT EXISTS idx_distributor_audit_log_timestamp_id ON distributor_audit_log(audit_timestamp, id);
+DROP INDEX IF EXISTS idx_distributor_audit_log_timestamp;
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.DistributorAuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class DistributorAuditLogKeysetRepositoryImplTest {
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec spec;
+    private DistributorAuditLogKeysetRepositoryImpl repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        R2dbcEntityTemplate entityTemplate = mock(R2dbcEntityTemplate.class);
+        databaseClient = mock(DatabaseClient.class);
+        spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<DistributorAuditLog> rows = mock(RowsFetchSpec.class);
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.empty());
+
+        repository = new DistributorAuditLogKeysetRepositoryImpl(entityTemplate);
+    }
+
+    @Test
+    void findKeysetPage_WithPosition_ShouldSeekWithRowComparison() {
+        // Arrange
+        UUID distributorId = UUID.randomUUID();
+        LocalDateTime afterTimestamp = LocalDateTime.of(2026, 3, 1, 12, 0);
+        UUID afterId = UUID.randomUUID();
+        DistributorAuditLogSearchCriteria criteria = DistributorAuditLogSearchCriteria.builder()
+                .distributorId(distributorId)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(repository.findKeysetPage(criteria, afterTimestamp, afterId, 501))
+                .verifyComplete();
+
+        // Verify
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().contains("distributor_id = :distributorId"), sql.getValue());
+        assertTrue(sql.getValue().contains("(audit_timestamp, id) < (:afterTimestamp, :afterId)"), sql.getValue());
+        assertFalse(sql.getValue().contains(" OR "), sql.getValue());
+        assertTrue(sql.getValue().endsWith("ORDER BY audit_timestamp DESC, id DESC LIMIT :limit"), sql.getValue());
+        verify(spec).bind("distributorId", distributorId);
+        verify(spec).bind("afterTimestamp", afterTimestamp);
+        verify(spec).bind("afterId", afterId);
+        verify(spec).bind("limit", 501);
+    }
+}
\ No newline at end of file
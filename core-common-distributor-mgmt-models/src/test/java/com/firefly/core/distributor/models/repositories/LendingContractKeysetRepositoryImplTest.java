@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories;
+
+import com.firefly.core.distributor.models.entities.LendingContract;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class LendingContractKeysetRepositoryImplTest {
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec spec;
+    private LendingContractKeysetRepositoryImpl repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        R2dbcEntityTemplate entityTemplate = mock(R2dbcEntityTemplate.class);
+        databaseClient = mock(DatabaseClient.class);
+        spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<LendingContract> rows = mock(RowsFetchSpec.class);
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.empty());
+
+        repository = new LendingContractKeysetRepositoryImpl(entityTemplate);
+    }
+
+    @Test
+    void findKeysetPage_WithPosition_ShouldSeekPastLastRowNewestFirst() {
+        // Arrange
+        LocalDateTime afterCreatedAt = LocalDateTime.of(2026, 3, 1, 12, 0);
+        UUID afterId = UUID.randomUUID();
+        LendingContractSearchCriteria criteria = LendingContractSearchCriteria.builder()
+                .status("APPROVED")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(repository.findKeysetPage(criteria, afterCreatedAt, afterId, 51))
+                .verifyComplete();
+
+        // Verify
+        String sql = capturedSql();
+        assertTrue(sql.contains("status = :status"), sql);
+        assertTrue(sql.contains("(created_at, id) < (:afterCreatedAt, :afterId)"), sql);
+        assertFalse(sql.contains(" OR "), sql);
+        assertTrue(sql.endsWith("ORDER BY created_at DESC, id DESC LIMIT :limit"), sql);
+        verify(spec).bind("status", "APPROVED");
+        verify(spec).bind("afterCreatedAt", afterCreatedAt);
+        verify(spec).bind("afterId", afterId);
+        verify(spec).bind("limit", 51);
+    }
+
+    @Test
+    void findKeysetPage_WithoutPosition_ShouldStartFromNewestRow() {
+        // Act & Assert
+        StepVerifier.create(repository.findKeysetPage(new LendingContractSearchCriteria(), null, null, 11))
+                .verifyComplete();
+
+        // Verify
+        assertEquals("SELECT * FROM lending_contract WHERE TRUE ORDER BY created_at DESC, id DESC LIMIT :limit",
+                capturedSql());
+        verify(spec, times(1)).bind(anyString(), any());
+        verify(spec).bind("limit", 11);
+    }
+
+    private String capturedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        return sql.getValue();
+    }
+}
\ No newline at end of file
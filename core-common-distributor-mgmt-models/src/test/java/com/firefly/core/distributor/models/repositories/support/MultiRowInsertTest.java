@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.distributor.models.repositories.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class MultiRowInsertTest {
+
+    private DatabaseClient databaseClient;
+    private List<String> statements;
+    private List<List<Object>> binds;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        statements = new ArrayList<>();
+        binds = new ArrayList<>();
+
+        // Each statement records its SQL and bind values, and reports one updated row per VALUES tuple
+        when(databaseClient.sql(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object> statementBinds = new ArrayList<>();
+            statements.add(sql);
+            binds.add(statementBinds);
+
+            DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+            when(spec.bind(anyInt(), any())).thenAnswer(bind -> {
+                statementBinds.add(bind.getArgument(1));
+                return spec;
+            });
+            when(spec.bindNull(anyInt(), any(Class.class))).thenAnswer(bind -> {
+                statementBinds.add(bind.<Class<?>>getArgument(1));
+                return spec;
+            });
+            FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+            when(fetchSpec.rowsUpdated()).thenReturn(Mono.just((long) sql.split("\\(\\$").length - 1));
+            when(spec.fetch()).thenReturn(fetchSpec);
+            return spec;
+        });
+    }
+
+    @Test
+    void execute_ShouldBindRowsInColumnOrder() {
+        // Arrange
+        MultiRowInsert<Row> insert = MultiRowInsert.<Row>into("sample")
+                .column("name", String.class, Row::name)
+                .column("amount", Integer.class, Row::amount)
+                .onConflict("ON CONFLICT DO NOTHING");
+
+        // Act & Assert
+        StepVerifier.create(insert.execute(databaseClient, List.of(new Row("a", 1), new Row("b", 2))))
+                .expectNext(2L)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(List.of("INSERT INTO sample (name, amount) VALUES ($1, $2), ($3, $4) ON CONFLICT DO NOTHING"), statements);
+        assertEquals(List.of(List.of("a", 1, "b", 2)), binds);
+    }
+
+    @Test
+    void execute_WhenValueIsNull_ShouldBindNullWithColumnType() {
+        // Arrange
+        MultiRowInsert<Row> insert = MultiRowInsert.<Row>into("sample")
+                .column("name", String.class, Row::name)
+                .column("amount", Integer.class, Row::amount);
+
+        // Act & Assert
+        StepVerifier.create(insert.execute(databaseClient, List.of(new Row(null, null))))
+                .expectNext(1L)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(List.of(List.of(String.class, Integer.class)), binds);
+    }
+
+    @Test
+    void execute_WhenRowsExceedParameterLimit_ShouldSplitIntoStatements() {
+        // Arrange
+        MultiRowInsert<Row> insert = MultiRowInsert.<Row>into("sample")
+                .column("name", String.class, Row::name)
+                .column("amount", Integer.class, Row::amount);
+        // Two columns fit 32767 rows in the 65535 bind parameters of one statement
+        List<Row> rows = IntStream.range(0, 32768)
+                .mapToObj(i -> new Row("row-" + i, i))
+                .toList();
+
+        // Act & Assert
+        StepVerifier.create(insert.execute(databaseClient, rows))
+                .expectNext(32768L)
+                .verifyComplete();
+
+        // Verify
+        assertEquals(2, statements.size());
+        assertEquals(65534, binds.get(0).size());
+        assertEquals(List.of("row-32767", 32767), binds.get(1));
+        assertTrue(statements.get(1).endsWith("VALUES ($1, $2)"));
+    }
+
+    @Test
+    void execute_WhenNoRows_ShouldNotRunStatement() {
+        // Arrange
+        MultiRowInsert<Row> insert = MultiRowInsert.<Row>into("sample")
+                .column("name", String.class, Row::name);
+
+        // Act & Assert
+        StepVerifier.create(insert.execute(databaseClient, List.of()))
+                .expectNext(0L)
+                .verifyComplete();
+
+        // Verify
+        verify(databaseClient, never()).sql(anyString());
+    }
+
+    private record Row(String name, Integer amount) {
+    }
+}
\ No newline at end of file
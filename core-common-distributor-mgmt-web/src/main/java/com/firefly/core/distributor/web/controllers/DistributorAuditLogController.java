@@ -19,8 +19,11 @@ package com.firefly.core.distributor.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.core.audit.AuditLogCsv;
 import com.firefly.core.distributor.core.services.DistributorAuditLogService;
 import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogDTO;
+import com.firefly.core.distributor.interfaces.dtos.DistributorAuditLogSearchDTO;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,10 +33,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -43,6 +49,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class DistributorAuditLogController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final DistributorAuditLogService distributorAuditLogService;
 
     @Operation(summary = "Filter distributor audit logs", description = "Returns a paginated list of distributor audit logs based on filter criteria")
@@ -63,6 +71,81 @@ public class DistributorAuditLogController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Search distributor audit logs page", description = "Returns the audit logs of a distributor matching "
+            + "action, entity, entity ID, time range and metadata criteria newest first using keyset pagination; pass the "
+            + "returned nextCursor to fetch the following page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved distributor audit logs",
+                content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or metadata criteria provided",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<KeysetPageDTO<DistributorAuditLogDTO>>> getDistributorAuditLogsPage(
+            @Parameter(description = "ID of the distributor", required = true)
+            @PathVariable UUID distributorId,
+            @ParameterObject @ModelAttribute DistributorAuditLogSearchDTO search,
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of audit logs in the page")
+            @RequestParam(defaultValue = "50") int size) {
+        return distributorAuditLogService.getDistributorAuditLogsPage(distributorId, search, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Export distributor audit logs", description = "Streams every audit log of a distributor matching "
+            + "action, entity, entity ID, time range and metadata criteria newest first as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Audit logs streamed",
+                content = @Content(mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = DistributorAuditLogDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid metadata criteria",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<DistributorAuditLogDTO>>> exportDistributorAuditLogs(
+            @Parameter(description = "ID of the distributor", required = true)
+            @PathVariable UUID distributorId,
+            @ParameterObject @ModelAttribute DistributorAuditLogSearchDTO search) {
+        // Validated before the status is committed, since a failure mid-stream cannot become a 400
+        return distributorAuditLogService.validateDistributorAuditLogSearch(search)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok()
+                        .body(distributorAuditLogService.exportDistributorAuditLogs(distributorId, search))))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Export distributor audit logs as CSV", description = "Streams every audit log of a distributor matching "
+            + "action, entity, entity ID, time range and metadata criteria newest first as a CSV attachment")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Audit logs streamed",
+                content = @Content(mediaType = TEXT_CSV_VALUE)),
+        @ApiResponse(responseCode = "400", description = "Invalid metadata criteria",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+    public Mono<ResponseEntity<Flux<String>>> exportDistributorAuditLogsCsv(
+            @Parameter(description = "ID of the distributor", required = true)
+            @PathVariable UUID distributorId,
+            @ParameterObject @ModelAttribute DistributorAuditLogSearchDTO search) {
+        return distributorAuditLogService.validateDistributorAuditLogSearch(search)
+                .then(Mono.fromSupplier(() -> {
+                    Flux<String> lines = distributorAuditLogService.exportDistributorAuditLogs(distributorId, search)
+                            .map(AuditLogCsv::row)
+                            .startWith(AuditLogCsv.HEADER);
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audit-logs-" + distributorId + ".csv\"")
+                            .body(lines);
+                }))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Create a new distributor audit log", description = "Creates a new distributor audit log with the provided information")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Distributor audit log successfully created",
@@ -83,7 +166,8 @@ public class DistributorAuditLogController {
         // Ensure the distributorId in the path is used
         distributorAuditLogDTO.setDistributorId(distributorId);
         return distributorAuditLogService.createDistributorAuditLog(distributorAuditLogDTO)
-                .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result));
+                .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Get distributor audit log by ID", description = "Returns a distributor audit log based on its ID")
@@ -129,7 +213,8 @@ public class DistributorAuditLogController {
         // Ensure the distributorId in the path is used
         distributorAuditLogDTO.setDistributorId(distributorId);
         return distributorAuditLogService.updateDistributorAuditLog(auditLogId, distributorAuditLogDTO)
-                .map(ResponseEntity::ok);
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Delete distributor audit log", description = "Deletes a distributor audit log based on its ID")
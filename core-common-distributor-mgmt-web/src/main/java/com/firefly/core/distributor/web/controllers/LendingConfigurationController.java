@@ -21,9 +21,11 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.core.services.LendingContractService;
 import com.firefly.core.distributor.core.services.LendingConfigurationService;
+import com.firefly.core.distributor.core.services.LendingQuoteService;
 import com.firefly.core.distributor.core.services.LendingTypeService;
 import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingConfigurationDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingQuoteGridDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingTypeDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,6 +42,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -59,6 +63,9 @@ public class LendingConfigurationController {
     @Autowired
     private LendingContractService lendingContractService;
 
+    @Autowired
+    private LendingQuoteService lendingQuoteService;
+
     /**
      * POST /api/v1/distributors/{distributorId}/products/{productId}/lending-configurations/filter : Filter lending configurations
      *
@@ -279,6 +286,47 @@ public class LendingConfigurationController {
         return Mono.just(ResponseEntity.ok(lendingConfigurationService.getActiveLendingConfigurationsByProductId(productId)));
     }
 
+    /**
+     * GET /api/v1/distributors/{distributorId}/products/{productId}/lending-configurations/quotes : Quote the financing options of a product
+     *
+     * @param distributorId the ID of the distributor
+     * @param productId the ID of the product
+     * @param price the price of the product
+     * @param termMonths the terms to quote
+     * @param downPaymentPercentages the down payment percentages to quote
+     * @return the ResponseEntity with status 200 (OK) and with body the quote grid
+     */
+    @Operation(summary = "Quote financing options for a product", description = "Returns the monthly payment, interest and total "
+            + "payable of every active lending configuration of a product for each term and down payment percentage. Terms and "
+            + "down payments default to the limits of each configuration")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully computed quotes",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = LendingQuoteGridDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid price, a term outside 1 to 600 months, more than 1000 "
+                + "combinations per configuration, or a configuration without a maximum term",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/quotes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<LendingQuoteGridDTO>> getLendingQuotes(
+            @Parameter(description = "ID of the distributor", required = true)
+            @PathVariable UUID distributorId,
+            @Parameter(description = "ID of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Price of the product", required = true)
+            @RequestParam BigDecimal price,
+            @Parameter(description = "Terms in months to quote; defaults to the terms allowed by each configuration")
+            @RequestParam(required = false) List<Integer> termMonths,
+            @Parameter(description = "Down payment percentages to quote; defaults to the down payments allowed by each configuration")
+            @RequestParam(required = false) List<BigDecimal> downPaymentPercentages) {
+
+        return lendingQuoteService.getLendingQuotes(productId, price, termMonths, downPaymentPercentages)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     /**
      * GET /api/v1/distributors/{distributorId}/products/{productId}/lending-configurations/type/{lendingTypeId} : Get all lending configurations for a product by lending type
      *
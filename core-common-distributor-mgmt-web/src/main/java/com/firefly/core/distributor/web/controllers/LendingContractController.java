@@ -19,8 +19,17 @@ package com.firefly.core.distributor.web.controllers;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.distributor.core.services.AmortizationService;
 import com.firefly.core.distributor.core.services.LendingContractService;
+import com.firefly.core.distributor.core.services.LendingPortfolioService;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationScheduleDTO;
+import com.firefly.core.distributor.interfaces.dtos.AmortizationSummaryDTO;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractApprovalResultDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractBulkApprovalRequestDTO;
 import com.firefly.core.distributor.interfaces.dtos.LendingContractDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingContractSearchDTO;
+import com.firefly.core.distributor.interfaces.dtos.LendingPortfolioSummaryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,13 +38,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -49,6 +61,12 @@ public class LendingContractController {
     @Autowired
     private LendingContractService lendingContractService;
 
+    @Autowired
+    private AmortizationService amortizationService;
+
+    @Autowired
+    private LendingPortfolioService lendingPortfolioService;
+
     /**
      * POST /api/v1/lending-contracts/filter : Filter lending contracts
      *
@@ -72,6 +90,41 @@ public class LendingContractController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * GET /api/v1/lending-contracts/page : Search lending contracts using keyset pagination
+     *
+     * @param search the search criteria, bound from query parameters
+     * @param cursor the cursor returned with the previous page
+     * @param size the maximum number of lending contracts in the page
+     * @param skipCount whether to skip counting the matching lending contracts
+     * @return the ResponseEntity with status 200 (OK) and the page of lending contracts in body
+     */
+    @Operation(summary = "Search lending contracts page", description = "Returns lending contracts matching status, distributor, "
+            + "party, product, start date and creation date criteria newest first using keyset pagination; pass the returned "
+            + "nextCursor to fetch the following page. Set skipCount to omit the total count on large result sets")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved lending contracts",
+                content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor provided",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<KeysetPageDTO<LendingContractDTO>>> getLendingContractsPage(
+            @ParameterObject @ModelAttribute LendingContractSearchDTO search,
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of lending contracts in the page")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Skip counting the matching lending contracts")
+            @RequestParam(defaultValue = "false") boolean skipCount) {
+
+        return lendingContractService.getLendingContractsPage(search, cursor, size, skipCount)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     /**
      * POST /api/v1/lending-contracts : Create a new lending contract
      *
@@ -332,4 +385,118 @@ public class LendingContractController {
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
+
+    /**
+     * POST /api/v1/lending-contracts/approve/bulk : Approve a set of lending contracts
+     *
+     * @param request the IDs of the lending contracts to approve and the approver
+     * @return the stream of per-contract approval outcomes
+     */
+    @Operation(summary = "Bulk approve lending contracts", description = "Approves the DRAFT and PENDING contracts among the given IDs "
+            + "and creates their shipments in a single transaction. Returns newline-delimited JSON with one outcome per "
+            + "distinct ID, in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Approval outcomes streamed",
+                content = @Content(mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = LendingContractApprovalResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid approval request provided",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @PostMapping(value = "/approve/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LendingContractApprovalResultDTO> approveLendingContracts(
+            @Valid @RequestBody LendingContractBulkApprovalRequestDTO request) {
+
+        return lendingContractService.approveLendingContracts(request.getLendingContractIds(), request.getApprovedBy());
+    }
+
+    /**
+     * GET /api/v1/lending-contracts/{id}/amortization-schedule : Get the amortization schedule of a lending contract
+     *
+     * @param id the ID of the lending contract
+     * @return the ResponseEntity with status 200 (OK) and with body the amortization schedule
+     */
+    @Operation(summary = "Get amortization schedule", description = "Returns the monthly installments of a lending contract, "
+            + "computed from its amounts, dates and lending configuration")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully computed the amortization schedule",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = AmortizationScheduleDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Lending contract has no total amount or term",
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Lending contract not found",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/{id}/amortization-schedule", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AmortizationScheduleDTO>> getAmortizationSchedule(
+            @Parameter(description = "ID of the lending contract", required = true)
+            @PathVariable UUID id) {
+
+        return amortizationService.getAmortizationSchedule(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    /**
+     * GET /api/v1/lending-contracts/distributor/{distributorId}/amortization-summaries : Get the schedule totals of a distributor portfolio
+     *
+     * @param distributorId the ID of the distributor
+     * @return the ResponseEntity with status 200 (OK) and the list of schedule totals in body
+     */
+    @Operation(summary = "Get distributor amortization summaries", description = "Returns the monthly payment, total interest "
+            + "and total payable of every lending contract of a distributor. Contracts without a total amount or term are omitted")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully computed the amortization summaries",
+                content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/distributor/{distributorId}/amortization-summaries", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<AmortizationSummaryDTO>>> getAmortizationSummariesByDistributorId(
+            @Parameter(description = "ID of the distributor", required = true)
+            @PathVariable UUID distributorId) {
+
+        return Mono.just(ResponseEntity.ok(amortizationService.getAmortizationSummariesByDistributorId(distributorId)));
+    }
+
+    /**
+     * GET /api/v1/lending-contracts/distributor/{distributorId}/portfolio-summary : Get the lending portfolio aggregates of a distributor
+     *
+     * @param distributorId the ID of the distributor
+     * @param period the approval period
+     * @param from the first day of the approval range
+     * @param to the last day of the approval range
+     * @return the ResponseEntity with status 200 (OK) and with body the portfolio aggregates
+     */
+    @Operation(summary = "Get distributor lending portfolio summary", description = "Returns contract counts and amounts by status, "
+            + "the outstanding balance, the average monthly payment and approvals per period of a distributor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the portfolio summary",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = LendingPortfolioSummaryDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid period or approval range provided",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/distributor/{distributorId}/portfolio-summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<LendingPortfolioSummaryDTO>> getPortfolioSummaryByDistributorId(
+            @Parameter(description = "ID of the distributor", required = true)
+            @PathVariable UUID distributorId,
+            @Parameter(description = "Approval period: MONTH, QUARTER or YEAR")
+            @RequestParam(defaultValue = "MONTH") String period,
+            @Parameter(description = "First day of the approval range")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the approval range")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return lendingPortfolioService.getPortfolioSummary(distributorId, period, from, to)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
 }
\ No newline at end of file
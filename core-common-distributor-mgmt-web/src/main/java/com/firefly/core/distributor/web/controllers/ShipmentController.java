@@ -20,8 +20,12 @@ package com.firefly.core.distributor.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.core.services.ShipmentService;
+import com.firefly.core.distributor.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.distributor.interfaces.dtos.ProductDTO;
 import com.firefly.core.distributor.interfaces.dtos.ShipmentDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusEventDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateDTO;
+import com.firefly.core.distributor.interfaces.dtos.ShipmentStatusUpdateResultDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -32,12 +36,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -74,6 +80,71 @@ public class ShipmentController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * GET /api/v1/shipments/page : Get a page of shipments using keyset pagination
+     *
+     * @param status the status to filter by
+     * @param productId the product ID to filter by
+     * @param lendingContractId the lending contract ID to filter by
+     * @param cursor the cursor returned with the previous page
+     * @param size the maximum number of shipments in the page
+     * @return the ResponseEntity with status 200 (OK) and the page of shipments in body
+     */
+    @Operation(summary = "Get shipments page", description = "Returns shipments newest first using keyset pagination; "
+            + "pass the returned nextCursor to fetch the following page. Suited to deep paging over large result sets")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved shipments",
+                content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor provided",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<KeysetPageDTO<ShipmentDTO>>> getShipmentsPage(
+            @Parameter(description = "Status value to filter shipments")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "ID of the product to filter shipments")
+            @RequestParam(required = false) UUID productId,
+            @Parameter(description = "ID of the lending contract to filter shipments")
+            @RequestParam(required = false) UUID lendingContractId,
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of shipments in the page")
+            @RequestParam(defaultValue = "50") int size) {
+
+        return shipmentService.getShipmentsPage(status, productId, lendingContractId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    /**
+     * GET /api/v1/shipments/status-events : Stream shipment status transitions
+     *
+     * @param since optional time to catch up from
+     * @return the stream of status transitions
+     */
+    @Operation(summary = "Stream shipment status changes", description = "Streams shipment status transitions as server-sent "
+            + "events or newline-delimited JSON. With since, first replays the current status of every shipment updated "
+            + "at or after that time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status transitions streamed",
+                content = @Content(mediaType = "text/event-stream",
+                schema = @Schema(implementation = ShipmentStatusEventDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid since value provided",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @GetMapping(value = "/status-events",
+            produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ShipmentStatusEventDTO> streamShipmentStatusEvents(
+            @Parameter(description = "ISO date-time to replay shipment status changes from; omit for live changes only")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+
+        return shipmentService.streamStatusEvents(since);
+    }
+
     /**
      * POST /api/v1/shipments : Create a new shipment
      *
@@ -95,7 +166,8 @@ public class ShipmentController {
             @Valid @RequestBody ShipmentDTO shipmentDTO) {
         
         return shipmentService.createShipment(shipmentDTO)
-                .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result));
+                .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     /**
@@ -312,4 +384,34 @@ public class ShipmentController {
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
+
+    /**
+     * POST /api/v1/shipments/status/bulk : Ingest carrier status updates
+     *
+     * @param updatedBy the ID of the user ingesting the updates
+     * @param updates the carrier status updates
+     * @return the stream of per-update ingestion results
+     */
+    @Operation(summary = "Bulk ingest shipment status updates", description = "Applies a stream of carrier status updates "
+            + "identified by tracking number in batches. Accepts and returns newline-delimited JSON; one result is emitted "
+            + "per update, in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ingestion results streamed",
+                content = @Content(mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = ShipmentStatusUpdateResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @PostMapping(value = "/status/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ShipmentStatusUpdateResultDTO> ingestShipmentStatusUpdates(
+            @Parameter(description = "ID of the user ingesting the updates")
+            @RequestParam(required = false) UUID updatedBy,
+            @RequestBody Flux<ShipmentStatusUpdateDTO> updates) {
+
+        return shipmentService.ingestStatusUpdates(updates, updatedBy);
+    }
 }
\ No newline at end of file
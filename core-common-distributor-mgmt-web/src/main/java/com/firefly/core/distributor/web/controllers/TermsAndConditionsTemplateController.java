@@ -21,6 +21,8 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.distributor.core.services.TermsAndConditionsGenerationService;
 import com.firefly.core.distributor.core.services.TermsAndConditionsTemplateService;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationRequestDTO;
+import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsGenerationResultDTO;
 import com.firefly.core.distributor.interfaces.dtos.TermsAndConditionsTemplateDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,13 +33,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 
@@ -277,6 +282,54 @@ public class TermsAndConditionsTemplateController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Stream template generation preview",
+            description = "Previews the generated content from a template, streaming it in chunks instead of buffering the whole document")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Preview streamed",
+                content = @Content(mediaType = "text/plain;charset=UTF-8")),
+        @ApiResponse(responseCode = "404", description = "Template not found",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @PostMapping(value = "/{templateId}/preview/stream", produces = "text/plain;charset=UTF-8")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamPreviewGeneration(
+            @Parameter(description = "ID of the template", required = true)
+            @PathVariable UUID templateId,
+            @RequestBody Map<String, Object> variables,
+            ServerHttpResponse response) {
+
+        // Chunks wrap their encoded bytes in buffers of the response's factory; they hold no pooled memory to release
+        return templateService.getTemplateById(templateId)
+                .map(template -> ResponseEntity.ok()
+                        .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                        .body(generationService.streamPreviewGeneration(template, variables, response.bufferFactory())))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Bulk generate terms and conditions",
+            description = "Generates terms and conditions from a template for a stream of distributors. "
+                    + "Accepts and returns newline-delimited JSON; one result is emitted per request, in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Generation results streamed",
+                content = @Content(mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = TermsAndConditionsGenerationResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Template not found or invalid request",
+                content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+                content = @Content)
+    })
+    @PostMapping(value = "/{templateId}/generate/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TermsAndConditionsGenerationResultDTO> bulkGenerate(
+            @Parameter(description = "ID of the template", required = true)
+            @PathVariable UUID templateId,
+            @RequestBody Flux<TermsAndConditionsGenerationRequestDTO> requests) {
+
+        return generationService.bulkGenerateFromTemplate(templateId, requests);
+    }
+
     @Operation(summary = "Activate template", description = "Activates a template")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Template successfully activated",